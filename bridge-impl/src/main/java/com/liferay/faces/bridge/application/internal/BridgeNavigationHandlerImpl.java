@@ -15,8 +15,13 @@
  */
 package com.liferay.faces.bridge.application.internal;
 
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.faces.application.FacesMessage;
 import javax.faces.application.NavigationCase;
@@ -25,6 +30,7 @@ import javax.faces.application.ViewHandler;
 import javax.faces.component.UIViewRoot;
 import javax.faces.context.ExternalContext;
 import javax.faces.context.FacesContext;
+import javax.faces.flow.FlowHandler;
 import javax.portlet.PortletConfig;
 import javax.portlet.PortletContext;
 import javax.portlet.PortletMode;
@@ -32,13 +38,16 @@ import javax.portlet.PortletRequest;
 import javax.portlet.PortletResponse;
 import javax.portlet.StateAwareResponse;
 import javax.portlet.faces.Bridge;
+import javax.portlet.faces.BridgeConfig;
 import javax.portlet.faces.BridgeFactoryFinder;
 import javax.portlet.faces.BridgeURL;
 import javax.portlet.faces.BridgeURLFactory;
 
+import com.liferay.faces.bridge.internal.ClientWindowInfo;
 import com.liferay.faces.bridge.scope.internal.BridgeRequestScope;
 import com.liferay.faces.bridge.util.internal.RequestMapUtil;
 import com.liferay.faces.bridge.util.internal.ViewUtil;
+import com.liferay.faces.util.lang.ThreadSafeAccessor;
 import com.liferay.faces.util.logging.Logger;
 import com.liferay.faces.util.logging.LoggerFactory;
 
@@ -51,6 +60,15 @@ public class BridgeNavigationHandlerImpl extends BridgeNavigationHandlerCompatIm
 	// Logger
 	private static final Logger logger = LoggerFactory.getLogger(BridgeNavigationHandlerImpl.class);
 
+	// Private Constants
+	private static final int MAX_CACHED_NAVIGATION_CASES = 1024;
+	private static final ResolvedNavigationCase NULL_NAVIGATION_CASE = new ResolvedNavigationCase(null, null);
+
+	// Private Final Data Members
+	private final ConditionalOutcomesAccessor conditionalOutcomesAccessor = new ConditionalOutcomesAccessor(this);
+	private final Map<NavigationCaseKey, ResolvedNavigationCase> resolvedNavigationCaseCache =
+		new ConcurrentHashMap<NavigationCaseKey, ResolvedNavigationCase>();
+
 	public BridgeNavigationHandlerImpl(NavigationHandler navigationHandler) {
 		super(navigationHandler);
 	}
@@ -75,7 +93,9 @@ public class BridgeNavigationHandlerImpl extends BridgeNavigationHandlerCompatIm
 			}
 		}
 
-		NavigationCase navigationCase = getNavigationCase(facesContext, fromAction, outcome);
+		ResolvedNavigationCase resolvedNavigationCase = getResolvedNavigationCase(facesContext, viewId, fromAction,
+				outcome);
+		NavigationCase navigationCase = resolvedNavigationCase.navigationCase;
 
 		// Ask the wrapped NavigationHandler to perform the navigation.
 		getWrappedNavigationHandler().handleNavigation(facesContext, fromAction, outcome);
@@ -114,29 +134,13 @@ public class BridgeNavigationHandlerImpl extends BridgeNavigationHandlerCompatIm
 
 					if (portletResponse instanceof StateAwareResponse) {
 
-						PortletContext portletContext = (PortletContext) externalContext.getContext();
-						BridgeURLFactory bridgeURLFactory = (BridgeURLFactory) BridgeFactoryFinder.getFactory(
-								portletContext, BridgeURLFactory.class);
-
 						try {
-							BridgeURL bridgeActionURL = bridgeURLFactory.getBridgeActionURL(facesContext, toViewId);
-
-							BridgeNavigationCase bridgeNavigationCase = new BridgeNavigationCaseImpl(navigationCase);
-							String portletMode = bridgeNavigationCase.getPortletMode();
-
-							if (portletMode != null) {
-								bridgeActionURL.setParameter(Bridge.PORTLET_MODE_PARAMETER, portletMode);
-							}
-
-							String windowState = bridgeNavigationCase.getWindowState();
-
-							if (windowState != null) {
-								bridgeActionURL.setParameter(Bridge.PORTLET_WINDOWSTATE_PARAMETER, windowState);
-							}
+							Map<String, String[]> parameterMap = resolvedNavigationCase.getParameterMap(facesContext,
+									toViewId);
 
 							PortletRequest portletRequest = (PortletRequest) externalContext.getRequest();
 							BridgeNavigationUtil.navigate(portletRequest, (StateAwareResponse) portletResponse,
-								bridgeActionURL.getParameterMap());
+								parameterMap);
 						}
 						catch (Exception e) {
 							logger.error(e.getMessage());
@@ -155,8 +159,10 @@ public class BridgeNavigationHandlerImpl extends BridgeNavigationHandlerCompatIm
 			logger.debug("fromPortletMode=[{0}] toPortletMode=[{1}]", fromPortletMode, toPortletMode);
 
 			String currentViewId = facesContext.getViewRoot().getViewId();
-			PortletConfig portletConfig = RequestMapUtil.getPortletConfig(facesContext);
-			Map<String, String> defaultViewIdMap = ViewUtil.getDefaultViewIdMap(portletConfig);
+			ExternalContext externalContext = facesContext.getExternalContext();
+			PortletConfig portletConfig = RequestMapUtil.getPortletConfig(externalContext);
+			BridgeConfig bridgeConfig = RequestMapUtil.getBridgeConfig(externalContext);
+			Map<String, String> defaultViewIdMap = ViewUtil.getDefaultViewIdMap(bridgeConfig, portletConfig);
 			String portletModeViewId = defaultViewIdMap.get(toPortletMode.toString());
 
 			if ((currentViewId != null) && (portletModeViewId != null)) {
@@ -176,4 +182,193 @@ public class BridgeNavigationHandlerImpl extends BridgeNavigationHandlerCompatIm
 			}
 		}
 	}
+
+	private static Map<String, String[]> getBridgeActionURLParameterMap(FacesContext facesContext,
+		NavigationCase navigationCase, String toViewId) {
+
+		ExternalContext externalContext = facesContext.getExternalContext();
+		PortletContext portletContext = (PortletContext) externalContext.getContext();
+		BridgeURLFactory bridgeURLFactory = (BridgeURLFactory) BridgeFactoryFinder.getFactory(portletContext,
+				BridgeURLFactory.class);
+		BridgeURL bridgeActionURL = bridgeURLFactory.getBridgeActionURL(facesContext, toViewId);
+
+		BridgeNavigationCase bridgeNavigationCase = new BridgeNavigationCaseImpl(navigationCase);
+		String portletMode = bridgeNavigationCase.getPortletMode();
+
+		if (portletMode != null) {
+			bridgeActionURL.setParameter(Bridge.PORTLET_MODE_PARAMETER, portletMode);
+		}
+
+		String windowState = bridgeNavigationCase.getWindowState();
+
+		if (windowState != null) {
+			bridgeActionURL.setParameter(Bridge.PORTLET_WINDOWSTATE_PARAMETER, windowState);
+		}
+
+		return bridgeActionURL.getParameterMap();
+	}
+
+	private ResolvedNavigationCase getResolvedNavigationCase(FacesContext facesContext, String viewId,
+		String fromAction, String outcome) {
+
+		NavigationCaseKey navigationCaseKey = null;
+
+		if (isCacheable(facesContext, outcome)) {
+
+			navigationCaseKey = new NavigationCaseKey(viewId, fromAction, outcome);
+
+			ResolvedNavigationCase resolvedNavigationCase = resolvedNavigationCaseCache.get(navigationCaseKey);
+
+			if (resolvedNavigationCase != null) {
+				return resolvedNavigationCase;
+			}
+		}
+
+		NavigationCase navigationCase = getNavigationCase(facesContext, fromAction, outcome);
+		ResolvedNavigationCase resolvedNavigationCase;
+
+		if (navigationCase == null) {
+			resolvedNavigationCase = NULL_NAVIGATION_CASE;
+		}
+		else {
+			resolvedNavigationCase = new ResolvedNavigationCase(navigationCase,
+					navigationCase.getToViewId(facesContext));
+		}
+
+		if ((navigationCaseKey != null) && ((navigationCase == null) || !navigationCase.hasCondition()) &&
+				(resolvedNavigationCaseCache.size() < MAX_CACHED_NAVIGATION_CASES)) {
+			resolvedNavigationCaseCache.put(navigationCaseKey, resolvedNavigationCase);
+		}
+
+		return resolvedNavigationCase;
+	}
+
+	private boolean isCacheable(FacesContext facesContext, String outcome) {
+
+		// The navigation case that matches an outcome within a flow depends on the state of the flow.
+		FlowHandler flowHandler = facesContext.getApplication().getFlowHandler();
+
+		if ((flowHandler != null) && (flowHandler.getCurrentFlow(facesContext) != null)) {
+			return false;
+		}
+
+		// The navigation case that matches an outcome depends on the values of EL conditions if any <if> element
+		// applies to the outcome. Note that a null element in the set indicates a conditional navigation case that
+		// applies to all outcomes.
+		Set<String> conditionalOutcomes = conditionalOutcomesAccessor.get(facesContext);
+
+		return !conditionalOutcomes.contains(null) && !conditionalOutcomes.contains(outcome);
+	}
+
+	private static final class ConditionalOutcomesAccessor extends ThreadSafeAccessor<Set<String>, FacesContext> {
+
+		// Private Final Data Members
+		private final BridgeNavigationHandlerImpl bridgeNavigationHandler;
+
+		public ConditionalOutcomesAccessor(BridgeNavigationHandlerImpl bridgeNavigationHandler) {
+			this.bridgeNavigationHandler = bridgeNavigationHandler;
+		}
+
+		@Override
+		protected Set<String> computeValue(FacesContext facesContext) {
+
+			Set<String> conditionalOutcomes = new HashSet<String>();
+			Map<String, Set<NavigationCase>> navigationCases = bridgeNavigationHandler.getNavigationCases();
+
+			if (navigationCases != null) {
+
+				for (Set<NavigationCase> navigationCaseSet : navigationCases.values()) {
+
+					for (NavigationCase navigationCase : navigationCaseSet) {
+
+						if (navigationCase.hasCondition()) {
+							conditionalOutcomes.add(navigationCase.getFromOutcome());
+						}
+					}
+				}
+			}
+
+			return Collections.unmodifiableSet(conditionalOutcomes);
+		}
+	}
+
+	private static final class NavigationCaseKey {
+
+		// Private Final Data Members
+		private final String fromAction;
+		private final int hashCode;
+		private final String outcome;
+		private final String viewId;
+
+		public NavigationCaseKey(String viewId, String fromAction, String outcome) {
+			this.viewId = viewId;
+			this.fromAction = fromAction;
+			this.outcome = outcome;
+			this.hashCode = Objects.hash(viewId, fromAction, outcome);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (obj == this) {
+				return true;
+			}
+
+			if (obj instanceof NavigationCaseKey) {
+
+				NavigationCaseKey navigationCaseKey = (NavigationCaseKey) obj;
+
+				return Objects.equals(viewId, navigationCaseKey.viewId) &&
+					Objects.equals(fromAction, navigationCaseKey.fromAction) &&
+					Objects.equals(outcome, navigationCaseKey.outcome);
+			}
+
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
+	private static final class ResolvedNavigationCase {
+
+		// Private Final Data Members
+		private final NavigationCase navigationCase;
+		private final String toViewId;
+
+		// Private Data Members
+		private volatile Map<String, String[]> parameterMap;
+
+		public ResolvedNavigationCase(NavigationCase navigationCase, String toViewId) {
+			this.navigationCase = navigationCase;
+			this.toViewId = toViewId;
+		}
+
+		/**
+		 * Returns the parameters of the Bridge Action-URL for the specified to-view-id, including the {@link
+		 * Bridge#PORTLET_MODE_PARAMETER} and {@link Bridge#PORTLET_WINDOWSTATE_PARAMETER} parameters of the navigation
+		 * case. The parameters are only computed once unless the to-view-id is an EL expression that resolved to a
+		 * different value, or the client window render mode requires request-specific URL parameters.
+		 */
+		public Map<String, String[]> getParameterMap(FacesContext facesContext, String toViewId) {
+
+			ClientWindowInfo clientWindowInfo = new ClientWindowInfo(facesContext.getExternalContext());
+
+			if (!toViewId.equals(this.toViewId) || clientWindowInfo.isRenderModeEnabled(facesContext)) {
+				return getBridgeActionURLParameterMap(facesContext, navigationCase, toViewId);
+			}
+
+			Map<String, String[]> parameterMap = this.parameterMap;
+
+			if (parameterMap == null) {
+				parameterMap = Collections.unmodifiableMap(getBridgeActionURLParameterMap(facesContext,
+							navigationCase, toViewId));
+				this.parameterMap = parameterMap;
+			}
+
+			return parameterMap;
+		}
+	}
 }
@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.application.view.internal;
+
+import javax.faces.context.ExternalContext;
+
+import com.liferay.faces.util.factory.FactoryExtensionFinder;
+import com.liferay.faces.util.product.Product;
+import com.liferay.faces.util.product.ProductFactory;
+
+
+/**
+ * This enumeration describes the Servlet API dependencies of the JSP {@link javax.faces.view.ViewDeclarationLanguage}
+ * of the detected JSF implementation that must be worked-around by {@link ViewDeclarationLanguageBridgeJspImpl}.
+ *
+ * @author  Neil Griffin
+ */
+public enum JspServletAdapterStrategy {
+
+	/** The JSF implementation does not require the PortletRequest or PortletResponse to be decorated. */
+	NONE(false, false),
+
+	/** The JSF implementation (Mojarra) requires the PortletResponse to be decorated as an HttpServletResponse. */
+	RESPONSE(false, true),
+
+	/**
+	 * The JSF implementation (MyFaces) requires the PortletRequest and PortletResponse to be decorated as an
+	 * HttpServletRequest and HttpServletResponse.
+	 */
+	REQUEST_AND_RESPONSE(true, true);
+
+	// Private Final Data Members
+	private final boolean requestAdapted;
+	private final boolean responseAdapted;
+
+	JspServletAdapterStrategy(boolean requestAdapted, boolean responseAdapted) {
+		this.requestAdapted = requestAdapted;
+		this.responseAdapted = responseAdapted;
+	}
+
+	/* package-private */ static JspServletAdapterStrategy getInstance(ExternalContext externalContext) {
+
+		ProductFactory productFactory = (ProductFactory) FactoryExtensionFinder.getFactory(externalContext,
+				ProductFactory.class);
+		final Product MYFACES = productFactory.getProductInfo(Product.Name.MYFACES);
+
+		if (MYFACES.isDetected()) {
+			return REQUEST_AND_RESPONSE;
+		}
+
+		final Product MOJARRA = productFactory.getProductInfo(Product.Name.MOJARRA);
+
+		if (MOJARRA.isDetected()) {
+			return RESPONSE;
+		}
+
+		return NONE;
+	}
+
+	/* package-private */ boolean isRequestAdapted() {
+		return requestAdapted;
+	}
+
+	/* package-private */ boolean isResponseAdapted() {
+		return responseAdapted;
+	}
+}
@@ -16,6 +16,7 @@
 package com.liferay.faces.bridge.application.view.internal;
 
 import java.io.IOException;
+import java.util.Objects;
 
 import javax.faces.component.UIViewRoot;
 import javax.faces.context.ExternalContext;
@@ -27,14 +28,14 @@ import javax.portlet.PortletRequest;
 import javax.portlet.PortletResponse;
 import javax.portlet.ResourceRequest;
 import javax.portlet.ResourceResponse;
+import javax.portlet.filter.PortletRequestWrapper;
+import javax.portlet.filter.PortletResponseWrapper;
 
 import com.liferay.faces.bridge.filter.internal.HeaderRequestHttpServletAdapter;
 import com.liferay.faces.bridge.filter.internal.HeaderResponseHttpServletAdapter;
 import com.liferay.faces.bridge.filter.internal.ResourceRequestHttpServletAdapter;
 import com.liferay.faces.bridge.filter.internal.ResourceResponseHttpServletAdapter;
-import com.liferay.faces.util.factory.FactoryExtensionFinder;
-import com.liferay.faces.util.product.Product;
-import com.liferay.faces.util.product.ProductFactory;
+import com.liferay.faces.util.lang.ThreadSafeAccessor;
 
 
 /**
@@ -45,62 +46,139 @@ import com.liferay.faces.util.product.ProductFactory;
  */
 public class ViewDeclarationLanguageBridgeJspImpl extends ViewDeclarationLanguageBridgeBase {
 
-	public ViewDeclarationLanguageBridgeJspImpl(ViewDeclarationLanguage viewDeclarationLanguage) {
+	// Private Constants
+	private static final String REQUEST_ADAPTER = ViewDeclarationLanguageBridgeJspImpl.class.getName() +
+		".requestAdapter";
+	private static final String RESPONSE_ADAPTER = ViewDeclarationLanguageBridgeJspImpl.class.getName() +
+		".responseAdapter";
+
+	// Private Final Data Members
+	private final ThreadSafeAccessor<JspServletAdapterStrategy, ExternalContext> jspServletAdapterStrategyAccessor;
+
+	public ViewDeclarationLanguageBridgeJspImpl(ViewDeclarationLanguage viewDeclarationLanguage,
+		ThreadSafeAccessor<JspServletAdapterStrategy, ExternalContext> jspServletAdapterStrategyAccessor) {
 		super(viewDeclarationLanguage);
+		this.jspServletAdapterStrategyAccessor = jspServletAdapterStrategyAccessor;
 	}
 
 	@Override
 	public void buildView(FacesContext facesContext, UIViewRoot uiViewRoot) throws IOException {
 
 		ExternalContext externalContext = facesContext.getExternalContext();
-		ProductFactory productFactory = (ProductFactory) FactoryExtensionFinder.getFactory(externalContext,
-				ProductFactory.class);
-		final Product MYFACES = productFactory.getProductInfo(Product.Name.MYFACES);
-		final boolean MYFACES_DETECTED = MYFACES.isDetected();
+		JspServletAdapterStrategy jspServletAdapterStrategy = jspServletAdapterStrategyAccessor.get(externalContext);
+		final boolean REQUEST_ADAPTED = jspServletAdapterStrategy.isRequestAdapted();
+		final boolean RESPONSE_ADAPTED = jspServletAdapterStrategy.isResponseAdapted();
 		PortletRequest portletRequest = (PortletRequest) externalContext.getRequest();
 		PortletResponse portletResponse = (PortletResponse) externalContext.getResponse();
 
 		// If MyFaces is detected, then work-around a Servlet API dependency by decorating the PortletRequest with an
 		// adapter that implements HttpServletRequest.
-		if (MYFACES_DETECTED) {
+		if (REQUEST_ADAPTED) {
 
-			if (portletRequest instanceof HeaderRequest) {
+			PortletRequest requestAdapter = getRequestAdapter(facesContext, portletRequest);
 
-				String requestCharacterEncoding = externalContext.getRequestCharacterEncoding();
-				externalContext.setRequest(new HeaderRequestHttpServletAdapter((HeaderRequest) portletRequest,
-						requestCharacterEncoding));
-			}
-			else if (portletRequest instanceof ResourceRequest) {
-				externalContext.setRequest(new ResourceRequestHttpServletAdapter((ResourceRequest) portletRequest));
+			if (requestAdapter != null) {
+				externalContext.setRequest(requestAdapter);
 			}
 		}
 
-		final Product MOJARRA = productFactory.getProductInfo(Product.Name.MOJARRA);
-		final boolean MOJARRA_DETECTED = MOJARRA.isDetected();
-
 		// If Mojarra or MyFaces is detected, then work-around a Servlet API dependency by decorating the
 		// PortletResponse with an adapter that implements HttpServletResponse.
-		if (MOJARRA_DETECTED || MYFACES_DETECTED) {
+		if (RESPONSE_ADAPTED) {
 
-			if (portletResponse instanceof HeaderResponse) {
-				externalContext.setResponse(new HeaderResponseHttpServletAdapter((HeaderResponse) portletResponse));
-			}
-			else if (portletResponse instanceof ResourceResponse) {
-				externalContext.setResponse(new ResourceResponseHttpServletAdapter((ResourceResponse) portletResponse));
+			PortletResponse responseAdapter = getResponseAdapter(portletRequest, portletResponse);
+
+			if (responseAdapter != null) {
+				externalContext.setResponse(responseAdapter);
 			}
 		}
 
 		// Delegate
 		super.buildView(facesContext, uiViewRoot);
 
-		// If Mojarra or MyFaces is detected, then un-decorate the PortletRequest.
-		if (MOJARRA_DETECTED || MYFACES_DETECTED) {
+		// If Mojarra or MyFaces is detected, then un-decorate the PortletResponse.
+		if (RESPONSE_ADAPTED) {
 			externalContext.setResponse(portletResponse);
 		}
 
-		// If MyFaces is detected, then un-decorate the PortletResponse.
-		if (MYFACES_DETECTED) {
+		// If MyFaces is detected, then un-decorate the PortletRequest.
+		if (REQUEST_ADAPTED) {
 			externalContext.setRequest(portletRequest);
 		}
 	}
+
+	/**
+	 * Returns the adapter that decorates the specified request. Since a view can be built more than once per request
+	 * (for example, when navigating to a different view), the adapter is cached as an attribute of the specified
+	 * request and reused as long as it decorates the same request with the same character encoding. The attribute is
+	 * listed as an excluded attribute in META-INF/faces-config.xml so that it is not saved in the bridge request scope.
+	 */
+	private PortletRequest getRequestAdapter(FacesContext facesContext, PortletRequest portletRequest) {
+
+		PortletRequestWrapper requestAdapter = (PortletRequestWrapper) portletRequest.getAttribute(REQUEST_ADAPTER);
+
+		if (portletRequest instanceof HeaderRequest) {
+
+			String requestCharacterEncoding = facesContext.getExternalContext().getRequestCharacterEncoding();
+
+			if (!(requestAdapter instanceof HeaderRequestHttpServletAdapter) ||
+					(requestAdapter.getRequest() != portletRequest) ||
+					!Objects.equals(requestCharacterEncoding,
+						((HeaderRequestHttpServletAdapter) requestAdapter).getCharacterEncoding())) {
+
+				requestAdapter = new HeaderRequestHttpServletAdapter((HeaderRequest) portletRequest,
+						requestCharacterEncoding);
+				portletRequest.setAttribute(REQUEST_ADAPTER, requestAdapter);
+			}
+		}
+		else if (portletRequest instanceof ResourceRequest) {
+
+			if (!(requestAdapter instanceof ResourceRequestHttpServletAdapter) ||
+					(requestAdapter.getRequest() != portletRequest)) {
+
+				requestAdapter = new ResourceRequestHttpServletAdapter((ResourceRequest) portletRequest);
+				portletRequest.setAttribute(REQUEST_ADAPTER, requestAdapter);
+			}
+		}
+		else {
+			requestAdapter = null;
+		}
+
+		return requestAdapter;
+	}
+
+	/**
+	 * Returns the adapter that decorates the specified response. The adapter is cached as an attribute of the specified
+	 * request (which is listed as an excluded attribute in META-INF/faces-config.xml) and reused as long as it
+	 * decorates the same response.
+	 */
+	private PortletResponse getResponseAdapter(PortletRequest portletRequest, PortletResponse portletResponse) {
+
+		PortletResponseWrapper responseAdapter = (PortletResponseWrapper) portletRequest.getAttribute(
+				RESPONSE_ADAPTER);
+
+		if (portletResponse instanceof HeaderResponse) {
+
+			if (!(responseAdapter instanceof HeaderResponseHttpServletAdapter) ||
+					(responseAdapter.getResponse() != portletResponse)) {
+
+				responseAdapter = new HeaderResponseHttpServletAdapter((HeaderResponse) portletResponse);
+				portletRequest.setAttribute(RESPONSE_ADAPTER, responseAdapter);
+			}
+		}
+		else if (portletResponse instanceof ResourceResponse) {
+
+			if (!(responseAdapter instanceof ResourceResponseHttpServletAdapter) ||
+					(responseAdapter.getResponse() != portletResponse)) {
+
+				responseAdapter = new ResourceResponseHttpServletAdapter((ResourceResponse) portletResponse);
+				portletRequest.setAttribute(RESPONSE_ADAPTER, responseAdapter);
+			}
+		}
+		else {
+			responseAdapter = null;
+		}
+
+		return responseAdapter;
+	}
 }
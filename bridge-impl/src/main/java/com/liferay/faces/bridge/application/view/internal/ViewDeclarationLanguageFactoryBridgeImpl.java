@@ -15,15 +15,22 @@
  */
 package com.liferay.faces.bridge.application.view.internal;
 
+import javax.faces.context.ExternalContext;
 import javax.faces.view.ViewDeclarationLanguage;
 import javax.faces.view.ViewDeclarationLanguageFactory;
 
+import com.liferay.faces.util.lang.ThreadSafeAccessor;
+
 
 /**
  * @author  Neil Griffin
  */
 public class ViewDeclarationLanguageFactoryBridgeImpl extends ViewDeclarationLanguageFactory {
 
+	// Private Final Data Members
+	private final JspServletAdapterStrategyAccessor jspServletAdapterStrategyAccessor =
+		new JspServletAdapterStrategyAccessor();
+
 	// Private Data Members
 	private ViewDeclarationLanguageFactory wrappedViewDeclarationLanguageFactory;
 
@@ -41,7 +48,8 @@ public class ViewDeclarationLanguageFactoryBridgeImpl extends ViewDeclarationLan
 			return new ViewDeclarationLanguageBridgeFaceletImpl(wrappedViewDeclarationLanguage);
 		}
 		else {
-			return new ViewDeclarationLanguageBridgeJspImpl(wrappedViewDeclarationLanguage);
+			return new ViewDeclarationLanguageBridgeJspImpl(wrappedViewDeclarationLanguage,
+					jspServletAdapterStrategyAccessor);
 		}
 	}
 
@@ -49,4 +57,13 @@ public class ViewDeclarationLanguageFactoryBridgeImpl extends ViewDeclarationLan
 	public ViewDeclarationLanguageFactory getWrapped() {
 		return wrappedViewDeclarationLanguageFactory;
 	}
+
+	private static final class JspServletAdapterStrategyAccessor
+		extends ThreadSafeAccessor<JspServletAdapterStrategy, ExternalContext> {
+
+		@Override
+		protected JspServletAdapterStrategy computeValue(ExternalContext externalContext) {
+			return JspServletAdapterStrategy.getInstance(externalContext);
+		}
+	}
 }
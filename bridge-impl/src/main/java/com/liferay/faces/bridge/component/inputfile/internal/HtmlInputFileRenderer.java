@@ -29,6 +29,7 @@ import javax.servlet.http.Part;
 import com.liferay.faces.bridge.component.inputfile.InputFile;
 import com.liferay.faces.bridge.model.UploadedFile;
 import com.liferay.faces.bridge.renderkit.bridge.internal.PartFileUploadAdapterImpl;
+import com.liferay.faces.bridge.util.internal.RequestMapUtil;
 import com.liferay.faces.bridge.util.internal.TCCLUtil;
 import com.liferay.faces.util.lang.ThreadSafeAccessor;
 import com.liferay.faces.util.logging.Logger;
@@ -55,7 +56,7 @@ public class HtmlInputFileRenderer extends DelegatingRendererBase {
 
 		HtmlInputFile htmlInputFile = (HtmlInputFile) uiComponent;
 
-		Map<String, List<UploadedFile>> uploadedFileMap = InputFileRenderer.getUploadedFileMap(facesContext);
+		Map<String, List<UploadedFile>> uploadedFileMap = RequestMapUtil.getUploadedFileMap(facesContext);
 
 		if (!uploadedFileMap.isEmpty()) {
 
@@ -22,18 +22,14 @@ import java.util.List;
 import java.util.Map;
 
 import javax.faces.component.UIComponent;
-import javax.faces.context.ExternalContext;
 import javax.faces.context.FacesContext;
 import javax.faces.context.ResponseWriter;
 import javax.faces.render.FacesRenderer;
-import javax.portlet.PortletContext;
-import javax.portlet.PortletRequest;
-import javax.portlet.faces.BridgeFactoryFinder;
 
 import com.liferay.faces.bridge.component.inputfile.InputFile;
-import com.liferay.faces.bridge.context.map.internal.ContextMapFactory;
 import com.liferay.faces.bridge.event.FileUploadEvent;
 import com.liferay.faces.bridge.model.UploadedFile;
+import com.liferay.faces.bridge.util.internal.RequestMapUtil;
 
 
 /**
@@ -45,24 +41,12 @@ import com.liferay.faces.bridge.model.UploadedFile;
 //J+
 public class InputFileRenderer extends InputFileRendererCompat {
 
-	/* package-private */ static Map<String, List<UploadedFile>> getUploadedFileMap(FacesContext facesContext) {
-
-		ExternalContext externalContext = facesContext.getExternalContext();
-		PortletContext portletContext = (PortletContext) externalContext.getContext();
-		ContextMapFactory contextMapFactory = (ContextMapFactory) BridgeFactoryFinder.getFactory(portletContext,
-				ContextMapFactory.class);
-
-		PortletRequest portletRequest = (PortletRequest) externalContext.getRequest();
-
-		return contextMapFactory.getUploadedFileMap(portletRequest);
-	}
-
 	@Override
 	public void decode(FacesContext facesContext, UIComponent uiComponent) {
 
 		InputFile inputFile = (InputFile) uiComponent;
 
-		Map<String, List<UploadedFile>> uploadedFileMap = getUploadedFileMap(facesContext);
+		Map<String, List<UploadedFile>> uploadedFileMap = RequestMapUtil.getUploadedFileMap(facesContext);
 
 		if (!uploadedFileMap.isEmpty()) {
 
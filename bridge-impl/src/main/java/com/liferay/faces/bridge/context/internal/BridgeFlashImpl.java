@@ -0,0 +1,370 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.context.internal;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import javax.faces.context.FacesContext;
+import javax.faces.context.Flash;
+
+
+/**
+ * This class provides a bridge-native implementation of the JSF {@link Flash} scope. Rather than relying on the cookie
+ * and session attributes that are used by the JSF implementation, the values are held by the instance itself which is
+ * in turn saved in the {@link com.liferay.faces.bridge.scope.internal.BridgeRequestScope} at the end of the
+ * ACTION_PHASE (or EVENT_PHASE) and restored at the beginning of the HEADER_PHASE. Since FacesMessages are already
+ * preserved from the ACTION_PHASE to the HEADER_PHASE by the bridge request scope, the {@link #isKeepMessages()} flag
+ * is maintained only for the sake of the API contract.
+ *
+ * @author  Neil Griffin
+ */
+public class BridgeFlashImpl extends Flash implements Serializable {
+
+	// serialVersionUID
+	private static final long serialVersionUID = 4387061214839722465L;
+
+	// Private Final Data Members
+	private final String bridgeRequestScopeId;
+	private final Map<String, Object> currentValues;
+	private final Map<String, Object> nextValues;
+
+	// Private Data Members
+	private boolean keepMessages;
+	private boolean redirect;
+	private transient ValueMap valueMap;
+
+	public BridgeFlashImpl(String bridgeRequestScopeId) {
+		this(bridgeRequestScopeId, new HashMap<String, Object>());
+	}
+
+	private BridgeFlashImpl(String bridgeRequestScopeId, Map<String, Object> currentValues) {
+		this.bridgeRequestScopeId = bridgeRequestScopeId;
+		this.currentValues = currentValues;
+		this.nextValues = new HashMap<String, Object>();
+	}
+
+	@Override
+	public void clear() {
+		currentValues.clear();
+		nextValues.clear();
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return nextValues.containsKey(key) || currentValues.containsKey(key);
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		return nextValues.containsValue(value) || currentValues.containsValue(value);
+	}
+
+	@Override
+	public void doPostPhaseActions(FacesContext facesContext) {
+
+		// The transition from one traversal of the lifecycle to the next is driven by the bridge request scope via
+		// getNextTraversalFlash().
+	}
+
+	@Override
+	public void doPrePhaseActions(FacesContext facesContext) {
+
+		// The transition from one traversal of the lifecycle to the next is driven by the bridge request scope via
+		// getNextTraversalFlash().
+	}
+
+	@Override
+	public Set<Map.Entry<String, Object>> entrySet() {
+		return getValueMap().entrySet();
+	}
+
+	@Override
+	public Object get(Object key) {
+
+		if (nextValues.containsKey(key)) {
+			return nextValues.get(key);
+		}
+
+		return currentValues.get(key);
+	}
+
+	/**
+	 * Returns the id of the bridge request scope that this flash is stored in, or <code>null</code> if the flash was
+	 * created outside of a bridge request scope.
+	 */
+	public String getBridgeRequestScopeId() {
+		return bridgeRequestScopeId;
+	}
+
+	/**
+	 * Returns a new flash for the next traversal of the lifecycle, in which the values that were put into this flash
+	 * become the current values. Values that were only available during the current traversal (including values that
+	 * were put via {@link #putNow(String, Object)}) are discarded unless {@link #keep(String)} was called.
+	 */
+	public BridgeFlashImpl getNextTraversalFlash() {
+
+		BridgeFlashImpl nextTraversalFlash = new BridgeFlashImpl(bridgeRequestScopeId,
+				new HashMap<String, Object>(nextValues));
+		nextTraversalFlash.keepMessages = keepMessages;
+
+		return nextTraversalFlash;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return nextValues.isEmpty() && currentValues.isEmpty();
+	}
+
+	@Override
+	public boolean isKeepMessages() {
+		return keepMessages;
+	}
+
+	@Override
+	public boolean isRedirect() {
+		return redirect;
+	}
+
+	@Override
+	public void keep(String key) {
+
+		if (currentValues.containsKey(key)) {
+			nextValues.put(key, currentValues.remove(key));
+		}
+	}
+
+	@Override
+	public Set<String> keySet() {
+		return getValueMap().keySet();
+	}
+
+	@Override
+	public Object put(String key, Object value) {
+
+		Object previousValue = get(key);
+		nextValues.put(key, value);
+
+		return previousValue;
+	}
+
+	@Override
+	public void putAll(Map<? extends String, ? extends Object> map) {
+		nextValues.putAll(map);
+	}
+
+	@Override
+	public void putNow(String key, Object value) {
+		currentValues.put(key, value);
+	}
+
+	@Override
+	public Object remove(Object key) {
+
+		Object previousValue = get(key);
+		nextValues.remove(key);
+		currentValues.remove(key);
+
+		return previousValue;
+	}
+
+	@Override
+	public void setKeepMessages(boolean keepMessages) {
+		this.keepMessages = keepMessages;
+	}
+
+	@Override
+	public void setRedirect(boolean redirect) {
+		this.redirect = redirect;
+	}
+
+	@Override
+	public int size() {
+		return getValueMap().size();
+	}
+
+	@Override
+	public String toString() {
+		return "BridgeFlashImpl[bridgeRequestScopeId=" + bridgeRequestScopeId + ", values=" + getValueMap() + "]";
+	}
+
+	@Override
+	public Collection<Object> values() {
+		return getValueMap().values();
+	}
+
+	private List<String> getKeys() {
+
+		List<String> keys = new ArrayList<String>(nextValues.keySet());
+
+		for (String key : currentValues.keySet()) {
+
+			if (!nextValues.containsKey(key)) {
+				keys.add(key);
+			}
+		}
+
+		return keys;
+	}
+
+	/**
+	 * Returns a map that merges the current values with the next values (which take precedence). Since the key set,
+	 * values and entry set of the returned map are views that write through to this flash, they support removal in the
+	 * manner required by the {@link Map} contract.
+	 */
+	private Map<String, Object> getValueMap() {
+
+		if (valueMap == null) {
+			valueMap = new ValueMap();
+		}
+
+		return valueMap;
+	}
+
+	private final class ValueEntry extends AbstractMap.SimpleEntry<String, Object> {
+
+		// serialVersionUID
+		private static final long serialVersionUID = 2254915618497634617L;
+
+		public ValueEntry(String key, Object value) {
+			super(key, value);
+		}
+
+		@Override
+		public Object setValue(Object value) {
+
+			String key = getKey();
+
+			if (nextValues.containsKey(key)) {
+				nextValues.put(key, value);
+			}
+			else {
+				currentValues.put(key, value);
+			}
+
+			return super.setValue(value);
+		}
+	}
+
+	private final class ValueEntryIterator implements Iterator<Map.Entry<String, Object>> {
+
+		// Private Final Data Members
+		private final Iterator<String> keyIterator;
+
+		// Private Data Members
+		private String key;
+		private boolean removable;
+
+		public ValueEntryIterator() {
+
+			// Since the values are held by two maps, the iterator is based on a snapshot of the keys rather than on the
+			// iterators of the underlying maps.
+			this.keyIterator = getKeys().iterator();
+		}
+
+		@Override
+		public boolean hasNext() {
+			return keyIterator.hasNext();
+		}
+
+		@Override
+		public Map.Entry<String, Object> next() {
+
+			if (!keyIterator.hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			key = keyIterator.next();
+			removable = true;
+
+			return new ValueEntry(key, get(key));
+		}
+
+		@Override
+		public void remove() {
+
+			if (!removable) {
+				throw new IllegalStateException();
+			}
+
+			BridgeFlashImpl.this.remove(key);
+			removable = false;
+		}
+	}
+
+	private final class ValueEntrySet extends AbstractSet<Map.Entry<String, Object>> {
+
+		@Override
+		public void clear() {
+			BridgeFlashImpl.this.clear();
+		}
+
+		@Override
+		public Iterator<Map.Entry<String, Object>> iterator() {
+			return new ValueEntryIterator();
+		}
+
+		@Override
+		public int size() {
+
+			int size = nextValues.size();
+
+			for (String key : currentValues.keySet()) {
+
+				if (!nextValues.containsKey(key)) {
+					size++;
+				}
+			}
+
+			return size;
+		}
+	}
+
+	private final class ValueMap extends AbstractMap<String, Object> {
+
+		// Private Final Data Members
+		private final Set<Map.Entry<String, Object>> entrySet = new ValueEntrySet();
+
+		@Override
+		public boolean containsKey(Object key) {
+			return BridgeFlashImpl.this.containsKey(key);
+		}
+
+		@Override
+		public Set<Map.Entry<String, Object>> entrySet() {
+			return entrySet;
+		}
+
+		@Override
+		public Object get(Object key) {
+			return BridgeFlashImpl.this.get(key);
+		}
+
+		@Override
+		public Object remove(Object key) {
+			return BridgeFlashImpl.this.remove(key);
+		}
+	}
+}
@@ -0,0 +1,238 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.context.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.liferay.faces.util.logging.Logger;
+import com.liferay.faces.util.logging.LoggerFactory;
+
+
+/**
+ * This class aggregates the exceptions that occur during Ajax requests so that a storm of identical exceptions does not
+ * flood the log. Exceptions are identified by a fingerprint that consists of the class and top stack frame of the root
+ * cause along with the view id. Only the first occurrence of each fingerprint within an interval is to be logged, and
+ * the number of suppressed occurrences is logged in a single summary by the first call to {@link #logSummaryIfDue()}
+ * (or {@link #record(Throwable, String)}) after the interval has elapsed. Instances of this class are shared by all of
+ * the portlets in a web application and are therefore thread-safe.
+ *
+ * @author  Neil Griffin
+ */
+public class ExceptionAggregator {
+
+	// Logger
+	private static final Logger logger = LoggerFactory.getLogger(ExceptionAggregator.class);
+
+	// Private Constants
+	private static final int MAX_CAUSE_DEPTH = 32;
+	private static final int MAX_FINGERPRINTS = 256;
+	private static final String OTHER_FINGERPRINT = "(other)";
+
+	// Private Final Data Members
+	private final int intervalSeconds;
+	private final long intervalNanos;
+	private final AtomicLong nextSummaryNanos;
+	private final ConcurrentMap<String, Occurrences> occurrencesMap = new ConcurrentHashMap<>();
+	private final AtomicLong suppressedCount = new AtomicLong();
+	private final AtomicLong totalCount = new AtomicLong();
+
+	public ExceptionAggregator(int intervalSeconds) {
+
+		this.intervalSeconds = intervalSeconds;
+		this.intervalNanos = TimeUnit.SECONDS.toNanos(intervalSeconds);
+		this.nextSummaryNanos = new AtomicLong(System.nanoTime() + intervalNanos);
+	}
+
+	/**
+	 * Returns the fingerprint of the specified exception, which consists of the class name and top stack frame of the
+	 * root cause along with the specified view id. The root cause is used because the JSF implementation typically
+	 * wraps the exception that was thrown by the application in a {@link javax.faces.FacesException} that is thrown
+	 * from the same place regardless of the underlying problem.
+	 */
+	public static String getFingerprint(Throwable throwable, String viewId) {
+
+		Throwable rootCause = throwable;
+		int depth = 0;
+
+		while ((rootCause.getCause() != null) && (rootCause.getCause() != rootCause) && (depth < MAX_CAUSE_DEPTH)) {
+			rootCause = rootCause.getCause();
+			depth++;
+		}
+
+		StringBuilder buf = new StringBuilder();
+		buf.append(rootCause.getClass().getName());
+
+		StackTraceElement[] stackTrace = rootCause.getStackTrace();
+
+		if ((stackTrace != null) && (stackTrace.length > 0)) {
+			buf.append(" at ");
+			buf.append(stackTrace[0]);
+		}
+
+		buf.append(" in view ");
+		buf.append(viewId);
+
+		return buf.toString();
+	}
+
+	/** Returns the number of times that the exception with the specified fingerprint has been recorded. */
+	public long getCount(String fingerprint) {
+
+		Occurrences occurrences = occurrencesMap.get(fingerprint);
+
+		if (occurrences == null) {
+			return 0L;
+		}
+
+		return occurrences.count.get();
+	}
+
+	/** Returns the fingerprints of the exceptions that have been recorded, in alphabetical order. */
+	public List<String> getFingerprints() {
+
+		List<String> fingerprints = new ArrayList<>(occurrencesMap.keySet());
+		Collections.sort(fingerprints);
+
+		return fingerprints;
+	}
+
+	public int getIntervalSeconds() {
+		return intervalSeconds;
+	}
+
+	public long getSuppressedCount() {
+		return suppressedCount.get();
+	}
+
+	public long getTotalCount() {
+		return totalCount.get();
+	}
+
+	/** Returns true if the interval is positive, meaning that repeated occurrences are to be counted and not logged. */
+	public boolean isEnabled() {
+		return intervalSeconds > 0;
+	}
+
+	/**
+	 * Logs a single summary of the occurrences that were suppressed during the interval that has elapsed (if any).
+	 * Since {@link ExceptionHandlerBridgeImpl} calls this method at the end of every phase of the JSF lifecycle, the
+	 * summary is logged by the first request that follows the interval, regardless of whether or not it causes an
+	 * exception.
+	 */
+	public void logSummaryIfDue() {
+		logSummaryIfDue(System.nanoTime());
+	}
+
+	/**
+	 * Records an occurrence of the specified exception in the specified view and returns true if it is the first
+	 * occurrence of its fingerprint within the current interval, meaning that the caller is to log the exception.
+	 * Otherwise the occurrence is only counted and false is returned. In order to bound the amount of memory that is
+	 * consumed, occurrences of new fingerprints are counted under a single catch-all fingerprint once the maximum
+	 * number of distinct fingerprints has been reached.
+	 */
+	public boolean record(Throwable throwable, String viewId) {
+
+		logSummaryIfDue();
+
+		String fingerprint = getFingerprint(throwable, viewId);
+		Occurrences occurrences = occurrencesMap.get(fingerprint);
+
+		if (occurrences == null) {
+
+			if (occurrencesMap.size() >= MAX_FINGERPRINTS) {
+				fingerprint = OTHER_FINGERPRINT;
+			}
+
+			Occurrences newOccurrences = new Occurrences();
+			occurrences = occurrencesMap.putIfAbsent(fingerprint, newOccurrences);
+
+			if (occurrences == null) {
+				occurrences = newOccurrences;
+			}
+		}
+
+		totalCount.incrementAndGet();
+		occurrences.count.incrementAndGet();
+
+		if (occurrences.intervalCount.incrementAndGet() == 1L) {
+			return true;
+		}
+
+		suppressedCount.incrementAndGet();
+
+		return false;
+	}
+
+	/** Discards all of the recorded occurrences. */
+	public void reset() {
+
+		occurrencesMap.clear();
+		suppressedCount.set(0L);
+		totalCount.set(0L);
+	}
+
+	/* package-private */ boolean logSummaryIfDue(long nanoTime) {
+
+		long summaryNanos = nextSummaryNanos.get();
+
+		// Only the thread that advances the deadline logs the summary of the interval that has elapsed.
+		if (((nanoTime - summaryNanos) >= 0L) &&
+				nextSummaryNanos.compareAndSet(summaryNanos, nanoTime + intervalNanos)) {
+
+			StringBuilder buf = null;
+
+			for (Map.Entry<String, Occurrences> entry : occurrencesMap.entrySet()) {
+
+				long intervalCount = entry.getValue().intervalCount.getAndSet(0L);
+
+				if (intervalCount > 1L) {
+
+					if (buf == null) {
+						buf = new StringBuilder();
+					}
+
+					buf.append("\n\t");
+					buf.append(intervalCount - 1L);
+					buf.append(" x ");
+					buf.append(entry.getKey());
+				}
+			}
+
+			if (buf != null) {
+				logger.error("Suppressed repeated exceptions during Ajax requests in the last {0} seconds:{1}",
+					String.valueOf(intervalSeconds), buf);
+
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static final class Occurrences {
+
+		// Private Final Data Members
+		private final AtomicLong count = new AtomicLong();
+		private final AtomicLong intervalCount = new AtomicLong();
+	}
+}
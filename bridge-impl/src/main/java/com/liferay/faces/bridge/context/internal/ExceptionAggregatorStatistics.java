@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.context.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * This class is a standard MBean that exposes the occurrences recorded by an {@link ExceptionAggregator}.
+ *
+ * @author  Neil Griffin
+ */
+public class ExceptionAggregatorStatistics implements ExceptionAggregatorStatisticsMBean {
+
+	// Public Constants
+	public static final String MBEAN_TYPE = "AjaxExceptionAggregator";
+
+	// Private Final Data Members
+	private final ExceptionAggregator exceptionAggregator;
+
+	public ExceptionAggregatorStatistics(ExceptionAggregator exceptionAggregator) {
+		this.exceptionAggregator = exceptionAggregator;
+	}
+
+	@Override
+	public long getCount(String fingerprint) {
+		return exceptionAggregator.getCount(fingerprint);
+	}
+
+	@Override
+	public String[] getFingerprints() {
+
+		List<String> fingerprints = exceptionAggregator.getFingerprints();
+
+		return fingerprints.toArray(new String[fingerprints.size()]);
+	}
+
+	@Override
+	public int getIntervalSeconds() {
+		return exceptionAggregator.getIntervalSeconds();
+	}
+
+	@Override
+	public long getSuppressedCount() {
+		return exceptionAggregator.getSuppressedCount();
+	}
+
+	@Override
+	public String[] getSummary() {
+
+		List<String> summary = new ArrayList<>();
+
+		for (String fingerprint : exceptionAggregator.getFingerprints()) {
+			summary.add(exceptionAggregator.getCount(fingerprint) + " x " + fingerprint);
+		}
+
+		return summary.toArray(new String[summary.size()]);
+	}
+
+	@Override
+	public long getTotalCount() {
+		return exceptionAggregator.getTotalCount();
+	}
+
+	@Override
+	public void reset() {
+		exceptionAggregator.reset();
+	}
+}
@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.context.internal;
+
+/**
+ * This interface defines the management operations of {@link ExceptionAggregatorStatistics}.
+ *
+ * @author  Neil Griffin
+ */
+public interface ExceptionAggregatorStatisticsMBean {
+
+	/** Returns the number of times that the exception with the specified fingerprint occurred during Ajax requests. */
+	public long getCount(String fingerprint);
+
+	/** Returns the fingerprints of the exceptions that occurred during Ajax requests. */
+	public String[] getFingerprints();
+
+	/** Returns the number of seconds during which repeated occurrences of the same exception are not logged. */
+	public int getIntervalSeconds();
+
+	/** Returns the number of occurrences that were counted rather than logged. */
+	public long getSuppressedCount();
+
+	/** Returns one line for each fingerprint, consisting of the count along with the fingerprint. */
+	public String[] getSummary();
+
+	/** Returns the number of exceptions that occurred during Ajax requests. */
+	public long getTotalCount();
+
+	/** Discards all of the recorded occurrences. */
+	public void reset();
+}
@@ -18,6 +18,7 @@ package com.liferay.faces.bridge.context.internal;
 import java.util.Iterator;
 
 import javax.faces.application.ProjectStage;
+import javax.faces.component.UIViewRoot;
 import javax.faces.context.ExceptionHandler;
 import javax.faces.context.ExceptionHandlerWrapper;
 import javax.faces.context.FacesContext;
@@ -31,7 +32,8 @@ import com.liferay.faces.util.logging.LoggerFactory;
 /**
  * The purpose of this class is to wrap the JSF implementation's Ajax exception handler so that exceptions that occur
  * during Ajax are logged to the console. For some reason Mojarra doesn't do that, which makes it very hard for the
- * developer to find out what went wrong.
+ * developer to find out what went wrong. When an {@link ExceptionAggregator} is specified, repeated occurrences of the
+ * same exception are counted by the aggregator rather than logged.
  *
  * @author  Neil Griffin
  */
@@ -41,10 +43,16 @@ public class ExceptionHandlerBridgeImpl extends ExceptionHandlerWrapper {
 	private static final Logger logger = LoggerFactory.getLogger(ExceptionHandlerBridgeImpl.class);
 
 	// Private Data Members
+	private ExceptionAggregator exceptionAggregator;
 	private ExceptionHandler wrappedExceptionHandler;
 
 	public ExceptionHandlerBridgeImpl(ExceptionHandler exceptionHandler) {
+		this(exceptionHandler, null);
+	}
+
+	public ExceptionHandlerBridgeImpl(ExceptionHandler exceptionHandler, ExceptionAggregator exceptionAggregator) {
 		this.wrappedExceptionHandler = exceptionHandler;
+		this.exceptionAggregator = exceptionAggregator;
 	}
 
 	@Override
@@ -64,6 +72,16 @@ public class ExceptionHandlerBridgeImpl extends ExceptionHandlerWrapper {
 			Iterator<ExceptionQueuedEvent> itr = unhandledExceptionQueuedEvents.iterator();
 
 			boolean isDevelopment = facesContext.isProjectStage(ProjectStage.Development);
+			String viewId = null;
+
+			if (exceptionAggregator != null) {
+
+				UIViewRoot viewRoot = facesContext.getViewRoot();
+
+				if (viewRoot != null) {
+					viewId = viewRoot.getViewId();
+				}
+			}
 
 			while (itr.hasNext()) {
 				ExceptionQueuedEvent exceptionQueuedEvent = itr.next();
@@ -74,11 +92,14 @@ public class ExceptionHandlerBridgeImpl extends ExceptionHandlerWrapper {
 
 					if (throwable != null) {
 
-						if (isDevelopment) {
-							logger.error(throwable);
-						}
-						else {
-							logger.error(throwable.getMessage());
+						if ((exceptionAggregator == null) || exceptionAggregator.record(throwable, viewId)) {
+
+							if (isDevelopment) {
+								logger.error(throwable);
+							}
+							else {
+								logger.error(throwable.getMessage());
+							}
 						}
 					}
 					else {
@@ -91,7 +112,17 @@ public class ExceptionHandlerBridgeImpl extends ExceptionHandlerWrapper {
 			}
 		}
 
+		// Since this method is called at the end of every phase of the JSF lifecycle, it is the point at which the
+		// summary of the exceptions that were suppressed during the previous interval is logged.
+		if (exceptionAggregator != null) {
+			exceptionAggregator.logSummaryIfDue();
+		}
+
 		// Delegate to the wrapped JSF implementation's ExceptionHandler.
 		super.handle();
 	}
+
+	/* package-private */ ExceptionAggregator getExceptionAggregator() {
+		return exceptionAggregator;
+	}
 }
@@ -19,7 +19,13 @@ import javax.faces.context.ExceptionHandler;
 import javax.faces.context.ExceptionHandlerFactory;
 import javax.faces.context.ExternalContext;
 import javax.faces.context.FacesContext;
+import javax.portlet.PortletConfig;
+import javax.portlet.PortletContext;
 
+import com.liferay.faces.bridge.internal.PortletConfigEmptyImpl;
+import com.liferay.faces.bridge.internal.PortletConfigParam;
+import com.liferay.faces.bridge.util.internal.MBeanUtil;
+import com.liferay.faces.util.lang.ThreadSafeAccessor;
 import com.liferay.faces.util.product.Product;
 import com.liferay.faces.util.product.ProductFactory;
 
@@ -29,6 +35,9 @@ import com.liferay.faces.util.product.ProductFactory;
  */
 public class ExceptionHandlerFactoryBridgeImpl extends ExceptionHandlerFactory {
 
+	// Private Final Data Members
+	private final ExceptionAggregatorAccessor exceptionAggregatorAccessor = new ExceptionAggregatorAccessor();
+
 	// Private Data Members
 	private ExceptionHandlerFactory wrappedExceptionHandlerFactory;
 
@@ -52,11 +61,47 @@ public class ExceptionHandlerFactoryBridgeImpl extends ExceptionHandlerFactory {
 			facesContext.getPartialViewContext();
 		}
 
-		return new ExceptionHandlerBridgeImpl(wrappedExceptionHandler);
+		return getExceptionHandler(wrappedExceptionHandler, externalContext.getContext());
 	}
 
 	@Override
 	public ExceptionHandlerFactory getWrapped() {
 		return wrappedExceptionHandlerFactory;
 	}
+
+	/* package-private */ ExceptionHandler getExceptionHandler(ExceptionHandler wrappedExceptionHandler,
+		Object context) {
+
+		// The FacesContext might have been created for a servlet request or during startup, in which case there is no
+		// PortletContext in which the ExceptionAggregator could have been configured.
+		if (context instanceof PortletContext) {
+
+			ExceptionAggregator exceptionAggregator = exceptionAggregatorAccessor.get((PortletContext) context);
+
+			if (exceptionAggregator.isEnabled()) {
+				return new ExceptionHandlerBridgeImpl(wrappedExceptionHandler, exceptionAggregator);
+			}
+		}
+
+		return new ExceptionHandlerBridgeImpl(wrappedExceptionHandler);
+	}
+
+	private static final class ExceptionAggregatorAccessor
+		extends ThreadSafeAccessor<ExceptionAggregator, PortletContext> {
+
+		@Override
+		protected ExceptionAggregator computeValue(PortletContext portletContext) {
+
+			PortletConfig emptyPortletConfig = new PortletConfigEmptyImpl(portletContext);
+			int intervalSeconds = PortletConfigParam.ExceptionAggregationInterval.getIntegerValue(emptyPortletConfig);
+			ExceptionAggregator exceptionAggregator = new ExceptionAggregator(intervalSeconds);
+
+			if (exceptionAggregator.isEnabled()) {
+				MBeanUtil.registerMBean(portletContext, ExceptionAggregatorStatistics.MBEAN_TYPE,
+					new ExceptionAggregatorStatistics(exceptionAggregator));
+			}
+
+			return exceptionAggregator;
+		}
+	}
 }
@@ -23,6 +23,8 @@ import javax.portlet.PortletRequest;
 import javax.portlet.PortletResponse;
 import javax.servlet.http.HttpServletResponse;
 
+import com.liferay.faces.bridge.internal.PortletConfigParam;
+
 
 /**
  * @author  Neil Griffin
@@ -45,8 +47,21 @@ public abstract class ExternalContextCompat_2_0_FlashImpl extends ExternalContex
 	public Flash getFlash() {
 
 		if (flash == null) {
-			FlashFactory flashFactory = (FlashFactory) FactoryFinder.getFactory(FactoryFinder.FLASH_FACTORY);
-			flash = flashFactory.getFlash(true);
+
+			if (PortletConfigParam.BridgeFlashEnabled.getBooleanValue(portletConfig)) {
+
+				String bridgeRequestScopeId = null;
+
+				if (bridgeRequestScope != null) {
+					bridgeRequestScopeId = bridgeRequestScope.getId();
+				}
+
+				flash = new BridgeFlashImpl(bridgeRequestScopeId);
+			}
+			else {
+				FlashFactory flashFactory = (FlashFactory) FactoryFinder.getFactory(FactoryFinder.FLASH_FACTORY);
+				flash = flashFactory.getFlash(true);
+			}
 		}
 
 		return flash;
@@ -1058,7 +1058,7 @@ public class ExternalContextImpl extends ExternalContextCompat_Portlet3_Impl {
 	protected Map<String, String> getDefaultViewIdMap(PortletConfig portletConfig) {
 
 		if (defaultViewIdMap == null) {
-			defaultViewIdMap = ViewUtil.getDefaultViewIdMap(portletConfig);
+			defaultViewIdMap = ViewUtil.getDefaultViewIdMap(bridgeConfig, portletConfig);
 		}
 
 		return defaultViewIdMap;
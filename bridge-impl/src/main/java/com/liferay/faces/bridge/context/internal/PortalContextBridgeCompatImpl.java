@@ -35,6 +35,12 @@ public abstract class PortalContextBridgeCompatImpl extends PortalContextWrapper
 		super(wrapped);
 	}
 
+	public PortalContextBridgeCompatImpl(PortalContext wrapped, boolean ajaxRequest) {
+
+		super(wrapped);
+		this.ajaxRequest = ajaxRequest;
+	}
+
 	public PortalContextBridgeCompatImpl(PortletRequest portletRequest) {
 
 		super(portletRequest.getPortalContext());
@@ -16,14 +16,19 @@
 package com.liferay.faces.bridge.context.internal;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javax.faces.context.ExternalContext;
 import javax.faces.context.FacesContext;
 import javax.portlet.PortalContext;
+import javax.portlet.PortletConfig;
 import javax.portlet.PortletRequest;
 
 import com.liferay.faces.bridge.context.BridgePortalContext;
@@ -36,64 +41,67 @@ import com.liferay.faces.bridge.internal.PortletConfigParamUtil;
  */
 public class PortalContextBridgeImpl extends PortalContextBridgeCompatImpl {
 
+	// Private Constants
+	private static final Set<String> ADD_TO_HEAD_PROPERTY_NAMES = Collections.unmodifiableSet(new HashSet<String>(
+				Arrays.asList(PortalContext.MARKUP_HEAD_ELEMENT_SUPPORT,
+					BridgePortalContext.ADD_ELEMENT_TO_HEAD_SUPPORT,
+					BridgePortalContext.ADD_SCRIPT_RESOURCE_TO_HEAD_SUPPORT,
+					BridgePortalContext.ADD_SCRIPT_TEXT_TO_HEAD_SUPPORT,
+					BridgePortalContext.ADD_STYLE_SHEET_RESOURCE_TO_HEAD_SUPPORT,
+					BridgePortalContext.ADD_STYLE_SHEET_TEXT_TO_HEAD_SUPPORT)));
+	private static final List<String> BRIDGE_PROPERTY_NAMES = Collections.unmodifiableList(Arrays.asList(
+				BridgePortalContext.ADD_ELEMENT_TO_HEAD_SUPPORT,
+				BridgePortalContext.ADD_SCRIPT_RESOURCE_TO_HEAD_SUPPORT,
+				BridgePortalContext.ADD_SCRIPT_TEXT_TO_HEAD_SUPPORT,
+				BridgePortalContext.ADD_STYLE_SHEET_RESOURCE_TO_HEAD_SUPPORT,
+				BridgePortalContext.ADD_STYLE_SHEET_TEXT_TO_HEAD_SUPPORT,
+				BridgePortalContext.CREATE_RENDER_URL_DURING_ACTION_PHASE_SUPPORT,
+				BridgePortalContext.POST_REDIRECT_GET_SUPPORT, BridgePortalContext.SET_HTTP_STATUS_CODE_SUPPORT,
+				BridgePortalContext.SET_RESOURCE_RESPONSE_BUFFER_SIZE_SUPPORT,
+				BridgePortalContext.STRICT_NAMESPACED_PARAMETERS_SUPPORT));
+
+	// Private Final Data Members
+	private final Map<String, String> bridgeProperties;
+	private final List<String> propertyNameList;
+
 	// Private Data Members
 	private String ableToSetHttpStatusCode;
-	private List<String> propertyNameList;
 
 	public PortalContextBridgeImpl(PortletRequest portletRequest) {
 
 		super(portletRequest);
+		this.propertyNameList = getPropertyNameList(portletRequest.getPortalContext());
+		this.bridgeProperties = getBridgeProperties(null);
+	}
 
-		PortalContext portalContext = portletRequest.getPortalContext();
-		propertyNameList = new ArrayList<String>();
-
-		Enumeration<String> propertyNames = portalContext.getPropertyNames();
+	/**
+	 * Creates an immutable instance that can be shared by all requests that are associated with the specified portal
+	 * context and portlet config and that have the specified Faces Ajax status.
+	 */
+	public PortalContextBridgeImpl(PortalContext portalContext, PortletConfig portletConfig, boolean ajaxRequest) {
 
-		while (propertyNames.hasMoreElements()) {
-			propertyNameList.add(propertyNames.nextElement());
-		}
+		super(portalContext, ajaxRequest);
+		this.propertyNameList = getPropertyNameList(portalContext);
 
-		propertyNameList.add(BridgePortalContext.ADD_ELEMENT_TO_HEAD_SUPPORT);
-		propertyNameList.add(BridgePortalContext.ADD_SCRIPT_RESOURCE_TO_HEAD_SUPPORT);
-		propertyNameList.add(BridgePortalContext.ADD_SCRIPT_TEXT_TO_HEAD_SUPPORT);
-		propertyNameList.add(BridgePortalContext.ADD_STYLE_SHEET_RESOURCE_TO_HEAD_SUPPORT);
-		propertyNameList.add(BridgePortalContext.ADD_STYLE_SHEET_TEXT_TO_HEAD_SUPPORT);
-		propertyNameList.add(BridgePortalContext.CREATE_RENDER_URL_DURING_ACTION_PHASE_SUPPORT);
-		propertyNameList.add(BridgePortalContext.POST_REDIRECT_GET_SUPPORT);
-		propertyNameList.add(BridgePortalContext.SET_HTTP_STATUS_CODE_SUPPORT);
-		propertyNameList.add(BridgePortalContext.SET_RESOURCE_RESPONSE_BUFFER_SIZE_SUPPORT);
-		propertyNameList.add(BridgePortalContext.STRICT_NAMESPACED_PARAMETERS_SUPPORT);
+		// Although it's not the most performant option, it's safest to assume that the portlet container has not
+		// implemented the SET_HTTP_STATUS_CODE_SUPPORT feature. That way, the ResourceHandlerImpl will always deliver
+		// stuff like jsf.js back to the browser.
+		this.bridgeProperties = getBridgeProperties(PortletConfigParamUtil.getStringValue(portletConfig,
+					PortletConfigParam.ContainerAbleToSetHttpStatusCode));
 	}
 
 	@Override
 	public String getProperty(String name) {
 
-		if (PortalContext.MARKUP_HEAD_ELEMENT_SUPPORT.equals(name) ||
-				BridgePortalContext.ADD_ELEMENT_TO_HEAD_SUPPORT.equals(name) ||
-				BridgePortalContext.ADD_SCRIPT_RESOURCE_TO_HEAD_SUPPORT.equals(name) ||
-				BridgePortalContext.ADD_SCRIPT_TEXT_TO_HEAD_SUPPORT.equals(name) ||
-				BridgePortalContext.ADD_STYLE_SHEET_RESOURCE_TO_HEAD_SUPPORT.equals(name) ||
-				BridgePortalContext.ADD_STYLE_SHEET_TEXT_TO_HEAD_SUPPORT.equals(name)) {
+		if (ADD_TO_HEAD_PROPERTY_NAMES.contains(name)) {
 			return getAddToHeadSupport(name, getWrapped());
 		}
-		else if (BridgePortalContext.CREATE_RENDER_URL_DURING_ACTION_PHASE_SUPPORT.equals(name)) {
-
-			// Portlet 2.0 does not support this feature but perhaps Portlet 3.0 will.
-			// https://java.net/jira/browse/PORTLETSPEC3-49
-			return null;
-		}
-		else if (BridgePortalContext.STRICT_NAMESPACED_PARAMETERS_SUPPORT.equals(name)) {
-			return null;
-		}
-		else if (BridgePortalContext.POST_REDIRECT_GET_SUPPORT.equals(name)) {
-			return "true";
+		else if (bridgeProperties.containsKey(name)) {
+			return bridgeProperties.get(name);
 		}
 		else if (BridgePortalContext.SET_HTTP_STATUS_CODE_SUPPORT.equals(name)) {
 			return getSetHttpStatusCode();
 		}
-		else if (BridgePortalContext.SET_RESOURCE_RESPONSE_BUFFER_SIZE_SUPPORT.equals(name)) {
-			return "true";
-		}
 		else {
 			return getWrapped().getProperty(name);
 		}
@@ -104,6 +112,39 @@ public class PortalContextBridgeImpl extends PortalContextBridgeCompatImpl {
 		return Collections.enumeration(propertyNameList);
 	}
 
+	private static Map<String, String> getBridgeProperties(String ableToSetHttpStatusCode) {
+
+		Map<String, String> bridgeProperties = new HashMap<String, String>();
+
+		// Portlet 2.0 does not support this feature but perhaps Portlet 3.0 will.
+		// https://java.net/jira/browse/PORTLETSPEC3-49
+		bridgeProperties.put(BridgePortalContext.CREATE_RENDER_URL_DURING_ACTION_PHASE_SUPPORT, null);
+		bridgeProperties.put(BridgePortalContext.STRICT_NAMESPACED_PARAMETERS_SUPPORT, null);
+		bridgeProperties.put(BridgePortalContext.POST_REDIRECT_GET_SUPPORT, "true");
+		bridgeProperties.put(BridgePortalContext.SET_RESOURCE_RESPONSE_BUFFER_SIZE_SUPPORT, "true");
+
+		// If the value is not yet known, then it will be determined lazily via the current FacesContext.
+		if (ableToSetHttpStatusCode != null) {
+			bridgeProperties.put(BridgePortalContext.SET_HTTP_STATUS_CODE_SUPPORT, ableToSetHttpStatusCode);
+		}
+
+		return Collections.unmodifiableMap(bridgeProperties);
+	}
+
+	private static List<String> getPropertyNameList(PortalContext portalContext) {
+
+		List<String> propertyNameList = new ArrayList<String>();
+		Enumeration<String> propertyNames = portalContext.getPropertyNames();
+
+		while (propertyNames.hasMoreElements()) {
+			propertyNameList.add(propertyNames.nextElement());
+		}
+
+		propertyNameList.addAll(BRIDGE_PROPERTY_NAMES);
+
+		return Collections.unmodifiableList(propertyNameList);
+	}
+
 	private String getSetHttpStatusCode() {
 
 		if (ableToSetHttpStatusCode == null) {
@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.context.map.internal;
+
+import java.io.Serializable;
+
+
+/**
+ * This class is a case-insensitive map key for names (such as HTTP header names) that consist of ASCII characters.
+ * Unlike {@link CaseInsensitiveHashMap}, it does not allocate a lower-case copy of the name in order to compute the
+ * hash code or to test for equality.
+ *
+ * @author  Neil Griffin
+ */
+public final class CaseInsensitiveKey implements Serializable {
+
+	// serialVersionUID
+	private static final long serialVersionUID = 2950436227931592063L;
+
+	// Private Final Data Members
+	private final int hashCode;
+	private final String name;
+
+	public CaseInsensitiveKey(String name) {
+
+		this.name = name;
+
+		int hashCode = 0;
+		int length = name.length();
+
+		for (int i = 0; i < length; i++) {
+			hashCode = (31 * hashCode) + toLowerCase(name.charAt(i));
+		}
+
+		this.hashCode = hashCode;
+	}
+
+	private static char toLowerCase(char c) {
+
+		if ((c >= 'A') && (c <= 'Z')) {
+			return (char) (c + ('a' - 'A'));
+		}
+
+		return c;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof CaseInsensitiveKey)) {
+			return false;
+		}
+
+		CaseInsensitiveKey caseInsensitiveKey = (CaseInsensitiveKey) obj;
+		String otherName = caseInsensitiveKey.name;
+		int length = name.length();
+
+		if ((hashCode != caseInsensitiveKey.hashCode) || (length != otherName.length())) {
+			return false;
+		}
+
+		for (int i = 0; i < length; i++) {
+
+			if (toLowerCase(name.charAt(i)) != toLowerCase(otherName.charAt(i))) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns the name that was specified when this key was created, preserving its original case.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	@Override
+	public String toString() {
+		return name;
+	}
+}
@@ -88,8 +88,6 @@ public class FacesRequestParameterMapImpl implements FacesRequestParameterMap {
 	@Override
 	public void addValue(String key, String value) {
 
-		boolean namespacedKey = ((key != null) && key.startsWith(namespace));
-
 		String[] values = get(key);
 
 		if (values == null) {
@@ -100,18 +98,27 @@ public class FacesRequestParameterMapImpl implements FacesRequestParameterMap {
 			values[values.length - 1] = value;
 		}
 
-		if (namespacedKey) {
-			wrappedParameterMap.put(key, values);
+		putValues(key, values);
+	}
+
+	/**
+	 * Adds all of the specified values to the specified key. This has the same effect as calling {@link
+	 * #addValue(String, String)} for each value, but copies the array of existing values (if any) only once.
+	 */
+	public void addValues(String key, String[] values) {
+
+		String[] existingValues = get(key);
+
+		if (existingValues == null) {
+			values = Arrays.copyOf(values, values.length);
 		}
 		else {
-
-			if (strictParameterNamespacing) {
-				wrappedParameterMap.put(namespace + key, values);
-			}
-			else {
-				wrappedParameterMap.put(key, values);
-			}
+			String[] mergedValues = Arrays.copyOf(existingValues, existingValues.length + values.length);
+			System.arraycopy(values, 0, mergedValues, existingValues.length, values.length);
+			values = mergedValues;
 		}
+
+		putValues(key, values);
 	}
 
 	@Override
@@ -429,4 +436,22 @@ public class FacesRequestParameterMapImpl implements FacesRequestParameterMap {
 
 		return specialParameterValue;
 	}
+
+	private void putValues(String key, String[] values) {
+
+		boolean namespacedKey = ((key != null) && key.startsWith(namespace));
+
+		if (namespacedKey) {
+			wrappedParameterMap.put(key, values);
+		}
+		else {
+
+			if (strictParameterNamespacing) {
+				wrappedParameterMap.put(namespace + key, values);
+			}
+			else {
+				wrappedParameterMap.put(key, values);
+			}
+		}
+	}
 }
@@ -26,7 +26,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.TreeMap;
 
 import javax.portlet.ActionRequest;
 import javax.portlet.ClientDataRequest;
@@ -90,8 +89,14 @@ public abstract class MultiPartFormDataProcessorCompatImpl {
 			portletParameters = resourceRequest.getResourceParameters();
 		}
 
-		Set<String> fullyQualifiedParameterNames = new HashSet<>(Collections.list(
-					clientDataRequest.getParameterNames()));
+		// Resolve the name of each action/resource parameter and bulk-load its values in a single pass.
+		String namespace = facesRequestParameterMap.getNamespace();
+		Set<String> fullyQualifiedParameterNames = null;
+		FacesRequestParameterMapImpl facesRequestParameterMapImpl = null;
+
+		if (facesRequestParameterMap instanceof FacesRequestParameterMapImpl) {
+			facesRequestParameterMapImpl = (FacesRequestParameterMapImpl) facesRequestParameterMap;
+		}
 
 		Set<String> portletParameterNames = portletParameters.getNames();
 
@@ -100,12 +105,22 @@ public abstract class MultiPartFormDataProcessorCompatImpl {
 			// FACES-3489: Workaround potential issue in Liferay Portal such
 			// that ActionParameters.getNames() and
 			// ResourceParameters.getNames() return names that are stripped of
-			// the portlet namespace.
-			if (!fullyQualifiedParameterNames.contains(parameterName)) {
-				String fullyQualifiedParameterName = facesRequestParameterMap.getNamespace() + parameterName;
+			// the portlet namespace. Names that start with the portlet namespace
+			// are already fully qualified, so the names of the request
+			// parameters are only gathered (once) when a name might have been
+			// stripped.
+			if (!parameterName.startsWith(namespace)) {
+
+				if (fullyQualifiedParameterNames == null) {
+					fullyQualifiedParameterNames = getParameterNames(clientDataRequest);
+				}
 
-				if (fullyQualifiedParameterNames.contains(fullyQualifiedParameterName)) {
-					parameterName = fullyQualifiedParameterName;
+				if (!fullyQualifiedParameterNames.contains(parameterName)) {
+					String fullyQualifiedParameterName = namespace + parameterName;
+
+					if (fullyQualifiedParameterNames.contains(fullyQualifiedParameterName)) {
+						parameterName = fullyQualifiedParameterName;
+					}
 				}
 			}
 
@@ -113,14 +128,27 @@ public abstract class MultiPartFormDataProcessorCompatImpl {
 
 			if (parameterValues.length > 0) {
 
-				for (String parameterValue : parameterValues) {
-					facesRequestParameterMap.addValue(parameterName, parameterValue);
+				if (facesRequestParameterMapImpl != null) {
+					facesRequestParameterMapImpl.addValues(parameterName, parameterValues);
+				}
+				else {
 
-					if (actionPhase) {
-						logger.debug("Added action parameter name={0} value={1}", parameterName, parameterValue);
+					for (String parameterValue : parameterValues) {
+						facesRequestParameterMap.addValue(parameterName, parameterValue);
 					}
-					else {
-						logger.debug("Added resource parameter name={0} value={1}", parameterName, parameterValue);
+				}
+
+				if (logger.isDebugEnabled()) {
+
+					for (String parameterValue : parameterValues) {
+
+						if (actionPhase) {
+							logger.debug("Added action parameter name={0} value={1}", parameterName, parameterValue);
+						}
+						else {
+							logger.debug("Added resource parameter name={0} value={1}", parameterName,
+								parameterValue);
+						}
 					}
 				}
 			}
@@ -129,9 +157,32 @@ public abstract class MultiPartFormDataProcessorCompatImpl {
 		UploadedFileFactory uploadedFileFactory = (UploadedFileFactory) BridgeFactoryFinder.getFactory(
 				portletConfig.getPortletContext(), UploadedFileFactory.class);
 
+		// Enforce the per-portlet limits on the number, size, and content type of the uploaded files.
+		UploadPolicy uploadPolicy = new UploadPolicy(portletConfig);
+
 		// Begin parsing the request for file parts:
 		try {
-			Collection<Part> parts = clientDataRequest.getParts();
+			Collection<Part> parts;
+			long contentLength = clientDataRequest.getContentLengthLong();
+			UploadPolicy.Violation requestSizeViolation = uploadPolicy.checkRequestSize(contentLength);
+
+			// If the request is larger than the maximum size of the uploaded files, then put an UploadedFile instance
+			// into the map that describes the violation without asking the portlet container for the parts, since
+			// doing so would cause the entire request to be buffered. Otherwise, each file is checked individually.
+			if (requestSizeViolation != null) {
+
+				String id = Long.toString(((long) hashCode()) + System.currentTimeMillis());
+				com.liferay.faces.util.model.UploadedFile uploadedFile = uploadedFileFactory.getUploadedFile(null,
+						new HashMap<String, Object>(), clientDataRequest.getCharacterEncoding(), null,
+						Collections.<String, List<String>>emptyMap(), id, requestSizeViolation.getMessage(), null,
+						contentLength, requestSizeViolation.getStatus());
+				addUploadedFile(uploadedFileMap, "unknown", uploadedFile);
+				logger.warn("Rejected multipart request: {0}", requestSizeViolation.getMessage());
+				parts = Collections.<Part>emptyList();
+			}
+			else {
+				parts = clientDataRequest.getParts();
+			}
 
 			List<String> fileUploadFieldNames = new ArrayList<String>();
 			int totalFiles = 0;
@@ -142,6 +193,8 @@ public abstract class MultiPartFormDataProcessorCompatImpl {
 				String fieldName = part.getName();
 				fileUploadFieldNames.add(fieldName);
 
+				boolean partWritten = false;
+
 				try {
 					totalFiles++;
 
@@ -152,6 +205,26 @@ public abstract class MultiPartFormDataProcessorCompatImpl {
 					// If the current field is a simple form-field, then save the form field value in the map.
 					if ((fileName != null) && (fileName.length() > 0)) {
 
+						UploadPolicy.Violation violation = uploadPolicy.check(fieldName, part.getContentType(),
+								part.getSize());
+
+						// If the file is rejected by the upload policy of the portlet, then put an UploadedFile
+						// instance into the map that describes the violation without writing the file to disk.
+						if (violation != null) {
+
+							String id = Long.toString(((long) hashCode()) + System.currentTimeMillis());
+							com.liferay.faces.util.model.UploadedFile uploadedFile =
+								uploadedFileFactory.getUploadedFile(null, new HashMap<String, Object>(),
+									characterEncoding, part.getContentType(), new PartHeaderMap(part), id,
+									violation.getMessage(), fileName, part.getSize(), violation.getStatus());
+
+							addUploadedFile(uploadedFileMap, fieldName, uploadedFile);
+							logger.warn("Rejected uploaded file fieldName=[{0}] fileName=[{1}]: {2}", fieldName,
+								fileName, violation.getMessage());
+
+							continue;
+						}
+
 						File uploadedFilePath = new File(uploadedFilesPath, fileName);
 						String uploadedFilePathAbsolutePath = uploadedFilePath.getAbsolutePath();
 						part.write(uploadedFilePathAbsolutePath);
@@ -159,24 +232,10 @@ public abstract class MultiPartFormDataProcessorCompatImpl {
 						// If the copy was successful, then
 						if (uploadedFilePath.exists()) {
 
-							// If present, build up a map of headers. According to Hypertext Transfer Protocol --
-							// HTTP/1.1 (http://www.w3.org/Protocols/rfc2616/rfc2616-sec4.html#sec4.2), header names
-							// are case-insensitive. In order to support this, use a TreeMap with case insensitive
-							// keys.
-							Map<String, List<String>> headersMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-
-							Collection<String> headerNames = part.getHeaderNames();
+							partWritten = true;
 
-							for (String headerName : headerNames) {
-								Collection<String> headerValues = part.getHeaders(headerName);
-								List<String> headerValueList = new ArrayList<>();
-
-								for (String headerValue : headerValues) {
-									headerValueList.add(headerValue);
-								}
-
-								headersMap.put(headerName, headerValueList);
-							}
+							// Copy the header values from the part while the request is still in progress.
+							Map<String, List<String>> headersMap = new PartHeaderMap(part);
 
 							// Put a valid UploadedFile instance into the map that contains all of the
 							// uploaded file's attributes, along with a successful status.
@@ -210,6 +269,17 @@ public abstract class MultiPartFormDataProcessorCompatImpl {
 					String totalFilesfieldName = Integer.toString(totalFiles);
 					addUploadedFile(uploadedFileMap, totalFilesfieldName, uploadedFile);
 				}
+
+				// Release the temporary storage of each part that was not written to the uploaded files directory while
+				// the request is still in progress, rather than holding on to the part (which belongs to the container)
+				// for as long as the uploaded file lives. Note that a part that was written is not deleted, since some
+				// containers implement Part.write(String) by moving their temporary file to the specified location.
+				finally {
+
+					if (!partWritten) {
+						releasePart(part);
+					}
+				}
 			}
 
 			for (String fileUploadFieldName : fileUploadFieldNames) {
@@ -236,6 +306,18 @@ public abstract class MultiPartFormDataProcessorCompatImpl {
 		return uploadedFileMap;
 	}
 
+	private Set<String> getParameterNames(ClientDataRequest clientDataRequest) {
+
+		Set<String> parameterNames = new HashSet<>();
+		Enumeration<String> parameterNameEnumeration = clientDataRequest.getParameterNames();
+
+		while (parameterNameEnumeration.hasMoreElements()) {
+			parameterNames.add(parameterNameEnumeration.nextElement());
+		}
+
+		return parameterNames;
+	}
+
 	private String getValidFileName(String contentDispositionHeader) {
 
 		String[] headerParts = contentDispositionHeader.split(";");
@@ -267,4 +349,14 @@ public abstract class MultiPartFormDataProcessorCompatImpl {
 
 		return null;
 	}
+
+	private void releasePart(Part part) {
+
+		try {
+			part.delete();
+		}
+		catch (IOException e) {
+			logger.error(e);
+		}
+	}
 }
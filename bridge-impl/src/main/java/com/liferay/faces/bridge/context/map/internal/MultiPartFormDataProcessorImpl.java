@@ -26,8 +26,6 @@ import javax.portlet.PortletSession;
 
 import com.liferay.faces.bridge.internal.PortletConfigParam;
 import com.liferay.faces.util.context.map.FacesRequestParameterMap;
-import com.liferay.faces.util.logging.Logger;
-import com.liferay.faces.util.logging.LoggerFactory;
 import com.liferay.faces.util.model.UploadedFile;
 
 
@@ -37,9 +35,6 @@ import com.liferay.faces.util.model.UploadedFile;
 public class MultiPartFormDataProcessorImpl extends MultiPartFormDataProcessorCompatImpl
 	implements MultiPartFormDataProcessor {
 
-	// Logger
-	private static final Logger logger = LoggerFactory.getLogger(MultiPartFormDataProcessorImpl.class);
-
 	@Override
 	public Map<String, List<UploadedFile>> process(ClientDataRequest clientDataRequest, PortletConfig portletConfig,
 		FacesRequestParameterMap facesRequestParameterMap) {
@@ -48,21 +43,11 @@ public class MultiPartFormDataProcessorImpl extends MultiPartFormDataProcessorCo
 
 		String uploadedFilesDir = PortletConfigParam.UploadedFilesDir.getStringValue(portletConfig);
 
-		// Using the portlet sessionId, determine a unique folder path and create the path if it does not exist.
-		String sessionId = portletSession.getId();
-
-		// FACES-1452: Non-alpha-numeric characters must be removed order to ensure that the folder will be
-		// created properly.
-		sessionId = sessionId.replaceAll("[^A-Za-z0-9]", "");
-
-		File uploadedFilesPath = new File(uploadedFilesDir, sessionId);
-
-		if (!uploadedFilesPath.exists()) {
-
-			if (!uploadedFilesPath.mkdirs()) {
-				logger.warn("Unable to create directory for uploadedFilesPath=[{0}]", uploadedFilesPath);
-			}
-		}
+		// Using the portlet sessionId, determine a unique folder path. The manager keeps track of the folders that it
+		// has already created so that the filesystem does not need to be consulted for each upload.
+		UploadedFilesDirManager uploadedFilesDirManager = UploadedFilesDirManager.getInstance(
+				portletConfig.getPortletContext(), true);
+		File uploadedFilesPath = uploadedFilesDirManager.getSessionDir(uploadedFilesDir, portletSession.getId());
 
 		return iterateOver(clientDataRequest, portletConfig, facesRequestParameterMap, uploadedFilesPath);
 	}
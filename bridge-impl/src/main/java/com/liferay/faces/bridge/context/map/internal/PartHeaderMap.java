@@ -0,0 +1,55 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.context.map.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.servlet.http.Part;
+
+
+/**
+ * This class provides a {@link Map<String,List<String>>} copy of the headers of a {@link Part}. The headers are copied
+ * when the map is constructed (within the scope of the request) so that the map does not hold a reference to the part,
+ * which belongs to the servlet container and might be recycled after the request ends. Note that the headers are
+ * intentionally not copied on first access, since the map is held by an uploaded file that the application may access
+ * after the request ends (when the part can no longer be read). According to Hypertext Transfer Protocol -- HTTP/1.1
+ * (http://www.w3.org/Protocols/rfc2616/rfc2616-sec4.html#sec4.2), header names are case-insensitive, so keys are
+ * compared without regard to case.
+ *
+ * @author  Neil Griffin
+ */
+public class PartHeaderMap extends TreeMap<String, List<String>> {
+
+	// serialVersionUID
+	private static final long serialVersionUID = 1306498812316297517L;
+
+	public PartHeaderMap(Part part) {
+
+		super(String.CASE_INSENSITIVE_ORDER);
+
+		Collection<String> headerNames = part.getHeaderNames();
+
+		for (String headerName : headerNames) {
+
+			Collection<String> headerValues = part.getHeaders(headerName);
+			put(headerName, new ArrayList<>(headerValues));
+		}
+	}
+}
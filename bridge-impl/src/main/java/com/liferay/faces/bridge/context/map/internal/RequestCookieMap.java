@@ -16,6 +16,8 @@
 package com.liferay.faces.bridge.context.map.internal;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -24,8 +26,9 @@ import javax.servlet.http.Cookie;
 
 
 /**
- * This class provides a {@link Map<String,Object>} abstraction over request cookies. Since it is designed to exist and
- * be used within the scope of a request, it is not thread-safe.
+ * This class provides a {@link Map<String,Object>} abstraction over request cookies. Lookups by name are performed
+ * against an index that is built upon first access and maps each cookie name to the first cookie with that name. Since
+ * it is designed to exist and be used within the scope of a request, it is not thread-safe.
  *
  * @author  Neil Griffin
  */
@@ -33,6 +36,9 @@ public class RequestCookieMap implements Map<String, Object> {
 
 	// Private Data Members
 	private Cookie[] cookies;
+	private Map<String, Cookie> cookieIndex;
+	private Set<Map.Entry<String, Object>> entrySet;
+	private Collection<Object> values;
 
 	public RequestCookieMap(Cookie[] cookies) {
 		this.cookies = cookies;
@@ -45,56 +51,31 @@ public class RequestCookieMap implements Map<String, Object> {
 
 	@Override
 	public boolean containsKey(Object key) {
-		boolean found = false;
-
-		if (key != null) {
-			String keyAsString = key.toString();
-
-			if (cookies != null) {
-
-				for (Cookie cookie : cookies) {
-					found = cookie.getName().equals(keyAsString);
-
-					if (found) {
-						break;
-					}
-				}
-			}
-		}
-
-		return found;
+		return (key != null) && getCookieIndex().containsKey(key.toString());
 	}
 
 	@Override
 	public boolean containsValue(Object value) {
-		boolean found = false;
 
-		if (cookies != null) {
-
-			for (Cookie cookie : cookies) {
-				found = (cookie == value);
+		Collection<Object> values = values();
 
-				if (found) {
-					break;
-				}
-			}
-		}
-
-		return found;
+		return (values != null) && values.contains(value);
 	}
 
 	@Override
 	public Set<Map.Entry<String, Object>> entrySet() {
-		Set<Map.Entry<String, Object>> entrySet = null;
 
-		if (cookies != null) {
-			entrySet = new HashSet<Map.Entry<String, Object>>();
+		if ((entrySet == null) && (cookies != null)) {
+
+			Set<Map.Entry<String, Object>> entrySet = new HashSet<Map.Entry<String, Object>>();
 
 			for (Cookie cookie : cookies) {
 				String cookieName = cookie.getName();
 				RequestCookieMapEntry requestCookieMapEntry = new RequestCookieMapEntry(cookieName, cookie);
 				entrySet.add(requestCookieMapEntry);
 			}
+
+			this.entrySet = Collections.unmodifiableSet(entrySet);
 		}
 
 		return entrySet;
@@ -102,22 +83,12 @@ public class RequestCookieMap implements Map<String, Object> {
 
 	@Override
 	public Cookie get(Object key) {
-		Cookie value = null;
-
-		if ((key != null) && (cookies != null)) {
-			String keyAsString = key.toString();
-
-			for (Cookie cookie : cookies) {
-
-				if (cookie.getName().equals(keyAsString)) {
-					value = cookie;
 
-					break;
-				}
-			}
+		if (key == null) {
+			return null;
 		}
 
-		return value;
+		return getCookieIndex().get(key.toString());
 	}
 
 	@Override
@@ -127,18 +98,12 @@ public class RequestCookieMap implements Map<String, Object> {
 
 	@Override
 	public Set<String> keySet() {
-		Set<String> keySet = null;
-
-		if (cookies != null) {
-			keySet = new HashSet<String>();
 
-			for (Cookie cookie : cookies) {
-				String cookieName = cookie.getName();
-				keySet.add(cookieName);
-			}
+		if (cookies == null) {
+			return null;
 		}
 
-		return keySet;
+		return Collections.unmodifiableSet(getCookieIndex().keySet());
 	}
 
 	@Override
@@ -169,16 +134,46 @@ public class RequestCookieMap implements Map<String, Object> {
 
 	@Override
 	public Collection<Object> values() {
-		Collection<Object> values = null;
 
-		if (cookies != null) {
-			values = new HashSet<Object>();
+		if ((values == null) && (cookies != null)) {
+
+			Collection<Object> values = new HashSet<Object>();
 
 			for (Cookie cookie : cookies) {
 				values.add(cookie);
 			}
+
+			this.values = Collections.unmodifiableCollection(values);
 		}
 
 		return values;
 	}
+
+	private Map<String, Cookie> getCookieIndex() {
+
+		if (cookieIndex == null) {
+
+			if ((cookies == null) || (cookies.length == 0)) {
+				cookieIndex = Collections.emptyMap();
+			}
+			else {
+
+				Map<String, Cookie> cookieIndex = new HashMap<String, Cookie>(((cookies.length * 4) / 3) + 1);
+
+				// If more than one cookie has the same name, then the first one takes precedence.
+				for (Cookie cookie : cookies) {
+
+					String cookieName = cookie.getName();
+
+					if (!cookieIndex.containsKey(cookieName)) {
+						cookieIndex.put(cookieName, cookie);
+					}
+				}
+
+				this.cookieIndex = cookieIndex;
+			}
+		}
+
+		return cookieIndex;
+	}
 }
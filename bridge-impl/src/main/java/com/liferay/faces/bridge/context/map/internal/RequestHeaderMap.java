@@ -15,6 +15,9 @@
  */
 package com.liferay.faces.bridge.context.map.internal;
 
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
@@ -23,12 +26,13 @@ import com.liferay.faces.util.logging.LoggerFactory;
 
 
 /**
- * This class provides a {@link Map<String,String>} abstraction over request headers. Since it is designed to exist and
- * be used within the scope of a request, it is not thread-safe.
+ * This class provides a {@link Map<String,String>} view over request header values. Each header is obtained from the
+ * underlying header values map upon access. Since it is designed to exist and be used within the scope of a request, it
+ * is not thread-safe.
  *
  * @author  Neil Griffin
  */
-public class RequestHeaderMap extends CaseInsensitiveHashMap<String> {
+public class RequestHeaderMap extends AbstractMap<String, String> implements Serializable {
 
 	// serialVersionUID
 	private static final long serialVersionUID = 7916822183626170352L;
@@ -36,7 +40,22 @@ public class RequestHeaderMap extends CaseInsensitiveHashMap<String> {
 	// Logger
 	private static final Logger logger = LoggerFactory.getLogger(RequestHeaderMap.class);
 
+	// Private Final Data Members
+	private final Map<String, String[]> requestHeaderValuesMap;
+
 	public RequestHeaderMap(Map<String, String[]> requestHeaderValuesMap) {
+		this.requestHeaderValuesMap = requestHeaderValuesMap;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return requestHeaderValuesMap.containsKey(key);
+	}
+
+	@Override
+	public Set<Map.Entry<String, String>> entrySet() {
+
+		Map<String, String> requestHeaders = new HashMap<String, String>();
 		Set<Map.Entry<String, String[]>> entrySet = requestHeaderValuesMap.entrySet();
 
 		if (entrySet != null) {
@@ -46,15 +65,28 @@ public class RequestHeaderMap extends CaseInsensitiveHashMap<String> {
 				String[] value = mapEntry.getValue();
 
 				if ((value != null) && (value.length > 0)) {
-					put(key, value[0]);
+					requestHeaders.put(key, value[0]);
 					logger.debug("Adding {0}=[{1}] to header map", key, value);
 				}
 				else {
-					put(key, null);
+					requestHeaders.put(key, null);
 					logger.debug("Adding {0}=[null] to header map", key);
 				}
 			}
 		}
+
+		return requestHeaders.entrySet();
 	}
 
+	@Override
+	public String get(Object key) {
+
+		String[] value = requestHeaderValuesMap.get(key);
+
+		if ((value != null) && (value.length > 0)) {
+			return value[0];
+		}
+
+		return null;
+	}
 }
@@ -15,8 +15,13 @@
  */
 package com.liferay.faces.bridge.context.map.internal;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 import javax.faces.context.ExternalContext;
 import javax.faces.context.FacesContext;
@@ -31,8 +36,9 @@ import com.liferay.faces.util.logging.LoggerFactory;
 
 
 /**
- * This class provides a @link Map<String,String[]>} abstraction over request header values. Since it is designed to
- * exist and be used within the scope of a request, it is not thread-safe.
+ * This class provides a {@link Map<String,String[]>} abstraction over request header values. Header values are
+ * resolved from the underlying portlet request upon first access. Since it is designed to exist and be used within the
+ * scope of a request, it is not thread-safe.
  *
  * @author  Neil Griffin
  */
@@ -55,133 +61,99 @@ public class RequestHeaderValuesMap extends RequestHeaderValuesMapCompat {
 	private static final String HEADER_CONTENT_TYPE = "Content-Type";
 	private static final String HEADER_FACES_REQUEST = "Faces-Request";
 
-	public RequestHeaderValuesMap(PortletRequest portletRequest) {
-
-		Enumeration<String> propertyNames = portletRequest.getPropertyNames();
-		boolean foundAccept = false;
-		boolean foundContentType = false;
-		boolean foundFacesRequest = false;
-		boolean addContentHeaders = shouldAddContentHeaders(portletRequest);
-
-		if (propertyNames != null) {
-
-			while (propertyNames.hasMoreElements()) {
+	private static final CaseInsensitiveKey ACCEPT_KEY = new CaseInsensitiveKey(HEADER_ACCEPT);
+	private static final CaseInsensitiveKey ACCEPT_LANGUAGE_KEY = new CaseInsensitiveKey(HEADER_ACCEPT_LANGUAGE);
+	private static final CaseInsensitiveKey CONTENT_LENGTH_KEY = new CaseInsensitiveKey(HEADER_CONTENT_LENGTH);
+	private static final CaseInsensitiveKey CONTENT_TYPE_KEY = new CaseInsensitiveKey(HEADER_CONTENT_TYPE);
+	private static final CaseInsensitiveKey FACES_REQUEST_KEY = new CaseInsensitiveKey(HEADER_FACES_REQUEST);
 
-				boolean addHeader = true;
-				String name = propertyNames.nextElement();
+	// Private Final Data Members
+	private final boolean addContentHeaders;
+	private final Map<CaseInsensitiveKey, String[]> headers;
+	private final transient PortletRequest portletRequest;
 
-				if (name.equalsIgnoreCase(HEADER_ACCEPT_LANGUAGE)) {
-					Enumeration<Locale> locales = portletRequest.getLocales();
+	// Private Data Members
+	private boolean allHeadersResolved;
+	private transient Map<CaseInsensitiveKey, String> propertyNames;
 
-					if (locales != null) {
-						addHeader = false;
-
-						StringBuilder buf = new StringBuilder();
-
-						for (int i = 0; locales.hasMoreElements(); i++) {
+	/**
+	 * Creates a map whose header values are resolved lazily (upon first access) from the specified portlet request. The
+	 * "Accept", "Content-Type", and "Faces-Request" headers are synthesized on demand if the portlet container does
+	 * not provide them.
+	 */
+	public RequestHeaderValuesMap(PortletRequest portletRequest) {
 
-							if (i > 0) {
-								buf.append(",");
-							}
+		this.portletRequest = portletRequest;
+		this.addContentHeaders = shouldAddContentHeaders(portletRequest);
+		this.headers = new HashMap<CaseInsensitiveKey, String[]>();
+	}
 
-							Locale locale = locales.nextElement();
-							buf.append(locale.getLanguage());
+	@Override
+	public boolean containsKey(Object key) {
+		return (get(key) != null);
+	}
 
-							String country = locale.getCountry();
+	@Override
+	public Set<Map.Entry<String, String[]>> entrySet() {
 
-							if ((country != null) && (country.length() > 0)) {
-								buf.append("-");
-								buf.append(country);
-							}
-						}
+		// Resolve all of the headers since the caller intends to iterate over them.
+		if (!allHeadersResolved) {
 
-						super.put(name, new String[] { buf.toString() });
-					}
-				}
-
-				// FACES-3232: Within a HEADER_REQUEST, RENDER_REQUEST, or EVENT_REQUEST, the map must exclude the
-				// "Content-Type" and "Content-Length" properties (if they are present in the underlying request).
-				if (!addContentHeaders) {
+			for (CaseInsensitiveKey propertyName : getPropertyNames().keySet()) {
+				getHeaderValues(propertyName);
+			}
 
-					if (HEADER_CONTENT_LENGTH.equalsIgnoreCase(name) || HEADER_CONTENT_TYPE.equalsIgnoreCase(name)) {
-						addHeader = false;
-					}
-				}
+			getHeaderValues(ACCEPT_KEY);
+			getHeaderValues(CONTENT_TYPE_KEY);
+			getHeaderValues(FACES_REQUEST_KEY);
+			allHeadersResolved = true;
+		}
 
-				if (addHeader) {
-					Enumeration<String> properties = portletRequest.getProperties(name);
+		// For the sake of backward compatibility, expose the header names in lower-case.
+		Map<String, String[]> resolvedHeaders = new HashMap<String, String[]>();
 
-					StringBuilder buf = new StringBuilder();
+		for (Map.Entry<CaseInsensitiveKey, String[]> mapEntry : headers.entrySet()) {
 
-					if (properties != null) {
+			String[] values = mapEntry.getValue();
 
-						for (int i = 0; properties.hasMoreElements(); i++) {
+			if (values != null) {
+				resolvedHeaders.put(mapEntry.getKey().getName().toLowerCase(), values);
+			}
+		}
 
-							if (i > 0) {
-								buf.append(",");
-							}
+		return resolvedHeaders.entrySet();
+	}
 
-							buf.append(properties.nextElement());
-						}
-					}
+	@Override
+	public String[] get(Object key) {
 
-					String values = buf.toString();
-					super.put(name, new String[] { values });
+		if (key == null) {
+			return null;
+		}
 
-					// NOTE: Need to check that the portlet container actually provided a value before the bridge can
-					// claim that it has detected "Accept", "Content-Type", or "Faces-Request".
-					// http://issues.liferay.com/browse/FACES-34
-					if (values.length() > 0) {
+		return getHeaderValues(new CaseInsensitiveKey(key.toString()));
+	}
 
-						if (!foundAccept) {
-							foundAccept = name.equalsIgnoreCase(HEADER_ACCEPT);
-						}
+	@Override
+	public String[] put(String key, String[] value) {
 
-						if (!foundContentType) {
-							foundContentType = name.equalsIgnoreCase(HEADER_CONTENT_TYPE);
-						}
+		CaseInsensitiveKey caseInsensitiveKey = new CaseInsensitiveKey(key);
+		String[] previousValue = getHeaderValues(caseInsensitiveKey);
+		headers.put(caseInsensitiveKey, value);
 
-						if (!foundFacesRequest) {
-							foundFacesRequest = name.equalsIgnoreCase(HEADER_FACES_REQUEST);
-						}
-					}
-				}
-			}
-		}
+		return previousValue;
+	}
 
-		if (!foundAccept) {
-			addAcceptHeader(portletRequest);
-		}
+	@Override
+	public String[] remove(Object key) {
 
-		if (!foundContentType && addContentHeaders) {
-			addContentTypeHeader(portletRequest);
-		}
+		String[] previousValue = get(key);
 
-		if (!foundFacesRequest) {
-
-			// If this is a ResourceRequest, and the resource handler chain doesn't consider this to be a resource, then
-			// we assume that it's Ajax and add the "Faces-Request" header with value "partial/ajax". Note that this is
-			// normally done by the jsf.js JavaScript library, but in a portlet environment, the original XmlHttpRequest
-			// is not made available to the portlet bridge.
-			if ((portletRequest instanceof ResourceRequest) ||
-					Bridge.PortletPhase.RESOURCE_PHASE.equals(
-						portletRequest.getAttribute(Bridge.PORTLET_LIFECYCLE_PHASE))) {
-
-				// If the BridgeExt.FACES_AJAX_PARAMETER request parameter is "true" then set the "partial/ajax" header
-				// so that the Ajax-based PartialResponseWriter renders XML. Otherwise, since the URL was probably setup
-				// with "portlet:resource" don't setup the header because it needs to fully run the JSF lifecycle with a
-				// real (non-parital) ResponseWriter that renders HTML.
-				FacesContext facesContext = FacesContext.getCurrentInstance();
-				ExternalContext externalContext = facesContext.getExternalContext();
-				String facesAjaxParam = externalContext.getRequestParameterMap().get(Bridge.FACES_AJAX_PARAMETER);
-
-				if ((facesAjaxParam != null) && BooleanHelper.isTrueToken(facesAjaxParam)) {
-					put(HEADER_FACES_REQUEST, new String[] { PARTIAL_AJAX });
-				}
-			}
+		if (previousValue != null) {
+			headers.put(new CaseInsensitiveKey(key.toString()), null);
 		}
 
-		addJSF1Headers(portletRequest);
+		return previousValue;
 	}
 
 	/**
@@ -251,4 +223,152 @@ public class RequestHeaderValuesMap extends RequestHeaderValuesMapCompat {
 			// TCK: getRequestHeaderMapRenderTest
 		}
 	}
+
+	/**
+	 * Adds a "Faces-Request" header with value "partial/ajax" to the hashmap if this is a ResourceRequest and the
+	 * {@link Bridge#FACES_AJAX_PARAMETER} request parameter is "true".
+	 *
+	 * @param  portletRequest  The current portlet request.
+	 */
+	protected void addFacesRequestHeader(PortletRequest portletRequest) {
+
+		// If this is a ResourceRequest, and the resource handler chain doesn't consider this to be a resource, then we
+		// assume that it's Ajax and add the "Faces-Request" header with value "partial/ajax". Note that this is
+		// normally done by the jsf.js JavaScript library, but in a portlet environment, the original XmlHttpRequest is
+		// not made available to the portlet bridge.
+		if ((portletRequest instanceof ResourceRequest) ||
+				Bridge.PortletPhase.RESOURCE_PHASE.equals(
+					portletRequest.getAttribute(Bridge.PORTLET_LIFECYCLE_PHASE))) {
+
+			// If the BridgeExt.FACES_AJAX_PARAMETER request parameter is "true" then set the "partial/ajax" header so
+			// that the Ajax-based PartialResponseWriter renders XML. Otherwise, since the URL was probably setup with
+			// "portlet:resource" don't setup the header because it needs to fully run the JSF lifecycle with a real
+			// (non-parital) ResponseWriter that renders HTML.
+			FacesContext facesContext = FacesContext.getCurrentInstance();
+			ExternalContext externalContext = facesContext.getExternalContext();
+			String facesAjaxParam = externalContext.getRequestParameterMap().get(Bridge.FACES_AJAX_PARAMETER);
+
+			if ((facesAjaxParam != null) && BooleanHelper.isTrueToken(facesAjaxParam)) {
+				put(HEADER_FACES_REQUEST, new String[] { PARTIAL_AJAX });
+			}
+		}
+	}
+
+	private void writeObject(ObjectOutputStream objectOutputStream) throws IOException {
+
+		// Since the portlet request is not serialized, resolve all of the headers beforehand.
+		entrySet();
+		objectOutputStream.defaultWriteObject();
+	}
+
+	private String[] getHeaderValues(CaseInsensitiveKey key) {
+
+		if (headers.containsKey(key) || allHeadersResolved) {
+			return headers.get(key);
+		}
+
+		String[] values = null;
+		String propertyName = getPropertyNames().get(key);
+
+		if (propertyName != null) {
+			values = getPropertyValues(propertyName, key);
+		}
+
+		headers.put(key, values);
+
+		// NOTE: Need to check that the portlet container actually provided a value before the bridge can claim that it
+		// has detected "Accept", "Content-Type", or "Faces-Request". http://issues.liferay.com/browse/FACES-34
+		if ((values == null) || (values[0].length() == 0)) {
+
+			if (ACCEPT_KEY.equals(key)) {
+				addAcceptHeader(portletRequest);
+			}
+			else if (CONTENT_TYPE_KEY.equals(key) && addContentHeaders) {
+				addContentTypeHeader(portletRequest);
+			}
+			else if (FACES_REQUEST_KEY.equals(key)) {
+				addFacesRequestHeader(portletRequest);
+			}
+		}
+
+		return headers.get(key);
+	}
+
+	private Map<CaseInsensitiveKey, String> getPropertyNames() {
+
+		if (propertyNames == null) {
+
+			propertyNames = new HashMap<CaseInsensitiveKey, String>();
+
+			Enumeration<String> propertyNameEnumeration = portletRequest.getPropertyNames();
+
+			if (propertyNameEnumeration != null) {
+
+				while (propertyNameEnumeration.hasMoreElements()) {
+
+					String propertyName = propertyNameEnumeration.nextElement();
+					propertyNames.put(new CaseInsensitiveKey(propertyName), propertyName);
+				}
+			}
+
+			addJSF1Headers(portletRequest);
+		}
+
+		return propertyNames;
+	}
+
+	private String[] getPropertyValues(String propertyName, CaseInsensitiveKey key) {
+
+		if (ACCEPT_LANGUAGE_KEY.equals(key)) {
+
+			Enumeration<Locale> locales = portletRequest.getLocales();
+
+			if (locales != null) {
+
+				StringBuilder buf = new StringBuilder();
+
+				for (int i = 0; locales.hasMoreElements(); i++) {
+
+					if (i > 0) {
+						buf.append(",");
+					}
+
+					Locale locale = locales.nextElement();
+					buf.append(locale.getLanguage());
+
+					String country = locale.getCountry();
+
+					if ((country != null) && (country.length() > 0)) {
+						buf.append("-");
+						buf.append(country);
+					}
+				}
+
+				return new String[] { buf.toString() };
+			}
+		}
+
+		// FACES-3232: Within a HEADER_REQUEST, RENDER_REQUEST, or EVENT_REQUEST, the map must exclude the
+		// "Content-Type" and "Content-Length" properties (if they are present in the underlying request).
+		if (!addContentHeaders && (CONTENT_LENGTH_KEY.equals(key) || CONTENT_TYPE_KEY.equals(key))) {
+			return null;
+		}
+
+		Enumeration<String> properties = portletRequest.getProperties(propertyName);
+		StringBuilder buf = new StringBuilder();
+
+		if (properties != null) {
+
+			for (int i = 0; properties.hasMoreElements(); i++) {
+
+				if (i > 0) {
+					buf.append(",");
+				}
+
+				buf.append(properties.nextElement());
+			}
+		}
+
+		return new String[] { buf.toString() };
+	}
 }
@@ -15,6 +15,9 @@
  */
 package com.liferay.faces.bridge.context.map.internal;
 
+import java.io.Serializable;
+import java.util.AbstractMap;
+
 import javax.portlet.PortletRequest;
 import javax.portlet.faces.Bridge;
 
@@ -24,7 +27,7 @@ import javax.portlet.faces.Bridge;
  *
  * @author  Neil Griffin
  */
-public abstract class RequestHeaderValuesMapCompat extends CaseInsensitiveHashMap<String[]> {
+public abstract class RequestHeaderValuesMapCompat extends AbstractMap<String, String[]> implements Serializable {
 
 	// serialVersionUID
 	private static final long serialVersionUID = 5256297252491398013L;
@@ -15,12 +15,16 @@
  */
 package com.liferay.faces.bridge.context.map.internal;
 
+import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import javax.faces.context.ExternalContext;
 import javax.portlet.PortletContext;
 import javax.portlet.PortletRequest;
+import javax.portlet.faces.Bridge;
 import javax.portlet.faces.BridgeFactoryFinder;
 
 import com.liferay.faces.bridge.bean.internal.BeanManager;
@@ -41,9 +45,11 @@ public class RequestScopeMap extends AbstractMutablePropertyMap<Object> {
 
 	// Private Data Members
 	private BeanManager beanManager;
+	private Map<String, Object> managedBeans;
 	private PortletRequest portletRequest;
 	private PreDestroyInvoker preDestroyInvoker;
 	private boolean preferPreDestroy;
+	private boolean recordingManagedBeans;
 
 	public RequestScopeMap(PortletContext portletContext, PortletRequest portletRequest, boolean preferPreDestroy) {
 
@@ -55,11 +61,46 @@ public class RequestScopeMap extends AbstractMutablePropertyMap<Object> {
 		this.portletRequest = portletRequest;
 		this.preferPreDestroy = preferPreDestroy;
 
+		// Managed-beans are only removed by {@link #removeManagedBeans()} after the RENDER_RESPONSE phase of the
+		// RENDER_PHASE and RESOURCE_PHASE of the portlet lifecycle, so it is only necessary to record them during those
+		// phases.
+		Bridge.PortletPhase portletPhase = (Bridge.PortletPhase) portletRequest.getAttribute(
+				Bridge.PORTLET_LIFECYCLE_PHASE);
+		this.recordingManagedBeans = (portletPhase == Bridge.PortletPhase.RENDER_PHASE) ||
+			(portletPhase == Bridge.PortletPhase.RESOURCE_PHASE);
+
 		PreDestroyInvokerFactory preDestroyInvokerFactory = (PreDestroyInvokerFactory) BridgeFactoryFinder.getFactory(
 				portletContext, PreDestroyInvokerFactory.class);
 		this.preDestroyInvoker = preDestroyInvokerFactory.getPreDestroyInvoker(portletContext);
 	}
 
+	/**
+	 * Records the key of each managed-bean that is put into this map during the RENDER_PHASE or RESOURCE_PHASE of the
+	 * portlet lifecycle so that {@link #removeManagedBeans()} does not have to examine every request attribute.
+	 */
+	@Override
+	public Object put(String key, Object value) {
+
+		Object previousValue = super.put(key, value);
+
+		if (recordingManagedBeans) {
+
+			if (beanManager.isManagedBean(key, value)) {
+
+				if (managedBeans == null) {
+					managedBeans = new LinkedHashMap<String, Object>();
+				}
+
+				managedBeans.put(key, value);
+			}
+			else if (managedBeans != null) {
+				managedBeans.remove(key);
+			}
+		}
+
+		return previousValue;
+	}
+
 	/**
 	 * According to the JSF 2.0 JavaDocs for {@link ExternalContext#getRequestMap}, before a managed-bean is removed
 	 * from the map, any public no-argument void return methods annotated with javax.annotation.PreDestroy must be
@@ -70,14 +111,39 @@ public class RequestScopeMap extends AbstractMutablePropertyMap<Object> {
 
 		String keyAsString = (String) key;
 		Object potentialManagedBeanValue = super.remove(key);
+		Object recordedManagedBean = null;
+
+		if (managedBeans != null) {
+			recordedManagedBean = managedBeans.remove(keyAsString);
+		}
 
-		if (beanManager.isManagedBean(keyAsString, potentialManagedBeanValue)) {
+		// If the value was recorded as a managed-bean when it was put into this map, then it is not necessary to ask
+		// the BeanManager again.
+		if (((recordedManagedBean != null) && (recordedManagedBean == potentialManagedBeanValue)) ||
+				beanManager.isManagedBean(keyAsString, potentialManagedBeanValue)) {
 			preDestroyInvoker.invokeAnnotatedMethods(potentialManagedBeanValue, preferPreDestroy);
 		}
 
 		return potentialManagedBeanValue;
 	}
 
+	/**
+	 * Removes each managed-bean that was put into this map, which causes any annotated PreDestroy methods to be called.
+	 * Note that managed-beans that were added to the underlying {@link PortletRequest} without calling {@link
+	 * #put(String, Object)} are not removed by this method.
+	 */
+	public void removeManagedBeans() {
+
+		if (managedBeans != null) {
+
+			List<String> managedBeanKeys = new ArrayList<String>(managedBeans.keySet());
+
+			for (String managedBeanKey : managedBeanKeys) {
+				remove(managedBeanKey);
+			}
+		}
+	}
+
 	@Override
 	protected AbstractPropertyMapEntry<Object> createPropertyMapEntry(String name) {
 		return new RequestScopeMapEntry(portletRequest, name);
@@ -0,0 +1,226 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.context.map.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.portlet.PortletConfig;
+
+import com.liferay.faces.bridge.internal.PortletConfigParam;
+import com.liferay.faces.util.model.UploadedFile;
+
+
+/**
+ * This class enforces the per-portlet limits on the files of a single multipart request, according to the {@link
+ * PortletConfigParam#UploadedFileContentTypes}, {@link PortletConfigParam#UploadedFileMaxCount}, {@link
+ * PortletConfigParam#UploadedFileMaxFieldSize}, and {@link PortletConfigParam#UploadedFileMaxRequestSize} params. Each
+ * file is checked against the content type and size found in the headers of its part, so that a rejected file is never
+ * written to disk. Since it is designed to exist and be used within the scope of a request, it is not thread-safe.
+ *
+ * @author  Neil Griffin
+ */
+public class UploadPolicy {
+
+	// Private Final Data Members
+	private final Set<String> contentTypes;
+	private final List<String> contentTypePrefixes;
+	private final Map<String, Long> fieldSizes;
+	private final int maxCount;
+	private final long maxFieldSize;
+	private final long maxRequestSize;
+
+	// Private Data Members
+	private int count;
+	private long requestSize;
+
+	public UploadPolicy(PortletConfig portletConfig) {
+		this(PortletConfigParam.UploadedFileContentTypes.getStringValue(portletConfig),
+			PortletConfigParam.UploadedFileMaxCount.getIntegerValue(portletConfig),
+			PortletConfigParam.UploadedFileMaxFieldSize.getLongValue(portletConfig),
+			PortletConfigParam.UploadedFileMaxRequestSize.getLongValue(portletConfig));
+	}
+
+	/**
+	 * Creates a policy with the specified limits.
+	 *
+	 * @param  contentTypes    Comma-delimited list of allowed content types (such as "image/*"), or null if files of
+	 *                         any content type are allowed.
+	 * @param  maxCount        The maximum number of files, or a negative number if the number is not limited.
+	 * @param  maxFieldSize    The maximum number of bytes per field, or a negative number if the size is not limited.
+	 * @param  maxRequestSize  The maximum number of bytes per request, or a negative number if the size is not limited.
+	 */
+	public UploadPolicy(String contentTypes, int maxCount, long maxFieldSize, long maxRequestSize) {
+
+		this.contentTypes = new HashSet<String>();
+		this.contentTypePrefixes = new ArrayList<String>();
+
+		if (contentTypes != null) {
+
+			for (String contentType : contentTypes.split(",")) {
+
+				contentType = contentType.trim().toLowerCase(Locale.ENGLISH);
+
+				if ("*/*".equals(contentType)) {
+					this.contentTypePrefixes.add("");
+				}
+				else if (contentType.endsWith("/*")) {
+					this.contentTypePrefixes.add(contentType.substring(0, contentType.length() - 1));
+				}
+				else if (contentType.length() > 0) {
+					this.contentTypes.add(contentType);
+				}
+			}
+		}
+
+		this.fieldSizes = new HashMap<String, Long>();
+		this.maxCount = maxCount;
+		this.maxFieldSize = maxFieldSize;
+		this.maxRequestSize = maxRequestSize;
+	}
+
+	/**
+	 * Determines whether or not the specified file is permitted by this policy. If it is, then the file is counted
+	 * towards the limits of the request. Otherwise, the violation is returned so that the file can be rejected without
+	 * being written to disk.
+	 *
+	 * @param   fieldName    The name of the field that the file was submitted with.
+	 * @param   contentType  The value of the "Content-Type" header of the part.
+	 * @param   size         The value of {@link javax.servlet.http.Part#getSize()}.
+	 *
+	 * @return  The violation, or null if the file is permitted.
+	 */
+	public Violation check(String fieldName, String contentType, long size) {
+
+		if (!isContentTypeAllowed(contentType)) {
+			return new Violation(UploadedFile.Status.ERROR,
+					"Content type [" + contentType + "] of the uploaded file is not allowed");
+		}
+
+		if ((maxCount >= 0) && (count >= maxCount)) {
+			return new Violation(UploadedFile.Status.ERROR,
+					"Number of uploaded files exceeds the maximum of " + maxCount);
+		}
+
+		Long fieldSize = fieldSizes.get(fieldName);
+
+		if (fieldSize == null) {
+			fieldSize = 0L;
+		}
+
+		if ((maxFieldSize >= 0) && ((fieldSize + size) > maxFieldSize)) {
+			return new Violation(UploadedFile.Status.FILE_SIZE_LIMIT_EXCEEDED,
+					"Size of the files uploaded by field [" + fieldName + "] exceeds the maximum of " + maxFieldSize +
+					" bytes");
+		}
+
+		if ((maxRequestSize >= 0) && ((requestSize + size) > maxRequestSize)) {
+			return new Violation(UploadedFile.Status.REQUEST_SIZE_LIMIT_EXCEEDED,
+					"Size of the uploaded files exceeds the maximum of " + maxRequestSize + " bytes");
+		}
+
+		count++;
+		requestSize += size;
+
+		if (maxFieldSize >= 0) {
+			fieldSizes.put(fieldName, fieldSize + size);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Determines whether or not a request with the specified content length is permitted by this policy. Since the
+	 * content length of a multipart request includes the files along with the form fields and part headers, it is an
+	 * upper bound of the size of the files. This makes it possible to reject a request that is too large before the
+	 * portlet container buffers its parts.
+	 *
+	 * @param   contentLength  The value of {@link javax.portlet.ClientDataRequest#getContentLengthLong()}, or a
+	 *                         negative number if the content length is not known.
+	 *
+	 * @return  The violation, or null if the request is permitted (or if the content length is not known).
+	 */
+	public Violation checkRequestSize(long contentLength) {
+
+		if ((maxRequestSize >= 0) && (contentLength > maxRequestSize)) {
+			return new Violation(UploadedFile.Status.REQUEST_SIZE_LIMIT_EXCEEDED,
+					"Size of the request [" + contentLength + "] exceeds the maximum of " + maxRequestSize + " bytes");
+		}
+
+		return null;
+	}
+
+	private boolean isContentTypeAllowed(String contentType) {
+
+		if (contentTypes.isEmpty() && contentTypePrefixes.isEmpty()) {
+			return true;
+		}
+
+		if (contentType == null) {
+			return false;
+		}
+
+		// Ignore parameters such as "charset" and compare without regard to case.
+		int pos = contentType.indexOf(';');
+
+		if (pos >= 0) {
+			contentType = contentType.substring(0, pos);
+		}
+
+		contentType = contentType.trim().toLowerCase(Locale.ENGLISH);
+
+		if (contentTypes.contains(contentType)) {
+			return true;
+		}
+
+		for (String contentTypePrefix : contentTypePrefixes) {
+
+			if (contentType.startsWith(contentTypePrefix)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Describes why a file was rejected by an {@link UploadPolicy}.
+	 */
+	public static final class Violation {
+
+		// Private Final Data Members
+		private final String message;
+		private final UploadedFile.Status status;
+
+		private Violation(UploadedFile.Status status, String message) {
+			this.status = status;
+			this.message = message;
+		}
+
+		public String getMessage() {
+			return message;
+		}
+
+		public UploadedFile.Status getStatus() {
+			return status;
+		}
+	}
+}
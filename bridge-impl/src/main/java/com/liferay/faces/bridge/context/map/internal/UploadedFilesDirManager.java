@@ -0,0 +1,375 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.context.map.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import javax.portlet.PortletConfig;
+import javax.portlet.PortletContext;
+
+import com.liferay.faces.bridge.internal.PortletConfigEmptyImpl;
+import com.liferay.faces.bridge.internal.PortletConfigParam;
+import com.liferay.faces.util.logging.Logger;
+import com.liferay.faces.util.logging.LoggerFactory;
+
+
+/**
+ * This class manages the lifecycle of the per-session directories within the {@link
+ * PortletConfigParam#UploadedFilesDir} that uploaded files are written to. It keeps an in-memory registry of the
+ * directories that have been created so that the filesystem does not need to be consulted for each upload, and it
+ * removes the directories when the session expires, when the web application is undeployed, and (optionally) when the
+ * directories have been idle for longer than {@link PortletConfigParam#UploadedFilesDirMaxIdleTime} minutes.
+ *
+ * <p>In order to avoid removing directories that were not created by the bridge (the default {@link
+ * PortletConfigParam#UploadedFilesDir} is the value of the "java.io.tmpdir" system property) each per-session
+ * directory contains an empty marker file.</p>
+ *
+ * @author  Neil Griffin
+ */
+public final class UploadedFilesDirManager {
+
+	// Logger
+	private static final Logger logger = LoggerFactory.getLogger(UploadedFilesDirManager.class);
+
+	// Private Constants
+	private static final String MARKER_FILE_NAME = ".liferay-faces-bridge-uploaded-files";
+	private static final long MIN_REAPER_PERIOD_MILLIS = TimeUnit.MINUTES.toMillis(1);
+	private static final Pattern NON_ALPHANUMERIC_PATTERN = Pattern.compile("[^A-Za-z0-9]");
+
+	// Private Final Data Members
+	private final long maxIdleMillis;
+	private final ConcurrentMap<String, SessionDir> sessionDirs;
+	private final Set<File> uploadedFilesDirs;
+
+	// Private Data Members
+	private ScheduledExecutorService reaper;
+	private boolean terminated;
+
+	private UploadedFilesDirManager(String defaultUploadedFilesDir, int maxIdleTime) {
+
+		this.sessionDirs = new ConcurrentHashMap<String, SessionDir>();
+		this.uploadedFilesDirs = Collections.newSetFromMap(new ConcurrentHashMap<File, Boolean>());
+
+		if (maxIdleTime > 0) {
+			this.maxIdleMillis = TimeUnit.MINUTES.toMillis(maxIdleTime);
+		}
+		else {
+			this.maxIdleMillis = -1L;
+		}
+
+		// Orphaned per-session directories (for example, those left behind by a previous JVM) can only be found in
+		// directories that are known to the manager, so the context-wide default is registered up front.
+		if (defaultUploadedFilesDir != null) {
+			this.uploadedFilesDirs.add(new File(defaultUploadedFilesDir));
+		}
+	}
+
+	/**
+	 * Returns the manager associated with the specified portlet context.
+	 *
+	 * @param  portletContext  The portlet context.
+	 * @param  create          Flag indicating whether or not the manager is to be created if it does not yet exist.
+	 */
+	public static UploadedFilesDirManager getInstance(PortletContext portletContext, boolean create) {
+
+		String attributeName = UploadedFilesDirManager.class.getName();
+		UploadedFilesDirManager uploadedFilesDirManager = (UploadedFilesDirManager) portletContext.getAttribute(
+				attributeName);
+
+		if ((uploadedFilesDirManager == null) && create) {
+
+			synchronized (UploadedFilesDirManager.class) {
+
+				uploadedFilesDirManager = (UploadedFilesDirManager) portletContext.getAttribute(attributeName);
+
+				if (uploadedFilesDirManager == null) {
+
+					PortletConfig emptyPortletConfig = new PortletConfigEmptyImpl(portletContext);
+					String defaultUploadedFilesDir = PortletConfigParam.UploadedFilesDir.getStringValue(
+							emptyPortletConfig);
+					int maxIdleTime = PortletConfigParam.UploadedFilesDirMaxIdleTime.getIntegerValue(
+							emptyPortletConfig);
+					uploadedFilesDirManager = new UploadedFilesDirManager(defaultUploadedFilesDir, maxIdleTime);
+					portletContext.setAttribute(attributeName, uploadedFilesDirManager);
+				}
+			}
+		}
+
+		return uploadedFilesDirManager;
+	}
+
+	private static void deleteDir(File dir) {
+
+		File[] files = dir.listFiles();
+
+		if (files != null) {
+
+			for (File file : files) {
+
+				if (file.isDirectory()) {
+					deleteDir(file);
+				}
+				else if (!file.delete() && file.exists()) {
+					logger.warn("Unable to delete file=[{0}]", file);
+				}
+			}
+		}
+
+		if (!dir.delete() && dir.exists()) {
+			logger.warn("Unable to delete directory=[{0}]", dir);
+		}
+	}
+
+	private static boolean isMarked(File dir) {
+		return new File(dir, MARKER_FILE_NAME).isFile();
+	}
+
+	private static String toDirName(String sessionId) {
+
+		// FACES-1452: Non-alpha-numeric characters must be removed order to ensure that the folder will be
+		// created properly.
+		return NON_ALPHANUMERIC_PATTERN.matcher(sessionId).replaceAll("");
+	}
+
+	/**
+	 * Returns the directory within the specified uploaded files directory that uploaded files are to be written to for
+	 * the specified session, creating the directory if it has not yet been created by the manager.
+	 */
+	public File getSessionDir(String uploadedFilesDir, String sessionId) {
+
+		File dir = new File(uploadedFilesDir, toDirName(sessionId));
+		String key = dir.getPath();
+
+		while (true) {
+
+			SessionDir sessionDir = sessionDirs.get(key);
+
+			if (sessionDir == null) {
+
+				sessionDir = new SessionDir(dir);
+
+				SessionDir existingSessionDir = sessionDirs.putIfAbsent(key, sessionDir);
+
+				if (existingSessionDir != null) {
+					sessionDir = existingSessionDir;
+				}
+			}
+
+			// If the directory was removed concurrently (by the reaper or due to session expiration) then register a
+			// new one.
+			if (sessionDir.touch()) {
+				return dir;
+			}
+
+			sessionDirs.remove(key, sessionDir);
+		}
+	}
+
+	/** Removes the directories that were created for the specified session. */
+	public void removeSessionDirs(String sessionId) {
+
+		String dirName = toDirName(sessionId);
+
+		for (File uploadedFilesDir : uploadedFilesDirs) {
+
+			File dir = new File(uploadedFilesDir, dirName);
+			SessionDir sessionDir = sessionDirs.remove(dir.getPath());
+
+			if (sessionDir != null) {
+				sessionDir.remove();
+			}
+			else if (isMarked(dir)) {
+				deleteDir(dir);
+			}
+		}
+	}
+
+	/**
+	 * Stops the background thread (if any) and removes all of the directories that were created by the manager. This
+	 * method is designed to be called when the web application is undeployed.
+	 */
+	public void shutdown() {
+
+		synchronized (this) {
+
+			terminated = true;
+
+			if (reaper != null) {
+				reaper.shutdownNow();
+				reaper = null;
+			}
+		}
+
+		for (Map.Entry<String, SessionDir> mapEntry : sessionDirs.entrySet()) {
+
+			if (sessionDirs.remove(mapEntry.getKey(), mapEntry.getValue())) {
+				mapEntry.getValue().remove();
+			}
+		}
+	}
+
+	private void reap() {
+
+		long now = System.currentTimeMillis();
+
+		for (Map.Entry<String, SessionDir> mapEntry : sessionDirs.entrySet()) {
+
+			SessionDir sessionDir = mapEntry.getValue();
+
+			if (sessionDir.removeIfIdle(now - maxIdleMillis)) {
+				sessionDirs.remove(mapEntry.getKey(), sessionDir);
+			}
+		}
+
+		// Remove orphaned directories that are not in the registry, such as those that were created by a previous JVM.
+		for (File uploadedFilesDir : uploadedFilesDirs) {
+
+			File[] dirs = uploadedFilesDir.listFiles();
+
+			if (dirs != null) {
+
+				for (File dir : dirs) {
+
+					if (dir.isDirectory() && !sessionDirs.containsKey(dir.getPath()) &&
+							(dir.lastModified() < (now - maxIdleMillis)) && isMarked(dir)) {
+
+						logger.debug("Removing orphaned uploaded files directory=[{0}]", dir);
+						deleteDir(dir);
+					}
+				}
+			}
+		}
+	}
+
+	private void registerUploadedFilesDir(File uploadedFilesDir) {
+
+		uploadedFilesDirs.add(uploadedFilesDir);
+
+		if (maxIdleMillis > 0) {
+
+			synchronized (this) {
+
+				if ((reaper == null) && !terminated) {
+
+					reaper = Executors.newSingleThreadScheduledExecutor(new ReaperThreadFactory());
+
+					long period = Math.max(MIN_REAPER_PERIOD_MILLIS, maxIdleMillis / 2);
+					reaper.scheduleWithFixedDelay(new Runnable() {
+							@Override
+							public void run() {
+
+								try {
+									reap();
+								}
+								catch (RuntimeException e) {
+									logger.error(e);
+								}
+							}
+						}, period, period, TimeUnit.MILLISECONDS);
+				}
+			}
+		}
+	}
+
+	private static final class ReaperThreadFactory implements ThreadFactory {
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+
+			Thread thread = new Thread(runnable, "Liferay Faces Bridge Uploaded Files Reaper");
+			thread.setDaemon(true);
+
+			return thread;
+		}
+	}
+
+	private final class SessionDir {
+
+		// Private Final Data Members
+		private final File dir;
+
+		// Private Data Members
+		private boolean created;
+		private long lastAccessTime;
+		private boolean removed;
+
+		public SessionDir(File dir) {
+			this.dir = dir;
+		}
+
+		public synchronized void remove() {
+
+			removed = true;
+
+			if (created) {
+				deleteDir(dir);
+			}
+		}
+
+		public synchronized boolean removeIfIdle(long idleTime) {
+
+			if (!removed && (lastAccessTime < idleTime)) {
+				remove();
+			}
+
+			return removed;
+		}
+
+		public synchronized boolean touch() {
+
+			if (removed) {
+				return false;
+			}
+
+			if (!created) {
+
+				if (!dir.exists() && !dir.mkdirs()) {
+					logger.warn("Unable to create directory for uploadedFilesPath=[{0}]", dir);
+				}
+
+				try {
+					new File(dir, MARKER_FILE_NAME).createNewFile();
+				}
+				catch (IOException e) {
+					logger.warn("Unable to create marker file in directory=[{0}]: {1}", dir, e.getMessage());
+				}
+
+				File uploadedFilesDir = dir.getParentFile();
+
+				if (uploadedFilesDir != null) {
+					registerUploadedFilesDir(uploadedFilesDir);
+				}
+
+				created = true;
+			}
+
+			lastAccessTime = System.currentTimeMillis();
+
+			return true;
+		}
+	}
+}
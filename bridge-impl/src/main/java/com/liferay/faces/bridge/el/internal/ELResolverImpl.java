@@ -440,7 +440,16 @@ public class ELResolverImpl extends ELResolverCompatImpl {
 				PortletRequest portletRequest = getPortletRequest(facesContext);
 
 				if (portletRequest != null) {
-					value = new MutablePreferenceMap(portletRequest.getPreferences());
+
+					// Since the map caches Preference instances and read-only flags, it is cached as a request
+					// attribute for the duration of the request. The attribute is listed as an excluded attribute in
+					// META-INF/faces-config.xml so that it is not saved in the BridgeRequestScope.
+					value = portletRequest.getAttribute(MutablePreferenceMap.class.getName());
+
+					if (value == null) {
+						value = new MutablePreferenceMap(portletRequest.getPreferences());
+						portletRequest.setAttribute(MutablePreferenceMap.class.getName(), value);
+					}
 				}
 			}
 			else if (varName.equals(PORTLET_SESSION)) {
@@ -0,0 +1,134 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.event.internal;
+
+import javax.faces.context.FacesContext;
+import javax.faces.event.PhaseEvent;
+import javax.faces.event.PhaseId;
+import javax.faces.event.PhaseListener;
+import javax.portlet.PortletConfig;
+import javax.portlet.PortletRequest;
+
+import com.liferay.faces.bridge.timing.internal.BridgeTimingSink;
+import com.liferay.faces.bridge.timing.internal.BridgeTimingSinkFactory;
+import com.liferay.faces.bridge.util.internal.RequestMapUtil;
+
+
+/**
+ * This class records the elapsed time of each phase of the JSF lifecycle in the {@link BridgeTimingSink} for the
+ * current portlet.
+ *
+ * @author  Neil Griffin
+ */
+public class BridgeTimingPhaseListener implements PhaseListener {
+
+	// serialVersionUID
+	private static final long serialVersionUID = 3904587722380318574L;
+
+	// Private Constants
+	private static final String PHASE_TIMER = BridgeTimingPhaseListener.class.getName() + ".phaseTimer";
+
+	@Override
+	public void afterPhase(PhaseEvent phaseEvent) {
+
+		PhaseTimer phaseTimer = getPhaseTimer(phaseEvent.getFacesContext());
+
+		if (phaseTimer != null) {
+			phaseTimer.stop(phaseEvent.getPhaseId());
+		}
+	}
+
+	@Override
+	public void beforePhase(PhaseEvent phaseEvent) {
+
+		PhaseTimer phaseTimer = getPhaseTimer(phaseEvent.getFacesContext());
+
+		if (phaseTimer != null) {
+			phaseTimer.start(phaseEvent.getPhaseId());
+		}
+	}
+
+	@Override
+	public PhaseId getPhaseId() {
+		return PhaseId.ANY_PHASE;
+	}
+
+	private PhaseTimer getPhaseTimer(FacesContext facesContext) {
+
+		// Since the sink is determined once per request, a disabled sink is represented by a NO_TIMER marker so that
+		// the factory is not consulted again for each phase. The timer is cached as a portlet request attribute (rather
+		// than a FacesContext attribute) and is listed as an excluded attribute in META-INF/faces-config.xml so that
+		// its start times are not saved in the BridgeRequestScope and shared with subsequent requests.
+		PortletRequest portletRequest = (PortletRequest) facesContext.getExternalContext().getRequest();
+		Object phaseTimer = portletRequest.getAttribute(PHASE_TIMER);
+
+		if (phaseTimer == null) {
+
+			PortletConfig portletConfig = RequestMapUtil.getPortletConfig(portletRequest);
+
+			if (portletConfig == null) {
+				phaseTimer = PhaseTimer.NO_TIMER;
+			}
+			else {
+
+				BridgeTimingSink bridgeTimingSink = BridgeTimingSinkFactory.getBridgeTimingSinkInstance(portletConfig);
+
+				if (bridgeTimingSink.isEnabled()) {
+					phaseTimer = new PhaseTimer(bridgeTimingSink, portletConfig.getPortletName());
+				}
+				else {
+					phaseTimer = PhaseTimer.NO_TIMER;
+				}
+			}
+
+			portletRequest.setAttribute(PHASE_TIMER, phaseTimer);
+		}
+
+		if (phaseTimer == PhaseTimer.NO_TIMER) {
+			return null;
+		}
+
+		return (PhaseTimer) phaseTimer;
+	}
+
+	private static final class PhaseTimer {
+
+		// Private Constants
+		private static final PhaseTimer NO_TIMER = new PhaseTimer(null, null);
+
+		// Private Final Data Members
+		private final BridgeTimingSink bridgeTimingSink;
+		private final String portletName;
+		private final long[] startTimes;
+
+		private PhaseTimer(BridgeTimingSink bridgeTimingSink, String portletName) {
+			this.bridgeTimingSink = bridgeTimingSink;
+			this.portletName = portletName;
+			this.startTimes = new long[PhaseId.VALUES.size()];
+		}
+
+		private void start(PhaseId phaseId) {
+			startTimes[phaseId.getOrdinal()] = System.nanoTime();
+		}
+
+		private void stop(PhaseId phaseId) {
+
+			long elapsedNanos = System.nanoTime() - startTimes[phaseId.getOrdinal()];
+			bridgeTimingSink.record(portletName, BridgeTimingSink.STEP_FACES_PHASE_PREFIX + phaseId.getName(),
+				elapsedNanos);
+		}
+	}
+}
@@ -33,6 +33,7 @@ import javax.portlet.faces.BridgeUtil;
 
 import com.liferay.faces.bridge.bean.internal.BeanManager;
 import com.liferay.faces.bridge.bean.internal.BeanManagerFactory;
+import com.liferay.faces.bridge.context.map.internal.RequestScopeMap;
 import com.liferay.faces.util.config.ApplicationConfig;
 
 
@@ -78,29 +79,40 @@ public class ManagedBeanScopePhaseListener implements PhaseListener {
 				// managed-beans.
 				ExternalContext externalContext = facesContext.getExternalContext();
 				Map<String, Object> requestScope = externalContext.getRequestMap();
-				List<String> managedBeanKeysToRemove = new ArrayList<String>();
-				Set<Map.Entry<String, Object>> mapEntries = requestScope.entrySet();
-				String appConfigAttrName = ApplicationConfig.class.getName();
-				Map<String, Object> applicationMap = externalContext.getApplicationMap();
-				ApplicationConfig applicationConfig = (ApplicationConfig) applicationMap.get(appConfigAttrName);
-				PortletContext portletContext = (PortletContext) externalContext.getContext();
-				BeanManagerFactory beanManagerFactory = (BeanManagerFactory) BridgeFactoryFinder.getFactory(
-						portletContext, BeanManagerFactory.class);
-				BeanManager beanManager = beanManagerFactory.getBeanManager(applicationConfig.getFacesConfig());
-
-				for (Map.Entry<String, Object> mapEntry : mapEntries) {
-					String potentialManagedBeanName = mapEntry.getKey();
-					Object potentialManagedBeanValue = mapEntry.getValue();
-
-					// Note that the request attribute name will not have a namespace prefix, so it is fine to
-					// simply pass the attribute name.
-					if (beanManager.isManagedBean(potentialManagedBeanName, potentialManagedBeanValue)) {
-						managedBeanKeysToRemove.add(potentialManagedBeanName);
-					}
+
+				// If the request scope map is provided by the bridge, then it has recorded the key of each managed-bean
+				// that was put into it, which makes it unnecessary to examine every request attribute.
+				if (requestScope instanceof RequestScopeMap) {
+
+					RequestScopeMap requestScopeMap = (RequestScopeMap) requestScope;
+					requestScopeMap.removeManagedBeans();
 				}
+				else {
+
+					List<String> managedBeanKeysToRemove = new ArrayList<String>();
+					Set<Map.Entry<String, Object>> mapEntries = requestScope.entrySet();
+					String appConfigAttrName = ApplicationConfig.class.getName();
+					Map<String, Object> applicationMap = externalContext.getApplicationMap();
+					ApplicationConfig applicationConfig = (ApplicationConfig) applicationMap.get(appConfigAttrName);
+					PortletContext portletContext = (PortletContext) externalContext.getContext();
+					BeanManagerFactory beanManagerFactory = (BeanManagerFactory) BridgeFactoryFinder.getFactory(
+							portletContext, BeanManagerFactory.class);
+					BeanManager beanManager = beanManagerFactory.getBeanManager(applicationConfig.getFacesConfig());
+
+					for (Map.Entry<String, Object> mapEntry : mapEntries) {
+						String potentialManagedBeanName = mapEntry.getKey();
+						Object potentialManagedBeanValue = mapEntry.getValue();
+
+						// Note that the request attribute name will not have a namespace prefix, so it is fine to
+						// simply pass the attribute name.
+						if (beanManager.isManagedBean(potentialManagedBeanName, potentialManagedBeanValue)) {
+							managedBeanKeysToRemove.add(potentialManagedBeanName);
+						}
+					}
 
-				for (String managedBeanKey : managedBeanKeysToRemove) {
-					requestScope.remove(managedBeanKey);
+					for (String managedBeanKey : managedBeanKeysToRemove) {
+						requestScope.remove(managedBeanKey);
+					}
 				}
 			}
 		}
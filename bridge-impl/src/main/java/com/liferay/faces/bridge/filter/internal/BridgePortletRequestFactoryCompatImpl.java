@@ -15,14 +15,20 @@
  */
 package com.liferay.faces.bridge.filter.internal;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import javax.portlet.HeaderRequest;
 import javax.portlet.HeaderResponse;
 import javax.portlet.PortalContext;
 import javax.portlet.PortletConfig;
+import javax.portlet.PortletRequest;
+import javax.portlet.faces.Bridge;
 import javax.portlet.faces.BridgeConfig;
 import javax.portlet.faces.filter.BridgePortletRequestFactory;
 
 import com.liferay.faces.bridge.context.internal.PortalContextBridgeImpl;
+import com.liferay.faces.util.helper.BooleanHelper;
 
 
 /**
@@ -30,12 +36,68 @@ import com.liferay.faces.bridge.context.internal.PortalContextBridgeImpl;
  */
 public abstract class BridgePortletRequestFactoryCompatImpl extends BridgePortletRequestFactory {
 
+	// Private Data Members
+	private transient volatile ConcurrentMap<String, PortalContexts> portalContextsMap;
+
 	@Override
 	public HeaderRequest getHeaderRequest(HeaderRequest headerRequest, HeaderResponse headerResponse,
 		PortletConfig portletConfig, BridgeConfig bridgeConfig) {
 
-		PortalContext portalContext = new PortalContextBridgeImpl(headerRequest);
+		PortalContext portalContext = getPortalContext(headerRequest, portletConfig);
 
 		return new HeaderRequestBridgeImpl(headerRequest, portalContext);
 	}
+
+	/**
+	 * Returns a {@link PortalContextBridgeImpl} that is shared by all requests for the specified portlet that have the
+	 * same Faces Ajax status. This prevents the bridge from re-computing the property names and capabilities of the
+	 * portal for every request.
+	 */
+	protected PortalContext getPortalContext(PortletRequest portletRequest, PortletConfig portletConfig) {
+
+		PortalContext portalContext = portletRequest.getPortalContext();
+		ConcurrentMap<String, PortalContexts> portalContextsMap = this.portalContextsMap;
+
+		if (portalContextsMap == null) {
+
+			portalContextsMap = new ConcurrentHashMap<String, PortalContexts>();
+			this.portalContextsMap = portalContextsMap;
+		}
+
+		String key = portletConfig.getPortletName() + "@" + portalContext.getPortalInfo();
+		PortalContexts portalContexts = portalContextsMap.get(key);
+
+		if (portalContexts == null) {
+
+			portalContexts = new PortalContexts(new PortalContextBridgeImpl(portalContext, portletConfig, false),
+					new PortalContextBridgeImpl(portalContext, portletConfig, true));
+
+			PortalContexts existingPortalContexts = portalContextsMap.putIfAbsent(key, portalContexts);
+
+			if (existingPortalContexts != null) {
+				portalContexts = existingPortalContexts;
+			}
+		}
+
+		String facesAjaxParam = portletRequest.getParameter(Bridge.FACES_AJAX_PARAMETER);
+
+		if (BooleanHelper.isTrueToken(facesAjaxParam)) {
+			return portalContexts.ajaxPortalContext;
+		}
+		else {
+			return portalContexts.portalContext;
+		}
+	}
+
+	private static final class PortalContexts {
+
+		// Private Final Data Members
+		private final PortalContext ajaxPortalContext;
+		private final PortalContext portalContext;
+
+		public PortalContexts(PortalContext portalContext, PortalContext ajaxPortalContext) {
+			this.portalContext = portalContext;
+			this.ajaxPortalContext = ajaxPortalContext;
+		}
+	}
 }
@@ -30,8 +30,6 @@ import javax.portlet.ResourceResponse;
 import javax.portlet.faces.BridgeConfig;
 import javax.portlet.faces.filter.BridgePortletRequestFactory;
 
-import com.liferay.faces.bridge.context.internal.PortalContextBridgeImpl;
-
 
 /**
  * @author  Neil Griffin
@@ -45,7 +43,7 @@ public class BridgePortletRequestFactoryImpl extends BridgePortletRequestFactory
 	public ActionRequest getActionRequest(ActionRequest actionRequest, ActionResponse actionResponse,
 		PortletConfig portletConfig, BridgeConfig bridgeConfig) {
 
-		PortalContext portalContext = new PortalContextBridgeImpl(actionRequest);
+		PortalContext portalContext = getPortalContext(actionRequest, portletConfig);
 
 		return new ActionRequestBridgeImpl(actionRequest, portalContext);
 	}
@@ -54,7 +52,7 @@ public class BridgePortletRequestFactoryImpl extends BridgePortletRequestFactory
 	public EventRequest getEventRequest(EventRequest eventRequest, EventResponse eventResponse,
 		PortletConfig portletConfig, BridgeConfig bridgeConfig) {
 
-		PortalContext portalContext = new PortalContextBridgeImpl(eventRequest);
+		PortalContext portalContext = getPortalContext(eventRequest, portletConfig);
 
 		return new EventRequestBridgeImpl(eventRequest, portalContext);
 	}
@@ -63,7 +61,7 @@ public class BridgePortletRequestFactoryImpl extends BridgePortletRequestFactory
 	public RenderRequest getRenderRequest(RenderRequest renderRequest, RenderResponse renderResponse,
 		PortletConfig portletConfig, BridgeConfig bridgeConfig) {
 
-		PortalContext portalContext = new PortalContextBridgeImpl(renderRequest);
+		PortalContext portalContext = getPortalContext(renderRequest, portletConfig);
 
 		return new RenderRequestBridgeImpl(renderRequest, portalContext);
 	}
@@ -72,7 +70,7 @@ public class BridgePortletRequestFactoryImpl extends BridgePortletRequestFactory
 	public ResourceRequest getResourceRequest(ResourceRequest resourceRequest, ResourceResponse resourceResponse,
 		PortletConfig portletConfig, BridgeConfig bridgeConfig) {
 
-		PortalContext portalContext = new PortalContextBridgeImpl(resourceRequest);
+		PortalContext portalContext = getPortalContext(resourceRequest, portletConfig);
 
 		return new ResourceRequestBridgeImpl(resourceRequest, portalContext);
 	}
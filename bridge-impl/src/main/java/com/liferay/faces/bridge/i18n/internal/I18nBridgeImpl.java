@@ -20,8 +20,11 @@ import java.util.Collections;
 import java.util.Enumeration;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.ResourceBundle;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.faces.application.FacesMessage;
 import javax.faces.context.ExternalContext;
@@ -42,6 +45,8 @@ public class I18nBridgeImpl extends I18nWrapper implements Serializable {
 	private static final long serialVersionUID = 3720968042955596126L;
 
 	// Private Data Members
+	private transient volatile ConcurrentMap<PortletConfigMessagesKey, PortletConfigMessages>
+		portletConfigMessagesCache;
 	private I18n wrappedI18n;
 
 	public I18nBridgeImpl(I18n i18n) {
@@ -63,12 +68,7 @@ public class I18nBridgeImpl extends I18nWrapper implements Serializable {
 	@Override
 	public String getMessage(FacesContext facesContext, Locale locale, String messageId) {
 
-		String value = null;
-		ResourceBundle resourceBundle = getPortletConfigResourceBundle(facesContext, locale);
-
-		if ((resourceBundle != null) && resourceBundle.containsKey(messageId)) {
-			value = resourceBundle.getString(messageId);
-		}
+		String value = getPortletConfigMessage(facesContext, locale, messageId);
 
 		if ((value == null) || value.equals(messageId)) {
 			value = super.getMessage(facesContext, locale, messageId);
@@ -80,12 +80,9 @@ public class I18nBridgeImpl extends I18nWrapper implements Serializable {
 	@Override
 	public String getMessage(FacesContext facesContext, Locale locale, String messageId, Object... arguments) {
 
-		String value = null;
-		ResourceBundle resourceBundle = getPortletConfigResourceBundle(facesContext, locale);
-
-		if ((resourceBundle != null) && resourceBundle.containsKey(messageId)) {
+		String value = getPortletConfigMessage(facesContext, locale, messageId);
 
-			value = resourceBundle.getString(messageId);
+		if (value != null) {
 
 			// Give the delegate the opportunity to format the arguments since that is the default functionality
 			// of the base implementation.
@@ -104,7 +101,19 @@ public class I18nBridgeImpl extends I18nWrapper implements Serializable {
 		return wrappedI18n;
 	}
 
-	private ResourceBundle getPortletConfigResourceBundle(FacesContext facesContext, Locale locale) {
+	private String getPortletConfigMessage(FacesContext facesContext, Locale locale, String messageId) {
+
+		PortletConfigMessages portletConfigMessages = getPortletConfigMessages(facesContext, locale);
+
+		if (portletConfigMessages != null) {
+			return portletConfigMessages.getMessage(messageId);
+		}
+		else {
+			return null;
+		}
+	}
+
+	private PortletConfigMessages getPortletConfigMessages(FacesContext facesContext, Locale locale) {
 
 		ExternalContext externalContext = facesContext.getExternalContext();
 		Map<String, Object> requestMap = externalContext.getRequestMap();
@@ -112,25 +121,55 @@ public class I18nBridgeImpl extends I18nWrapper implements Serializable {
 
 		if (portletConfig != null) {
 
-			ResourceBundle resourceBundle = portletConfig.getResourceBundle(locale);
+			ConcurrentMap<PortletConfigMessagesKey, PortletConfigMessages> portletConfigMessagesCache =
+				this.portletConfigMessagesCache;
 
-			try {
-
-				// https://issues.liferay.com/browse/FACES-2819
-				// https://issues.liferay.com/browse/FACES-3097
-				resourceBundle.containsKey("testNullPointerException");
+			if (portletConfigMessagesCache == null) {
+				portletConfigMessagesCache = new ConcurrentHashMap<PortletConfigMessagesKey, PortletConfigMessages>();
+				this.portletConfigMessagesCache = portletConfigMessagesCache;
 			}
-			catch (NullPointerException e) {
-				resourceBundle = new EmptyResourceBundle();
+
+			PortletConfigMessagesKey portletConfigMessagesKey = new PortletConfigMessagesKey(
+					portletConfig.getPortletName(), locale);
+			PortletConfigMessages portletConfigMessages = portletConfigMessagesCache.get(portletConfigMessagesKey);
+
+			if (portletConfigMessages == null) {
+
+				portletConfigMessages = new PortletConfigMessages(getPortletConfigResourceBundle(portletConfig,
+							locale));
+
+				PortletConfigMessages existingPortletConfigMessages = portletConfigMessagesCache.putIfAbsent(
+						portletConfigMessagesKey, portletConfigMessages);
+
+				if (existingPortletConfigMessages != null) {
+					portletConfigMessages = existingPortletConfigMessages;
+				}
 			}
 
-			return resourceBundle;
+			return portletConfigMessages;
 		}
 		else {
 			return null;
 		}
 	}
 
+	private ResourceBundle getPortletConfigResourceBundle(PortletConfig portletConfig, Locale locale) {
+
+		ResourceBundle resourceBundle = portletConfig.getResourceBundle(locale);
+
+		try {
+
+			// https://issues.liferay.com/browse/FACES-2819
+			// https://issues.liferay.com/browse/FACES-3097
+			resourceBundle.containsKey("testNullPointerException");
+		}
+		catch (NullPointerException e) {
+			resourceBundle = new EmptyResourceBundle();
+		}
+
+		return resourceBundle;
+	}
+
 	private static final class EmptyResourceBundle extends ResourceBundle {
 
 		// Private Data Members
@@ -151,4 +190,89 @@ public class I18nBridgeImpl extends I18nWrapper implements Serializable {
 			return null;
 		}
 	}
+
+	/**
+	 * This class memoizes the messages (message patterns) found in a validated {@link PortletConfig} {@link
+	 * ResourceBundle} so that repeated message lookups do not have to traverse the bundle parent chain.
+	 */
+	private static final class PortletConfigMessages {
+
+		// Private Constants
+		private static final String MESSAGE_NOT_FOUND = PortletConfigMessages.class.getName() + ".MESSAGE_NOT_FOUND";
+
+		// Private Final Data Members
+		private final ConcurrentMap<String, String> messages;
+		private final ResourceBundle resourceBundle;
+
+		public PortletConfigMessages(ResourceBundle resourceBundle) {
+			this.messages = new ConcurrentHashMap<String, String>();
+			this.resourceBundle = resourceBundle;
+		}
+
+		public String getMessage(String messageId) {
+
+			if (messageId == null) {
+				return null;
+			}
+
+			String message = messages.get(messageId);
+
+			if (message == null) {
+
+				message = MESSAGE_NOT_FOUND;
+
+				if (resourceBundle.containsKey(messageId)) {
+
+					String resourceBundleMessage = resourceBundle.getString(messageId);
+
+					if (resourceBundleMessage != null) {
+						message = resourceBundleMessage;
+					}
+				}
+
+				messages.put(messageId, message);
+			}
+
+			if (message == MESSAGE_NOT_FOUND) {
+				return null;
+			}
+
+			return message;
+		}
+	}
+
+	private static final class PortletConfigMessagesKey {
+
+		// Private Final Data Members
+		private final Locale locale;
+		private final String portletName;
+
+		public PortletConfigMessagesKey(String portletName, Locale locale) {
+			this.portletName = portletName;
+			this.locale = locale;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (obj == this) {
+				return true;
+			}
+
+			if (obj instanceof PortletConfigMessagesKey) {
+
+				PortletConfigMessagesKey portletConfigMessagesKey = (PortletConfigMessagesKey) obj;
+
+				return Objects.equals(portletName, portletConfigMessagesKey.portletName) &&
+					Objects.equals(locale, portletConfigMessagesKey.locale);
+			}
+
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(portletName, locale);
+		}
+	}
 }
@@ -0,0 +1,50 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.internal;
+
+import java.io.IOException;
+import java.io.Writer;
+
+
+/**
+ * This class wraps a {@link BridgeURI} so that it can be accessed as a {@link javax.portlet.BaseURL} whose string forms
+ * were produced by a {@link ResourceURLTemplate}.
+ *
+ * @author  Neil Griffin
+ */
+public class BaseURLTemplatedImpl extends BaseURLBridgeURIAdapterImpl {
+
+	// Private Final Data Members
+	private final String[] encodedValues;
+	private final ResourceURLTemplate resourceURLTemplate;
+
+	public BaseURLTemplatedImpl(BridgeURI bridgeURI, ResourceURLTemplate resourceURLTemplate,
+		String[] encodedValues) {
+		super(bridgeURI);
+		this.resourceURLTemplate = resourceURLTemplate;
+		this.encodedValues = encodedValues;
+	}
+
+	@Override
+	public String toString() {
+		return resourceURLTemplate.toString(encodedValues, false);
+	}
+
+	@Override
+	public void write(Writer out, boolean escapeXML) throws IOException {
+		out.write(resourceURLTemplate.toString(encodedValues, escapeXML));
+	}
+}
@@ -33,6 +33,7 @@ public class BridgeConfigAttributeMap extends HashMap<String, Object> {
 	public static final String CONFIGURED_FACES_SERVLET_MAPPINGS = "configuredFacesServletMappings";
 	public static final String CONFIGURED_SYSTEM_EVENT_LISTENERS = "configuredSystemEventListeners";
 	public static final String CONFIGURED_SUFFIXES = "configuredSuffixes";
+	public static final String DEFAULT_VIEW_ID_MAPS = "defaultViewIdMaps";
 
 	// serialVersionUID
 	private static final long serialVersionUID = 7385067508147506114L;
@@ -21,6 +21,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.portlet.PortletConfig;
 import javax.portlet.PortletContext;
@@ -69,6 +70,10 @@ public class BridgeConfigImpl implements BridgeConfig {
 
 		// configuredSuffixes
 		bridgeConfigAttributeMap.put(BridgeConfigAttributeMap.CONFIGURED_SUFFIXES, facesConfig.getConfiguredSuffixes());
+
+		// defaultViewIdMaps (registered by portlet name when the bridge is initialized)
+		bridgeConfigAttributeMap.put(BridgeConfigAttributeMap.DEFAULT_VIEW_ID_MAPS,
+			new ConcurrentHashMap<String, Map<String, String>>());
 		this.bridgeConfigAttributeMap = Collections.unmodifiableMap(bridgeConfigAttributeMap);
 
 		// excludedRequestAttributes
@@ -39,6 +39,7 @@ import javax.portlet.faces.filter.BridgePortletConfigFactory;
 
 import com.liferay.faces.bridge.scope.internal.BridgeRequestScopeManager;
 import com.liferay.faces.bridge.scope.internal.BridgeRequestScopeManagerFactory;
+import com.liferay.faces.bridge.util.internal.ViewUtil;
 import com.liferay.faces.util.logging.Logger;
 import com.liferay.faces.util.logging.LoggerFactory;
 
@@ -202,6 +203,12 @@ public class BridgeImpl extends BridgeCompatImpl {
 			logger.info("Initializing {0} {1} for {2}:{3}", getTitle(), getVersion(), portletContextName,
 				portletConfig.getPortletName());
 		}
+
+		// Build the default viewId map of the portlet once so that it does not have to be re-read from the portlet
+		// init-param values during each request.
+		PortletConfig wrappedPortletConfig = BridgePortletConfigFactory.getPortletConfigInstance(portletConfig);
+		BridgeConfig bridgeConfig = BridgeConfigFactory.getBridgeConfigInstance(wrappedPortletConfig);
+		ViewUtil.registerDefaultViewIdMap(bridgeConfig, wrappedPortletConfig);
 	}
 
 	@Override
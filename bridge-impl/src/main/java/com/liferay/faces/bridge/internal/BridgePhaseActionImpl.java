@@ -89,7 +89,7 @@ public class BridgePhaseActionImpl extends BridgePhaseCompat_2_2_Impl {
 
 			// Execute all the phases of the JSF lifecycle except for RENDER_RESPONSE since that can only be executed
 			// during the RENDER_PHASE of the portlet lifecycle.
-			facesLifecycle.execute(facesContext);
+			executeFacesLifecycle(facesContext);
 			throwQueuedExceptionIfNecessary(facesContext);
 
 			// Set a flag on the bridge request scope indicating that the Faces Lifecycle has executed.
@@ -110,7 +110,7 @@ public class BridgePhaseActionImpl extends BridgePhaseCompat_2_2_Impl {
 
 				// Save the faces view root and any messages in the faces context so that they can be restored during
 				// the RENDER_PHASE of the portlet lifecycle.
-				bridgeRequestScope.saveState(facesContext);
+				saveBridgeRequestScopeState(facesContext);
 				maintainBridgeRequestScope(actionRequest, actionResponse,
 					BridgeRequestScope.Transport.RENDER_PARAMETER);
 			}
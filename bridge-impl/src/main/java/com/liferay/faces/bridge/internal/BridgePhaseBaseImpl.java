@@ -39,9 +39,15 @@ import com.liferay.faces.bridge.context.internal.IncongruityContext;
 import com.liferay.faces.bridge.context.internal.IncongruityContextFactory;
 import com.liferay.faces.bridge.helper.internal.PortletModeHelper;
 import com.liferay.faces.bridge.scope.internal.BridgeRequestScope;
+import com.liferay.faces.bridge.scope.internal.BridgeRequestScopeCacheCounters;
+import com.liferay.faces.bridge.scope.internal.BridgeRequestScopeCacheCounters.RemovalReason;
+import com.liferay.faces.bridge.scope.internal.BridgeRequestScopeCacheInstrumentedImpl;
 import com.liferay.faces.bridge.scope.internal.BridgeRequestScopeFactory;
 import com.liferay.faces.bridge.scope.internal.BridgeRequestScopeManager;
 import com.liferay.faces.bridge.scope.internal.BridgeRequestScopeManagerFactory;
+import com.liferay.faces.bridge.timing.internal.BridgeTimingSink;
+import com.liferay.faces.bridge.timing.internal.BridgeTimingSinkFactory;
+import com.liferay.faces.bridge.timing.internal.BridgeTimingSinkNoOpImpl;
 import com.liferay.faces.bridge.util.internal.ViewUtil;
 import com.liferay.faces.util.cache.Cache;
 import com.liferay.faces.util.helper.BooleanHelper;
@@ -63,6 +69,7 @@ public abstract class BridgePhaseBaseImpl implements BridgePhase {
 	// Protected Data Members
 	protected BridgeConfig bridgeConfig;
 	protected BridgeRequestScope bridgeRequestScope;
+	protected BridgeTimingSink bridgeTimingSink;
 	protected Cache<String, BridgeRequestScope> bridgeRequestScopeCache;
 	protected boolean bridgeRequestScopeActionEnabled;
 	protected FacesContext facesContext;
@@ -77,13 +84,14 @@ public abstract class BridgePhaseBaseImpl implements BridgePhase {
 
 	public BridgePhaseBaseImpl(PortletConfig portletConfig, BridgeConfig bridgeConfig) {
 
-		this.portletConfig = portletConfig;
-		this.portletContext = portletConfig.getPortletContext();
-		this.portletName = portletConfig.getPortletName();
-		this.bridgeConfig = bridgeConfig;
+		this(portletConfig, bridgeConfig, getFacesLifecycle(portletConfig.getPortletContext()));
+
 		this.bridgeRequestScopeActionEnabled = PortletConfigParam.BridgeRequestScopeActionEnabled.getBooleanValue(
 				portletConfig);
 
+		// Get the sink that records the elapsed time of each step of the request.
+		this.bridgeTimingSink = BridgeTimingSinkFactory.getBridgeTimingSinkInstance(portletConfig);
+
 		// Initialize the incongruity context implementation.
 		this.incongruityContext = IncongruityContextFactory.getIncongruityContextInstance(portletContext);
 
@@ -91,17 +99,36 @@ public abstract class BridgePhaseBaseImpl implements BridgePhase {
 		BridgeRequestScopeManager bridgeRequestScopeManager = BridgeRequestScopeManagerFactory
 			.getBridgeRequestScopeManagerInstance(portletContext);
 		this.bridgeRequestScopeCache = bridgeRequestScopeManager.getBridgeRequestScopeCache();
+	}
+
+	/**
+	 * Creates a bridge phase that uses the specified JSF lifecycle and does not record elapsed times. Unlike the public
+	 * constructor, this constructor does not look up any factories, which makes it possible to create a bridge phase
+	 * outside of a portlet container.
+	 */
+	/* package-private */ BridgePhaseBaseImpl(PortletConfig portletConfig, BridgeConfig bridgeConfig,
+		Lifecycle facesLifecycle) {
+
+		this.portletConfig = portletConfig;
+		this.portletContext = portletConfig.getPortletContext();
+		this.portletName = portletConfig.getPortletName();
+		this.bridgeConfig = bridgeConfig;
+		this.bridgeTimingSink = BridgeTimingSinkNoOpImpl.INSTANCE;
+		this.facesLifecycle = facesLifecycle;
+	}
+
+	private static Lifecycle getFacesLifecycle(PortletContext portletContext) {
 
 		// Get the default lifecycle instance from the factory.
 		LifecycleFactory lifecycleFactory = (LifecycleFactory) FactoryFinder.getFactory(
 				FactoryFinder.LIFECYCLE_FACTORY);
-		String lifecycleId = this.portletContext.getInitParameter(Bridge.LIFECYCLE_ID);
+		String lifecycleId = portletContext.getInitParameter(Bridge.LIFECYCLE_ID);
 
 		if (lifecycleId == null) {
 			lifecycleId = LifecycleFactory.DEFAULT_LIFECYCLE;
 		}
 
-		this.facesLifecycle = lifecycleFactory.getLifecycle(lifecycleId);
+		return lifecycleFactory.getLifecycle(lifecycleId);
 	}
 
 	protected abstract void queueHandleableException(PortletRequest portletRequest, FacesContext facesContext,
@@ -128,6 +155,17 @@ public abstract class BridgePhaseBaseImpl implements BridgePhase {
 		}
 	}
 
+	/**
+	 * Executes all of the phases of the JSF lifecycle except for RENDER_RESPONSE, and records the elapsed time in the
+	 * {@link BridgeTimingSink}.
+	 */
+	protected void executeFacesLifecycle(FacesContext facesContext) {
+
+		long startTime = startTiming();
+		facesLifecycle.execute(facesContext);
+		stopTiming(BridgeTimingSink.STEP_FACES_LIFECYCLE_EXECUTE, startTime);
+	}
+
 	protected FacesContext getFacesContext(PortletRequest portletRequest, PortletResponse portletResponse,
 		Lifecycle lifecycle) {
 
@@ -186,6 +224,8 @@ public abstract class BridgePhaseBaseImpl implements BridgePhase {
 	protected void init(PortletRequest portletRequest, PortletResponse portletResponse,
 		Bridge.PortletPhase portletPhase) {
 
+		long startTime = startTiming();
+
 		// Save the Bridge.PortletPhase as a request attribute so that it can be picked up by the
 		// BridgeRequestAttributeListener.
 		portletRequest.setAttribute(Bridge.PORTLET_LIFECYCLE_PHASE, portletPhase);
@@ -212,16 +252,9 @@ public abstract class BridgePhaseBaseImpl implements BridgePhase {
 		facesContext = getFacesContext(portletRequest, portletResponse, facesLifecycle);
 
 		// If not set by a previous request, then set the default viewIdHistory for the portlet modes.
-		for (String portletMode : PortletModeHelper.PORTLET_MODE_NAMES) {
+		initViewIdHistory(portletRequest.getPortletSession());
 
-			String attributeName = Bridge.VIEWID_HISTORY + "." + portletMode;
-			PortletSession portletSession = portletRequest.getPortletSession();
-
-			if (portletSession.getAttribute(attributeName) == null) {
-				Map<String, String> defaultViewIdMap = ViewUtil.getDefaultViewIdMap(portletConfig);
-				portletSession.setAttribute(attributeName, defaultViewIdMap.get(portletMode));
-			}
-		}
+		stopTiming(BridgeTimingSink.STEP_BRIDGE_INIT, startTime);
 	}
 
 	protected void initBridgeRequestScope(PortletRequest portletRequest, PortletResponse portletResponse,
@@ -256,13 +289,24 @@ public abstract class BridgePhaseBaseImpl implements BridgePhase {
 			String portletName = portletConfig.getPortletName();
 			String bridgeRequestScopeKey = portletName + PARAM_BRIDGE_REQUEST_SCOPE_ID;
 
+			// If the bridge request scope cache is instrumented, then make the counters for this portlet available as
+			// a request attribute for the sake of diagnostics.
+			if (bridgeRequestScopeCache instanceof BridgeRequestScopeCacheInstrumentedImpl) {
+
+				BridgeRequestScopeCacheInstrumentedImpl bridgeRequestScopeCacheInstrumentedImpl =
+					(BridgeRequestScopeCacheInstrumentedImpl) bridgeRequestScopeCache;
+				portletRequest.setAttribute(BridgeRequestScopeCacheCounters.class.getName(),
+					bridgeRequestScopeCacheInstrumentedImpl.getOrCreateCounters(portletName));
+			}
+
 			// If there is a render parameter value found for the "id", then return the cached bridge request scope
 			// associated with the "id".
 			String bridgeRequestScopeId = portletRequest.getParameter(bridgeRequestScopeKey);
 
 			if (bridgeRequestScopeId != null) {
 
-				bridgeRequestScope = bridgeRequestScopeCache.getValue(bridgeRequestScopeId);
+				bridgeRequestScope = BridgeRequestScopeCacheInstrumentedImpl.getBridgeRequestScope(
+						bridgeRequestScopeCache, portletName, bridgeRequestScopeId);
 
 				if (bridgeRequestScope != null) {
 					logger.debug("Found render parameter name=[{0}] value=[{1}] and cached bridgeRequestScope=[{2}]",
@@ -292,7 +336,8 @@ public abstract class BridgePhaseBaseImpl implements BridgePhase {
 
 					portletSession.removeAttribute(bridgeRequestScopeKey);
 
-					bridgeRequestScope = bridgeRequestScopeCache.getValue(bridgeRequestScopeId);
+					bridgeRequestScope = BridgeRequestScopeCacheInstrumentedImpl.getBridgeRequestScope(
+							bridgeRequestScopeCache, portletName, bridgeRequestScopeId);
 
 					if (bridgeRequestScope != null) {
 
@@ -325,6 +370,29 @@ public abstract class BridgePhaseBaseImpl implements BridgePhase {
 		}
 	}
 
+	protected void initViewIdHistory(PortletSession portletSession) {
+
+		Map<String, String> defaultViewIdMap = ViewUtil.getDefaultViewIdMap(bridgeConfig, portletConfig);
+
+		if (PortletConfigParam.ViewIdHistoryCompact.getBooleanValue(portletConfig)) {
+
+			if (portletSession.getAttribute(Bridge.VIEWID_HISTORY) == null) {
+				portletSession.setAttribute(Bridge.VIEWID_HISTORY, new ViewIdHistory(defaultViewIdMap));
+			}
+		}
+		else {
+
+			for (String portletMode : PortletModeHelper.PORTLET_MODE_NAMES) {
+
+				String attributeName = ViewIdHistory.getAttributeName(portletMode);
+
+				if (portletSession.getAttribute(attributeName) == null) {
+					portletSession.setAttribute(attributeName, defaultViewIdMap.get(portletMode));
+				}
+			}
+		}
+	}
+
 	protected void maintainBridgeRequestScope(PortletRequest portletRequest, PortletResponse portletResponse,
 		BridgeRequestScope.Transport bridgeRequestScopeTransport) {
 
@@ -375,4 +443,69 @@ public abstract class BridgePhaseBaseImpl implements BridgePhase {
 			}
 		}
 	}
+
+	/**
+	 * Removes the bridge request scope from the cache. If the cache is instrumented, then the removal is counted
+	 * according to the specified reason.
+	 */
+	protected void removeBridgeRequestScope(RemovalReason removalReason) {
+		BridgeRequestScopeCacheInstrumentedImpl.removeBridgeRequestScope(bridgeRequestScopeCache,
+			bridgeRequestScope.getId(), removalReason);
+	}
+
+	/**
+	 * Executes the RENDER_RESPONSE phase of the JSF lifecycle, and records the elapsed time in the {@link
+	 * BridgeTimingSink}.
+	 */
+	protected void renderFacesLifecycle(FacesContext facesContext) {
+
+		long startTime = startTiming();
+		facesLifecycle.render(facesContext);
+		stopTiming(BridgeTimingSink.STEP_FACES_LIFECYCLE_RENDER, startTime);
+	}
+
+	/**
+	 * Restores the state of the bridge request scope, and records the elapsed time in the {@link BridgeTimingSink}.
+	 */
+	protected void restoreBridgeRequestScopeState(FacesContext facesContext) {
+
+		long startTime = startTiming();
+		bridgeRequestScope.restoreState(facesContext);
+		stopTiming(BridgeTimingSink.STEP_SCOPE_RESTORE_STATE, startTime);
+	}
+
+	/** Saves the state of the bridge request scope, and records the elapsed time in the {@link BridgeTimingSink}. */
+	protected void saveBridgeRequestScopeState(FacesContext facesContext) {
+
+		long startTime = startTiming();
+		bridgeRequestScope.saveState(facesContext);
+		stopTiming(BridgeTimingSink.STEP_SCOPE_SAVE_STATE, startTime);
+	}
+
+	/**
+	 * Returns the current value of {@link System#nanoTime()} if the {@link BridgeTimingSink} is enabled, otherwise
+	 * zero.
+	 */
+	protected long startTiming() {
+
+		if (bridgeTimingSink.isEnabled()) {
+			return System.nanoTime();
+		}
+
+		return 0L;
+	}
+
+	/**
+	 * Records the time that has elapsed since the specified start time in the {@link BridgeTimingSink} if it is
+	 * enabled.
+	 *
+	 * @param  stepName   The name of the step that was timed.
+	 * @param  startTime  The value returned by {@link #startTiming()} at the beginning of the step.
+	 */
+	protected void stopTiming(String stepName, long startTime) {
+
+		if (bridgeTimingSink.isEnabled()) {
+			bridgeTimingSink.record(portletName, stepName, System.nanoTime() - startTime);
+		}
+	}
 }
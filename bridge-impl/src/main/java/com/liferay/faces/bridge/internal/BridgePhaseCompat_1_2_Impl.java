@@ -15,6 +15,7 @@
  */
 package com.liferay.faces.bridge.internal;
 
+import javax.faces.lifecycle.Lifecycle;
 import javax.portlet.PortletConfig;
 import javax.portlet.PortletRequest;
 import javax.portlet.faces.BridgeConfig;
@@ -31,6 +32,12 @@ public abstract class BridgePhaseCompat_1_2_Impl extends BridgePhaseBaseImpl {
 		super(portletConfig, bridgeConfig);
 	}
 
+	/* package-private */ BridgePhaseCompat_1_2_Impl(PortletConfig portletConfig, BridgeConfig bridgeConfig,
+		Lifecycle facesLifecycle) {
+
+		super(portletConfig, bridgeConfig, facesLifecycle);
+	}
+
 	@Override
 	protected void removeBridgeContextAttribute(PortletRequest portletRequest) {
 		// no-op since this is only used to support legacy ICEFaces (which is not compatible with JSF2.2).
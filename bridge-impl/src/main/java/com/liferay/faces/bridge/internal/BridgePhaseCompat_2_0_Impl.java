@@ -26,6 +26,7 @@ import javax.faces.context.ExternalContext;
 import javax.faces.context.FacesContext;
 import javax.faces.event.ExceptionQueuedEvent;
 import javax.faces.event.ExceptionQueuedEventContext;
+import javax.faces.lifecycle.Lifecycle;
 import javax.portlet.PortletConfig;
 import javax.portlet.PortletRequest;
 import javax.portlet.faces.BridgeConfig;
@@ -46,6 +47,12 @@ public abstract class BridgePhaseCompat_2_0_Impl extends BridgePhaseCompat_1_2_I
 		super(portletConfig, bridgeConfig);
 	}
 
+	/* package-private */ BridgePhaseCompat_2_0_Impl(PortletConfig portletConfig, BridgeConfig bridgeConfig,
+		Lifecycle facesLifecycle) {
+
+		super(portletConfig, bridgeConfig, facesLifecycle);
+	}
+
 	public Writer getResponseOutputWriter(ExternalContext externalContext) throws IOException {
 		return externalContext.getResponseOutputWriter();
 	}
@@ -32,6 +32,12 @@ public abstract class BridgePhaseCompat_2_2_Impl extends BridgePhaseCompat_2_0_I
 		super(portletConfig, bridgeConfig);
 	}
 
+	/* package-private */ BridgePhaseCompat_2_2_Impl(PortletConfig portletConfig, BridgeConfig bridgeConfig,
+		Lifecycle facesLifecycle) {
+
+		super(portletConfig, bridgeConfig, facesLifecycle);
+	}
+
 	protected void attachClientWindowToLifecycle(FacesContext facesContext, Lifecycle lifecycle) {
 		lifecycle.attachWindow(facesContext);
 	}
@@ -91,14 +91,14 @@ public class BridgePhaseEventImpl extends BridgePhaseCompat_2_2_Impl {
 				init(eventRequest, eventResponse, Bridge.PortletPhase.EVENT_PHASE);
 
 				// Restore the BridgeRequestScope that may have started during the ACTION_PHASE.
-				bridgeRequestScope.restoreState(facesContext);
+				restoreBridgeRequestScopeState(facesContext);
 
 				// PROPOSED-FOR-BRIDGE3-API: https://issues.apache.org/jira/browse/PORTLETBRIDGE-202
 				bridgeRequestScope.setPortletMode(eventRequest.getPortletMode());
 
 				// Execute the JSF lifecycle so that ONLY the RESTORE_VIEW phase executes (note that this this is
 				// accomplished by the IPCPhaseListener).
-				facesLifecycle.execute(facesContext);
+				executeFacesLifecycle(facesContext);
 				throwQueuedExceptionIfNecessary(facesContext);
 
 				// Set a flag on the bridge request scope indicating that the Faces Lifecycle has executed.
@@ -132,7 +132,7 @@ public class BridgePhaseEventImpl extends BridgePhaseCompat_2_2_Impl {
 
 				// Save the faces view root and any messages in the faces context so that they can be restored during
 				// the RENDER_PHASE of the portlet lifecycle.
-				bridgeRequestScope.saveState(facesContext);
+				saveBridgeRequestScopeState(facesContext);
 
 				// In accordance with Section 5.2.5 of the Spec, if a portlet mode change has occurred, then the
 				// bridge request scope must not be maintained.
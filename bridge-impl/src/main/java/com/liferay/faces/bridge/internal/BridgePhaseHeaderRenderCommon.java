@@ -17,6 +17,7 @@ package com.liferay.faces.bridge.internal;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -29,6 +30,7 @@ import javax.faces.context.FacesContext;
 import javax.faces.event.PhaseEvent;
 import javax.faces.event.PhaseId;
 import javax.faces.event.PhaseListener;
+import javax.faces.lifecycle.Lifecycle;
 import javax.portlet.MimeResponse;
 import javax.portlet.PortletConfig;
 import javax.portlet.PortletMode;
@@ -45,6 +47,8 @@ import com.liferay.faces.bridge.application.internal.BridgeNavigationHandlerImpl
 import com.liferay.faces.bridge.context.internal.CapturingWriter;
 import com.liferay.faces.bridge.context.internal.WriterOperation;
 import com.liferay.faces.bridge.event.internal.IPCPhaseListener;
+import com.liferay.faces.bridge.scope.internal.BridgeRequestScopeCacheCounters.RemovalReason;
+import com.liferay.faces.bridge.timing.internal.BridgeTimingSink;
 import com.liferay.faces.util.logging.Logger;
 import com.liferay.faces.util.logging.LoggerFactory;
 
@@ -60,6 +64,9 @@ public abstract class BridgePhaseHeaderRenderCommon extends BridgePhaseCompat_2_
 	// Logger
 	private static final Logger logger = LoggerFactory.getLogger(BridgePhaseHeaderRenderCommon.class);
 
+	// Protected Constants
+	protected static final int MAX_RENDER_REDIRECTS = 16;
+
 	// Private Constants
 	private static final String HANDLING_BRIDGE_INVALID_VIEW_PATH_EXCEPTION = BridgePhaseHeaderRenderCommon.class
 		.getName() + ".HANDLING_BRIDGE_INVALID_VIEW_PATH_EXCEPTION";
@@ -68,6 +75,12 @@ public abstract class BridgePhaseHeaderRenderCommon extends BridgePhaseCompat_2_
 		super(portletConfig, bridgeConfig);
 	}
 
+	/* package-private */ BridgePhaseHeaderRenderCommon(PortletConfig portletConfig, BridgeConfig bridgeConfig,
+		Lifecycle facesLifecycle) {
+
+		super(portletConfig, bridgeConfig, facesLifecycle);
+	}
+
 	public static boolean isHandlingBridgeInvalidViewPathException(PortletRequest portletRequest) {
 
 		Boolean handlingBridgeInvalidViewPathException = (Boolean) portletRequest.getAttribute(
@@ -88,11 +101,205 @@ public abstract class BridgePhaseHeaderRenderCommon extends BridgePhaseCompat_2_
 
 		init(renderRequest, mimeResponse, portletPhase);
 
-		// Determine whether or not the Faces lifecycle was already executed.
-		boolean facesLifecycleExecuted = bridgeRequestScope.isFacesLifecycleExecuted();
+		// Restore the view and messages, and execute the RESTORE_VIEW phase of the JSF lifecycle if necessary.
+		restoreView(facesContext, renderRedirectViewId, bridgeRequestScope.isFacesLifecycleExecuted());
+
+		// Otherwise, if the PortletMode has changed, and a navigation-rule hasn't yet fired (which could have happened
+		// in the EVENT_PHASE), then switch to the appropriate PortletMode and navigate to the current viewId in the
+		// UIViewRoot.
+		if (bridgeRequestScope.isPortletModeChanged() && !bridgeRequestScope.isNavigationOccurred()) {
+			BridgeNavigationHandler bridgeNavigationHandler = getBridgeNavigationHandler(facesContext);
+			PortletMode fromPortletMode = bridgeRequestScope.getPortletMode();
+			PortletMode toPortletMode = renderRequest.getPortletMode();
+			bridgeNavigationHandler.handleNavigation(facesContext, fromPortletMode, toPortletMode);
+		}
+
+		// Determines whether or not lifecycle incongruities should be managed.
+		boolean manageIncongruities = PortletConfigParam.ManageIncongruities.getBooleanValue(portletConfig);
+
+		// Now that we're executing the RENDER_PHASE of the Portlet lifecycle, before the JSF
+		// RENDER_RESPONSE phase is executed, we have to fix some incongruities between the Portlet
+		// lifecycle and the JSF lifecycle that may have occurred during the ACTION_PHASE of the Portlet
+		// lifecycle.
+		if (manageIncongruities) {
+			incongruityContext.makeCongruous(facesContext);
+		}
+
+		// Execute the RENDER_RESPONSE phase of the faces lifecycle.
+		logger.debug("Executing Faces render");
+		renderFacesLifecycle(facesContext);
+
+		// Set the view history according to Section 5.4.3 of the Bridge Spec.
+		setViewHistory(facesContext.getViewRoot().getViewId());
+
+		// Spec 6.6 (Namespacing)
+		indicateNamespacingToConsumers(facesContext.getViewRoot(), mimeResponse);
+
+		// If a render-redirect occurred, then render the view found in the redirect URL (possibly more than once in the
+		// case of chained render-redirects).
+		ExternalContext externalContext = facesContext.getExternalContext();
+		Map<String, Object> requestMap = externalContext.getRequestMap();
+
+		executeRenderRedirects(requestMap, new RenderRedirectExecutor() {
+
+				@Override
+				public void executeRenderRedirect(String renderRedirectViewId) throws IOException {
+					renderRedirect(renderRedirectViewId, portletPhase);
+				}
+			});
+
+		// If there are captured writer operations, then that means either the JSF lifecycle executed in the
+		// HEADER_PHASE or that a render-redirect executed in the HEADER_PHASE or RESOURCE_PHASE.
+		externalContext = facesContext.getExternalContext();
+
+		Writer responseOutputWriter = getResponseOutputWriter(externalContext);
+
+		if (responseOutputWriter instanceof CapturingWriter) {
+
+			CapturingWriter capturingWriter = (CapturingWriter) responseOutputWriter;
+			List<WriterOperation> writerOperations = capturingWriter.getWriterOperations();
+
+			if (writerOperations != null) {
+
+				// If running in the RENDER_PHASE of the portlet lifecycle, then invoke each writer operation so that
+				// the markup will be written to the response.
+				if (portletPhase == Bridge.PortletPhase.RENDER_PHASE) {
+
+					long startTime = startTiming();
+
+					for (WriterOperation writerOperation : writerOperations) {
+						writerOperation.invoke(responseOutputWriter);
+					}
+
+					stopTiming(BridgeTimingSink.STEP_WRITER_REPLAY, startTime);
+				}
+
+				// Otherwise, since running in the HEADER_PHASE, save the list of writer operations so that the markup
+				// will be rendered in the subsequent RENDER_PHASE.
+				else {
+					renderRequest.setAttribute(Bridge.RENDER_RESPONSE_OUTPUT, writerOperations);
+				}
+			}
+		}
+	}
+
+	protected BridgeNavigationHandler getBridgeNavigationHandler(FacesContext facesContext) {
+		BridgeNavigationHandler bridgeNavigationHandler;
+		NavigationHandler navigationHandler = facesContext.getApplication().getNavigationHandler();
+
+		if (navigationHandler instanceof BridgeNavigationHandler) {
+			bridgeNavigationHandler = (BridgeNavigationHandler) navigationHandler;
+		}
+		else {
+			bridgeNavigationHandler = new BridgeNavigationHandlerImpl(navigationHandler);
+		}
+
+		return bridgeNavigationHandler;
+	}
+
+	/**
+	 * Executes each render-redirect that is indicated by the {@link BridgeExt#RENDER_REDIRECT} request attribute until
+	 * no further render-redirect is requested. In order to guard against an infinite loop of render-redirects, a
+	 * BridgeException is thrown if more than {@link #MAX_RENDER_REDIRECTS} render-redirects are chained together.
+	 *
+	 * @return  The number of render-redirects that were executed.
+	 */
+	protected static int executeRenderRedirects(Map<String, Object> requestMap,
+		RenderRedirectExecutor renderRedirectExecutor) throws BridgeException, IOException {
+
+		int renderRedirectCount = 0;
+		Boolean renderRedirect = (Boolean) requestMap.remove(BridgeExt.RENDER_REDIRECT);
+
+		while ((renderRedirect != null) && renderRedirect) {
+
+			String renderRedirectViewId = (String) requestMap.remove(BridgeExt.RENDER_REDIRECT_VIEW_ID);
+
+			if (renderRedirectViewId == null) {
+
+				logger.warn("Unable to perform render-redirect since the viewId is unknown");
+
+				break;
+			}
+
+			renderRedirectCount++;
+
+			if (renderRedirectCount > MAX_RENDER_REDIRECTS) {
+				throw new BridgeException("Exceeded the maximum of " + MAX_RENDER_REDIRECTS +
+					" chained render-redirects at viewId=[" + renderRedirectViewId + "]");
+			}
+
+			renderRedirectExecutor.executeRenderRedirect(renderRedirectViewId);
+			renderRedirect = (Boolean) requestMap.remove(BridgeExt.RENDER_REDIRECT);
+		}
+
+		return renderRedirectCount;
+	}
+
+	/**
+	 * Renders the view found in a render-redirect URL. Since the bridge request scope was already restored (and removed
+	 * if necessary) and lifecycle incongruities have already been managed, the only things that need to be done are to
+	 * discard the markup that was buffered for the original view, create a new FacesContext with a UIViewRoot for the
+	 * view, and execute the RENDER_RESPONSE phase of the JSF lifecycle. Note that a new FacesContext is required
+	 * because the responseComplete flag of the original FacesContext cannot be reset.
+	 *
+	 * @param  renderRedirectViewId  The viewId found in the render-redirect URL.
+	 * @param  portletPhase          The current portlet lifecycle phase.
+	 */
+	protected void renderRedirect(String renderRedirectViewId, Bridge.PortletPhase portletPhase) throws BridgeException,
+		IOException {
+
+		RenderRequest renderRequest = getRenderRequest();
+		MimeResponse mimeResponse = getMimeResponse();
+		Writer responseOutputWriter = getResponseOutputWriter(facesContext.getExternalContext());
+
+		// Cleanup the old FacesContext.
+		facesContext.responseComplete();
+		facesContext.release();
+
+		// If the render-redirect standard feature is enabled in web.xml or portlet.xml, then the ResponseOutputWriter
+		// has buffered up markup that must be discarded. This is because we don't want the markup from the original
+		// Faces view to be included with the markup of Faces view found in the redirect URL.
+		if (responseOutputWriter instanceof CapturingWriter) {
+
+			CapturingWriter capturingWriter = (CapturingWriter) responseOutputWriter;
+			capturingWriter.getWriterOperations().clear();
+		}
+
+		facesContext = getFacesContext(renderRequest, mimeResponse, facesLifecycle);
+
+		// Since the view is created from the render-redirect URL, the RESTORE_VIEW phase of the JSF lifecycle is not
+		// executed again.
+		setRenderRedirectViewRoot(facesContext, renderRedirectViewId);
+		throwQueuedExceptionIfNecessary(facesContext);
+		logger.debug("Performed render-redirect to viewId=[{0}] in portletPhase=[{1}]", renderRedirectViewId,
+			portletPhase);
+
+		// Execute the RENDER_RESPONSE phase of the faces lifecycle.
+		renderFacesLifecycle(facesContext);
+
+		// Set the view history according to Section 5.4.3 of the Bridge Spec.
+		setViewHistory(facesContext.getViewRoot().getViewId());
+
+		// Spec 6.6 (Namespacing)
+		indicateNamespacingToConsumers(facesContext.getViewRoot(), mimeResponse);
+	}
+
+	/**
+	 * Prepares the specified FacesContext for the RENDER_RESPONSE phase of the JSF lifecycle by restoring the bridge
+	 * request scope and either creating the view found in a render-redirect URL or executing the RESTORE_VIEW phase.
+	 *
+	 * @param  facesContext            The current FacesContext.
+	 * @param  renderRedirectViewId    The viewId found in a render-redirect URL, or null if there is none.
+	 * @param  facesLifecycleExecuted  Flag indicating whether or not the RESTORE_VIEW phase of the JSF lifecycle must
+	 *                                 be skipped, in which case only the {@link IPCPhaseListener} is notified of it.
+	 */
+	protected void restoreView(FacesContext facesContext, String renderRedirectViewId, boolean facesLifecycleExecuted)
+		throws BridgeException, IOException {
+
+		RenderRequest renderRequest = getRenderRequest();
 
 		// Restore the faces view root and messages that would have been saved during the ACTION_PHASE.
-		bridgeRequestScope.restoreState(facesContext);
+		restoreBridgeRequestScopeState(facesContext);
 
 		// If a portlet mode change occurred, then the view associated with the new portlet mode is considered to be
 		// a different view by the bridge (even if it has the same viewId as the previous mode). Therefore, the view
@@ -103,19 +310,17 @@ public abstract class BridgePhaseHeaderRenderCommon extends BridgePhaseCompat_2_
 		//
 		// PROPOSE-FOR-BRIDGE3-SPEC: Although the spec does not mention the redirect case, the bridge request
 		// scope must not be maintained if a redirect has occurred.
-		if (bridgeRequestScope.isPortletModeChanged() || bridgeRequestScope.isRedirectOccurred()) {
-			bridgeRequestScopeCache.removeValue(bridgeRequestScope.getId());
+		if (bridgeRequestScope.isPortletModeChanged()) {
+			removeBridgeRequestScope(RemovalReason.PORTLET_MODE_CHANGED);
+		}
+		else if (bridgeRequestScope.isRedirectOccurred()) {
+			removeBridgeRequestScope(RemovalReason.REDIRECT_OCCURRED);
 		}
 
 		// If a render-redirect URL was specified, then it is necessary to create a new view from the URL and place it
 		// in the FacesContext.
 		if (renderRedirectViewId != null) {
-			renderRequest.setAttribute(BridgeExt.RENDER_REDIRECT_AFTER_DISPATCH, Boolean.TRUE);
-
-			ViewHandler viewHandler = facesContext.getApplication().getViewHandler();
-			UIViewRoot uiViewRoot = viewHandler.createView(facesContext, renderRedirectViewId);
-			facesContext.setViewRoot(uiViewRoot);
-			logger.debug("Performed render-redirect to viewId=[{0}]", renderRedirectViewId);
+			setRenderRedirectViewRoot(facesContext, renderRedirectViewId);
 		}
 
 		// Otherwise, if a redirect occurred in the ACTION_PHASE or the EVENT_PHASE (possibly due to a navigation-rule
@@ -203,7 +408,7 @@ public abstract class BridgePhaseHeaderRenderCommon extends BridgePhaseCompat_2_
 			if (isHandlingBridgeInvalidViewPathException(renderRequest)) {
 
 				try {
-					facesLifecycle.execute(facesContext);
+					executeFacesLifecycle(facesContext);
 				}
 				catch (FacesException e) {
 
@@ -221,130 +426,71 @@ public abstract class BridgePhaseHeaderRenderCommon extends BridgePhaseCompat_2_
 				}
 			}
 			else {
-				facesLifecycle.execute(facesContext);
+				executeFacesLifecycle(facesContext);
 			}
 		}
 
 		throwQueuedExceptionIfNecessary(facesContext);
+	}
 
-		// Otherwise, if the PortletMode has changed, and a navigation-rule hasn't yet fired (which could have happened
-		// in the EVENT_PHASE), then switch to the appropriate PortletMode and navigate to the current viewId in the
-		// UIViewRoot.
-		if (bridgeRequestScope.isPortletModeChanged() && !bridgeRequestScope.isNavigationOccurred()) {
-			BridgeNavigationHandler bridgeNavigationHandler = getBridgeNavigationHandler(facesContext);
-			PortletMode fromPortletMode = bridgeRequestScope.getPortletMode();
-			PortletMode toPortletMode = renderRequest.getPortletMode();
-			bridgeNavigationHandler.handleNavigation(facesContext, fromPortletMode, toPortletMode);
-		}
-
-		// Determines whether or not lifecycle incongruities should be managed.
-		boolean manageIncongruities = PortletConfigParam.ManageIncongruities.getBooleanValue(portletConfig);
-
-		// Now that we're executing the RENDER_PHASE of the Portlet lifecycle, before the JSF
-		// RENDER_RESPONSE phase is executed, we have to fix some incongruities between the Portlet
-		// lifecycle and the JSF lifecycle that may have occurred during the ACTION_PHASE of the Portlet
-		// lifecycle.
-		if (manageIncongruities) {
-			incongruityContext.makeCongruous(facesContext);
-		}
-
-		// Execute the RENDER_RESPONSE phase of the faces lifecycle.
-		logger.debug("Executing Faces render");
-		facesLifecycle.render(facesContext);
-
-		// Set the view history according to Section 5.4.3 of the Bridge Spec.
-		setViewHistory(facesContext.getViewRoot().getViewId());
-
-		// Spec 6.6 (Namespacing)
-		indicateNamespacingToConsumers(facesContext.getViewRoot(), mimeResponse);
-
-		// If a render-redirect occurred, then
-		ExternalContext externalContext = facesContext.getExternalContext();
-
-		Map<String, Object> requestMap = externalContext.getRequestMap();
-		Boolean renderRedirect = (Boolean) requestMap.remove(BridgeExt.RENDER_REDIRECT);
-		Writer responseOutputWriter = getResponseOutputWriter(externalContext);
+	/**
+	 * Sets the "javax.portlet.faces.viewIdHistory.<code>portletMode</code>" session attribute according to the
+	 * requirements in Section 5.4.3 of the Bridge Spec. There is no corresponding getter method, because the value is
+	 * meant to be retrieved by developers via an EL expression. Since setting a session attribute can cause the session
+	 * to be replicated in a clustered environment, the attribute is only set if the viewId has changed.
+	 *
+	 * @param  viewId  The current Faces viewId.
+	 */
+	protected void setViewHistory(String viewId) {
 
-		if ((renderRedirect != null) && renderRedirect) {
+		RenderRequest renderRequest = getRenderRequest();
+		String portletMode = renderRequest.getPortletMode().toString();
+		PortletSession portletSession = renderRequest.getPortletSession();
 
-			// Cleanup the old FacesContext since a new one will be created in the recursive method call below.
-			facesContext.responseComplete();
-			facesContext.release();
+		if (PortletConfigParam.ViewIdHistoryCompact.getBooleanValue(portletConfig)) {
 
-			// If the render-redirect standard feature is enabled in web.xml or portlet.xml, then the
-			// ResponseOutputWriter has buffered up markup that must be discarded. This is because we don't want the
-			// markup from the original Faces view to be included with the markup of Faces view found in the
-			// redirect URL.
-			if (responseOutputWriter instanceof CapturingWriter) {
+			ViewIdHistory viewIdHistory = (ViewIdHistory) portletSession.getAttribute(Bridge.VIEWID_HISTORY);
 
-				CapturingWriter capturingWriter = (CapturingWriter) responseOutputWriter;
-				capturingWriter.getWriterOperations().clear();
+			if (viewIdHistory == null) {
+				viewIdHistory = new ViewIdHistory(Collections.<String, String>emptyMap());
 			}
 
-			// Recursively call this method with the render-redirect URL so that the RENDER_RESPONSE phase of the
-			// JSF lifecycle will be re-executed according to the new Faces viewId found in the redirect URL.
-			renderRedirectViewId = (String) requestMap.remove(BridgeExt.RENDER_REDIRECT_VIEW_ID);
-
-			executeRender(renderRedirectViewId, portletPhase);
+			if (!isEqual(viewId, viewIdHistory.getViewId(portletMode))) {
+				portletSession.setAttribute(Bridge.VIEWID_HISTORY, viewIdHistory.withViewId(portletMode, viewId));
+			}
 		}
-
-		// Otherwise,
 		else {
 
-			// If there are captured writer operations, then that means either the JSF lifecycle executed in the
-			// HEADER_PHASE or that a render-redirect executed in the HEADER_PHASE or RESOURCE_PHASE.
-			if (responseOutputWriter instanceof CapturingWriter) {
-
-				CapturingWriter capturingWriter = (CapturingWriter) responseOutputWriter;
-				List<WriterOperation> writerOperations = capturingWriter.getWriterOperations();
-
-				if (writerOperations != null) {
-
-					// If running in the RENDER_PHASE of the portlet lifecycle, then invoke each writer operation so
-					// that the markup will be written to the response.
-					if (portletPhase == Bridge.PortletPhase.RENDER_PHASE) {
-
-						for (WriterOperation writerOperation : writerOperations) {
-							writerOperation.invoke(responseOutputWriter);
-						}
-					}
+			String attributeName = ViewIdHistory.getAttributeName(portletMode);
 
-					// Otherwise, since running in the HEADER_PHASE, save the list of writer operations so that the
-					// markup will be rendered in the subsequent RENDER_PHASE.
-					else {
-						renderRequest.setAttribute(Bridge.RENDER_RESPONSE_OUTPUT, writerOperations);
-					}
-				}
+			if (!isEqual(viewId, portletSession.getAttribute(attributeName))) {
+				portletSession.setAttribute(attributeName, viewId);
 			}
 		}
 	}
 
-	protected BridgeNavigationHandler getBridgeNavigationHandler(FacesContext facesContext) {
-		BridgeNavigationHandler bridgeNavigationHandler;
-		NavigationHandler navigationHandler = facesContext.getApplication().getNavigationHandler();
+	private static boolean isEqual(String viewId, Object historyViewId) {
+		return (viewId == null) ? (historyViewId == null) : viewId.equals(historyViewId);
+	}
 
-		if (navigationHandler instanceof BridgeNavigationHandler) {
-			bridgeNavigationHandler = (BridgeNavigationHandler) navigationHandler;
-		}
-		else {
-			bridgeNavigationHandler = new BridgeNavigationHandlerImpl(navigationHandler);
-		}
+	/**
+	 * Creates the view found in a render-redirect URL and places it in the specified FacesContext.
+	 */
+	private void setRenderRedirectViewRoot(FacesContext facesContext, String renderRedirectViewId) {
 
-		return bridgeNavigationHandler;
+		getRenderRequest().setAttribute(BridgeExt.RENDER_REDIRECT_AFTER_DISPATCH, Boolean.TRUE);
+
+		ViewHandler viewHandler = facesContext.getApplication().getViewHandler();
+		UIViewRoot uiViewRoot = viewHandler.createView(facesContext, renderRedirectViewId);
+		facesContext.setViewRoot(uiViewRoot);
+		logger.debug("Performed render-redirect to viewId=[{0}]", renderRedirectViewId);
 	}
 
 	/**
-	 * Sets the "javax.portlet.faces.viewIdHistory.<code>portletMode</code>" session attribute according to the
-	 * requirements in Section 5.4.3 of the Bridge Spec. There is no corresponding getter method, because the value is
-	 * meant to be retrieved by developers via an EL expression.
-	 *
-	 * @param  viewId  The current Faces viewId.
+	 * Executes a single render-redirect.
 	 */
-	protected void setViewHistory(String viewId) {
+	protected interface RenderRedirectExecutor {
 
-		RenderRequest renderRequest = getRenderRequest();
-		String attributeName = Bridge.VIEWID_HISTORY.concat(".").concat(renderRequest.getPortletMode().toString());
-		PortletSession portletSession = renderRequest.getPortletSession();
-		portletSession.setAttribute(attributeName, viewId);
+		void executeRenderRedirect(String renderRedirectViewId) throws IOException;
 	}
 }
@@ -30,6 +30,7 @@ import javax.portlet.faces.filter.BridgePortletRequestFactory;
 import javax.portlet.faces.filter.BridgePortletResponseFactory;
 
 import com.liferay.faces.bridge.context.internal.WriterOperation;
+import com.liferay.faces.bridge.timing.internal.BridgeTimingSink;
 
 
 /**
@@ -70,11 +71,14 @@ public abstract class BridgePhaseRenderCompatImpl extends BridgePhaseCompat_2_2_
 
 		if (writerOperations != null) {
 
+			long startTime = startTiming();
 			Writer responseOutputWriter = getResponseOutputWriter(externalContext);
 
 			for (WriterOperation writerOperation : writerOperations) {
 				writerOperation.invoke(responseOutputWriter);
 			}
+
+			stopTiming(BridgeTimingSink.STEP_WRITER_REPLAY, startTime);
 		}
 	}
 }
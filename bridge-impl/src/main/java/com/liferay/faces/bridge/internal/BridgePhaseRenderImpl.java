@@ -22,6 +22,7 @@ import javax.portlet.RenderResponse;
 import javax.portlet.faces.BridgeConfig;
 import javax.portlet.faces.BridgeException;
 
+import com.liferay.faces.bridge.scope.internal.BridgeRequestScopeCacheCounters.RemovalReason;
 import com.liferay.faces.util.logging.Logger;
 import com.liferay.faces.util.logging.LoggerFactory;
 
@@ -75,7 +76,7 @@ public class BridgePhaseRenderImpl extends BridgePhaseRenderCompatImpl {
 
 		// If required, cause the BridgeRequestScope to go out-of-scope.
 		if (!bridgeRequestScopeActionEnabled) {
-			bridgeRequestScopeCache.removeValue(bridgeRequestScope.getId());
+			removeBridgeRequestScope(RemovalReason.RENDER_COMPLETED);
 		}
 
 		super.cleanup(portletRequest);
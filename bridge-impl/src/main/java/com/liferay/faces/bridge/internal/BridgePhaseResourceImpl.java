@@ -262,11 +262,11 @@ public class BridgePhaseResourceImpl extends BridgePhaseCompat_2_2_Impl {
 				attachClientWindowToLifecycle(facesContext, facesLifecycle);
 
 				// Execute the JSF lifecycle.
-				facesLifecycle.execute(facesContext);
+				executeFacesLifecycle(facesContext);
 
 				// Also execute the RENDER_RESPONSE phase of the Faces lifecycle, which will ultimately return a
 				// DOM-update back to the jsf.js Javascript code that issued the XmlHttpRequest in the first place.
-				facesLifecycle.render(facesContext);
+				renderFacesLifecycle(facesContext);
 
 				// The default behavior of Liferay Faces Bridge is to not manage the BridgeRequestScope during the
 				// RESOURCE_PHASE of the portlet lifecycle. But if the developer has enabled it via the
@@ -279,7 +279,7 @@ public class BridgePhaseResourceImpl extends BridgePhaseCompat_2_2_Impl {
 					// TCK: nonFacesResourceTest
 					// TCK: resourceAttrRetainedAfterRedisplayPPRTest -- Preserve the non-excluded request
 					// attributes in the BridgeRequestScope so that they can be restored in subsequent render requests.
-					bridgeRequestScope.saveState(facesContext);
+					saveBridgeRequestScopeState(facesContext);
 					maintainBridgeRequestScope(resourceRequest, resourceResponse,
 						BridgeRequestScope.Transport.PORTLET_SESSION_ATTRIBUTE);
 				}
@@ -20,14 +20,17 @@ import java.io.StringWriter;
 import java.io.UnsupportedEncodingException;
 import java.net.MalformedURLException;
 import java.net.URISyntaxException;
+import java.net.URLEncoder;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import javax.faces.context.ExternalContext;
 import javax.faces.context.FacesContext;
-import javax.faces.render.ResponseStateManager;
 import javax.portlet.BaseURL;
 import javax.portlet.MimeResponse;
 import javax.portlet.PortletConfig;
@@ -276,19 +279,10 @@ public abstract class BridgeURLBase extends BridgeURLBaseCompat implements Bridg
 
 	protected void copyRenderParameters(PortletRequest portletRequest, BaseURL baseURL) {
 
-		// Copy the public render parameters of the current view to the BaseURL.
-		Map<String, String[]> publicParameterMap = portletRequest.getPublicParameterMap();
-
-		if (publicParameterMap != null) {
-			copyParameterMapToBaseURL(publicParameterMap, baseURL);
-		}
-
-		// Copy the private render parameters of the current view to the BaseURL.
-		Map<String, String[]> privateParameterMap = portletRequest.getPrivateParameterMap();
-
-		if (privateParameterMap != null) {
-			copyParameterMapToBaseURL(privateParameterMap, baseURL);
-		}
+		// Copy the public and private render parameters of the current view to the BaseURL from a snapshot that is
+		// taken once per request.
+		RenderParameterSnapshot renderParameterSnapshot = RenderParameterSnapshot.getInstance(portletRequest);
+		renderParameterSnapshot.applyTo(baseURL, bridgeURI.getParameterMap());
 	}
 
 	protected PortletURL createActionURL(FacesContext facesContext, boolean modeChanged) throws MalformedURLException {
@@ -362,31 +356,134 @@ public abstract class BridgeURLBase extends BridgeURLBaseCompat implements Bridg
 		return createResourceURL(facesContext, toStringParameters);
 	}
 
-	protected String getViewIdParameterName() {
+	/**
+	 * Returns a URL for a JSF resource that is equivalent to the one returned by {@link
+	 * #createResourceURL(FacesContext, Map)}. If the {@link PortletConfigParam#ResourceURLTemplateEnabled} init-param
+	 * is true, then the URL is produced from a {@link ResourceURLTemplate} that is created once per request for each
+	 * distinct list of parameter names, rather than asking the portlet container to create a new ResourceURL for each
+	 * JSF resource.
+	 */
+	protected BaseURL createTemplatedResourceURL(FacesContext facesContext, Map<String, String[]> parameterMap,
+		String encoding) throws MalformedURLException {
 
-		if (bridgeURI.isPortletScheme() && (bridgeURI.getPortletPhase() == Bridge.PortletPhase.RESOURCE_PHASE)) {
-			return viewIdResourceParameterName;
+		if (!PortletConfigParam.ResourceURLTemplateEnabled.getBooleanValue(portletConfig)) {
+			return createResourceURL(facesContext, parameterMap);
 		}
-		else {
-			return viewIdRenderParameterName;
+
+		List<URIParameter> uriParameters = getToStringParameters(false);
+		Set<Map.Entry<String, String[]>> entrySet = parameterMap.entrySet();
+
+		for (Map.Entry<String, String[]> mapEntry : entrySet) {
+			uriParameters.add(new URIParameter(mapEntry.getKey(), mapEntry.getValue()));
 		}
-	}
 
-	private void copyParameterMapToBaseURL(Map<String, String[]> parameterMap, BaseURL baseURL) {
+		// Determine the parameters of the ResourceURL in the same order in which they would be set by
+		// createResourceURL(FacesContext, List<URIParameter>), keeping in mind that setting a parameter again replaces
+		// its value.
+		Map<String, String[]> resourceURLParameters = new LinkedHashMap<String, String[]>();
+		String resourceName = getFacesResourceName(uriParameters);
 
-		Map<String, String[]> bridgeURLParameterMap = bridgeURI.getParameterMap();
-		Set<Map.Entry<String, String[]>> parameterMapEntrySet = parameterMap.entrySet();
+		if (resourceName != null) {
+			resourceURLParameters.put("javax.faces.resource", new String[] { resourceName });
+		}
 
-		for (Map.Entry<String, String[]> mapEntry : parameterMapEntrySet) {
+		for (URIParameter uriParameter : uriParameters) {
+			resourceURLParameters.put(uriParameter.getName(), uriParameter.getValues());
+		}
 
-			String parameterName = mapEntry.getKey();
+		int parameterCount = resourceURLParameters.size();
+		String[] parameterNames = new String[parameterCount];
+		String[] encodedValues = new String[parameterCount];
+		StringBuilder templateKey = new StringBuilder();
+		int i = 0;
 
-			// Note that preserved action parameters, parameters that already exist in the URL string,
-			// and "javax.faces.ViewState" must not be copied.
-			if (!ResponseStateManager.VIEW_STATE_PARAM.equals(parameterName) &&
-					!bridgeURLParameterMap.containsKey(parameterName)) {
-				baseURL.setParameter(parameterName, mapEntry.getValue());
+		for (Map.Entry<String, String[]> mapEntry : resourceURLParameters.entrySet()) {
+
+			String[] values = mapEntry.getValue();
+
+			// Since a template can only substitute a single value for each parameter, fall back to asking the portlet
+			// container for a new ResourceURL if a parameter has zero or multiple values.
+			if ((values == null) || (values.length != 1) || (values[0] == null)) {
+				return createResourceURL(facesContext, uriParameters);
+			}
+
+			try {
+				encodedValues[i] = URLEncoder.encode(values[0], encoding);
+			}
+			catch (UnsupportedEncodingException e) {
+				logger.error(e);
+
+				return createResourceURL(facesContext, uriParameters);
 			}
+
+			parameterNames[i] = mapEntry.getKey();
+			templateKey.append(parameterNames[i]);
+			templateKey.append('\u0000');
+			i++;
+		}
+
+		// The templates are cached as a portlet request attribute (rather than a FacesContext attribute) that is listed
+		// as an excluded attribute in META-INF/faces-config.xml so that the templates created for one request (such as
+		// a RESOURCE_PHASE request) are not saved in the BridgeRequestScope and reused by a subsequent request.
+		ExternalContext externalContext = facesContext.getExternalContext();
+		PortletRequest portletRequest = (PortletRequest) externalContext.getRequest();
+
+		@SuppressWarnings("unchecked")
+		Map<String, ResourceURLTemplate> resourceURLTemplates = (Map<String, ResourceURLTemplate>)
+			portletRequest.getAttribute(ResourceURLTemplate.class.getName());
+
+		if (resourceURLTemplates == null) {
+			resourceURLTemplates = new HashMap<String, ResourceURLTemplate>();
+			portletRequest.setAttribute(ResourceURLTemplate.class.getName(), resourceURLTemplates);
+		}
+
+		String key = templateKey.toString();
+		ResourceURLTemplate resourceURLTemplate = resourceURLTemplates.get(key);
+
+		if ((resourceURLTemplate == null) && !resourceURLTemplates.containsKey(key)) {
+
+			try {
+				MimeResponse mimeResponse = (MimeResponse) externalContext.getResponse();
+				resourceURLTemplate = ResourceURLTemplate.newInstance(mimeResponse.createResourceURL(), parameterNames);
+
+				// Since the values are URL encoded by the bridge rather than by the portlet container, the template can
+				// only be used if the portlet container encodes values in the same manner.
+				if ((resourceURLTemplate != null) &&
+						!resourceURLTemplate.isEquivalent(mimeResponse.createResourceURL(), parameterNames, encoding)) {
+					resourceURLTemplate = null;
+				}
+			}
+			catch (ClassCastException e) {
+				throw new MalformedURLException(e.getMessage());
+			}
+			catch (IOException e) {
+				logger.error(e);
+			}
+
+			// Note that a null value is cached so that the bridge does not repeatedly attempt to create a template
+			// that the portlet container is unable to support.
+			if (resourceURLTemplate == null) {
+				logger.debug("Unable to create a ResourceURLTemplate for parameterNames=[{0}]",
+					Arrays.toString(parameterNames));
+			}
+
+			resourceURLTemplates.put(key, resourceURLTemplate);
+		}
+
+		if (resourceURLTemplate == null) {
+			return createResourceURL(facesContext, uriParameters);
+		}
+
+		return new BaseURLTemplatedImpl(bridgeURI, resourceURLTemplate, encodedValues);
+	}
+
+	protected String getViewIdParameterName() {
+
+		if (bridgeURI.isPortletScheme() && (bridgeURI.getPortletPhase() == Bridge.PortletPhase.RESOURCE_PHASE)) {
+			return viewIdResourceParameterName;
+		}
+		else {
+			return viewIdRenderParameterName;
 		}
 	}
 
@@ -476,34 +573,11 @@ public abstract class BridgeURLBase extends BridgeURLBaseCompat implements Bridg
 			MimeResponse mimeResponse = (MimeResponse) externalContext.getResponse();
 			ResourceURL resourceURL = mimeResponse.createResourceURL();
 
-			// If the "javax.faces.resource" token is found in the URL, then
-			String bridgeURIAsString = bridgeURI.toString();
-			int tokenPos = bridgeURIAsString.indexOf("javax.faces.resource");
-
-			if (tokenPos >= 0) {
-
-				// Parse-out the resourceId
-				String resourceId = bridgeURIAsString.substring(tokenPos);
-
-				// Parse-out the resourceName and convert it to a URL parameter on the portlet resource URL.
-				int queryStringPos = resourceId.indexOf('?');
-
-				String resourceName = resourceId;
-
-				if (queryStringPos > 0) {
-					resourceName = resourceName.substring(0, queryStringPos);
-				}
-
-				int slashPos = resourceName.indexOf('/');
-
-				if (slashPos > 0) {
-					resourceName = resourceName.substring(slashPos + 1);
-				}
-				else {
-					logger.debug("There is no slash after the [{0}] token in resourceURL=[{1}]", "javax.faces.resource",
-						uriParameters);
-				}
+			// If the "javax.faces.resource" token is found in the URL, then convert the resourceName to a URL parameter
+			// on the portlet resource URL.
+			String resourceName = getFacesResourceName(uriParameters);
 
+			if (resourceName != null) {
 				resourceURL.setParameter("javax.faces.resource", resourceName);
 				logger.debug("Added parameter to portletURL name=[{0}] value=[{1}]", "javax.faces.resource",
 					resourceName);
@@ -521,6 +595,40 @@ public abstract class BridgeURLBase extends BridgeURLBaseCompat implements Bridg
 		}
 	}
 
+	private String getFacesResourceName(List<URIParameter> uriParameters) {
+
+		String resourceName = null;
+		String bridgeURIAsString = bridgeURI.toString();
+		int tokenPos = bridgeURIAsString.indexOf("javax.faces.resource");
+
+		if (tokenPos >= 0) {
+
+			// Parse-out the resourceId
+			String resourceId = bridgeURIAsString.substring(tokenPos);
+
+			// Parse-out the resourceName.
+			int queryStringPos = resourceId.indexOf('?');
+
+			resourceName = resourceId;
+
+			if (queryStringPos > 0) {
+				resourceName = resourceName.substring(0, queryStringPos);
+			}
+
+			int slashPos = resourceName.indexOf('/');
+
+			if (slashPos > 0) {
+				resourceName = resourceName.substring(slashPos + 1);
+			}
+			else {
+				logger.debug("There is no slash after the [{0}] token in resourceURL=[{1}]", "javax.faces.resource",
+					uriParameters);
+			}
+		}
+
+		return resourceName;
+	}
+
 	private List<URIParameter> getToStringParameters(boolean modeChanged) {
 		return getToStringParameters(modeChanged, null);
 	}
@@ -232,7 +232,7 @@ public class BridgeURLResourceImpl extends BridgeURLBase {
 		// Otherwise, if the URL is not a JSF2 portlet resource URL, but still contains the "javax.faces.resource"
 		// resource URL identifier, then return a ResourceURL that can retrieve the JSF2 resource.
 		else if ((uri != null) && uri.contains("javax.faces.resource")) {
-			baseURL = createResourceURL(facesContext, bridgeURI.getParameterMap());
+			baseURL = createTemplatedResourceURL(facesContext, bridgeURI.getParameterMap(), encoding);
 		}
 
 		// Otherwise, if the URL is relative, in that it starts with "../", then return a BaseURL string representation
@@ -33,6 +33,14 @@ import com.liferay.faces.util.helper.BooleanHelper;
  */
 public enum PortletConfigParam implements ConfigParam<PortletConfig> {
 
+	/**
+	 * Flag indicating whether or not the bridge provides its own implementation of the JSF Flash scope. When enabled,
+	 * Flash values are held in the bridge request scope in order to survive the transition from the ACTION_PHASE (or
+	 * EVENT_PHASE) to the HEADER_PHASE without the cookie and session attributes used by the JSF implementation.
+	 * Default value is false.
+	 */
+	BridgeFlashEnabled(false, "com.liferay.faces.bridge.bridgeFlashEnabled"),
+
 	/**
 	 * Flag indicating whether or not the bridge request scope is preserved after the RENDER_PHASE completes. Default
 	 * value is false. Set value to true in order to enable JSR 329 default behavior.
@@ -48,6 +56,14 @@ public enum PortletConfigParam implements ConfigParam<PortletConfig> {
 	BridgeRequestScopeAjaxEnabled(false, Bridge.BRIDGE_REQUEST_SCOPE_AJAX_ENABLED,
 		"com.liferay.faces.bridge.bridgeRequestScopeAjaxEnabled"),
 
+	/**
+	 * Flag indicating whether or not the bridge counts the lookups, hits, misses, evictions, and removals of the bridge
+	 * request scope cache on a per-portlet basis. The counts can be inspected via JMX and are also made available to
+	 * each request as an attribute. Default value is false.
+	 */
+	BridgeRequestScopeCacheStatisticsEnabled(false,
+		"com.liferay.faces.bridge.bridgeRequestScopeCacheStatisticsEnabled"),
+
 	/**
 	 * Integer indicating the initial cache capacity for the Bridge Request Scope. The default value of this param is
 	 * 16. For more details, see {@link com.liferay.faces.util.cache.CacheFactory#getConcurrentCache(int)} and {@link
@@ -71,6 +87,14 @@ public enum PortletConfigParam implements ConfigParam<PortletConfig> {
 	 */
 	BridgeRequestScopeMaxCacheCapacity(100, Bridge.MAX_MANAGED_REQUEST_SCOPES),
 
+	/**
+	 * Flag indicating whether or not the bridge records the elapsed time of each step of a portlet request (and each
+	 * phase of the JSF lifecycle) in the {@link com.liferay.faces.bridge.timing.internal.BridgeTimingSink} provided by
+	 * the {@link com.liferay.faces.bridge.timing.internal.BridgeTimingSinkFactory}. The sink provided by the bridge
+	 * keeps an in-memory histogram for each portlet that can be inspected via JMX. Default value is false.
+	 */
+	BridgeTimingEnabled(false, "com.liferay.faces.bridge.bridgeTimingEnabled"),
+
 	/**
 	 * Flag indicating whether or not the portlet container has the ability to set the HTTP status code for resources.
 	 * Default value is false.
@@ -80,6 +104,17 @@ public enum PortletConfigParam implements ConfigParam<PortletConfig> {
 
 	DefaultRenderKitId(null, "javax.portlet.faces.defaultRenderKitId"),
 
+	/**
+	 * Integer indicating the number of seconds during which repeated occurrences of the same exception during Ajax
+	 * requests are counted rather than logged. Exceptions are considered to be the same when they share the class and
+	 * top stack frame of the root cause, as well as the view id. The first occurrence within each interval is logged
+	 * and a single summary of the suppressed occurrences is logged after the interval elapses. The counts can also be
+	 * inspected via JMX. Since the aggregation is shared by all of the portlets in the web application, this param is
+	 * only recognized as a context-param in the WEB-INF/web.xml descriptor. Default value is -1, which (like any value
+	 * less than 1) disables aggregation so that every exception is logged.
+	 */
+	ExceptionAggregationInterval(-1, "com.liferay.faces.bridge.exceptionAggregationInterval"),
+
 	/**
 	 * Flag indicating whether or not the bridge should manage incongruities between the JSF lifecycle and the Portlet
 	 * lifecycle. The default is true.
@@ -96,6 +131,13 @@ public enum PortletConfigParam implements ConfigParam<PortletConfig> {
 	/** Flag indicating the value of the "javax.portlet.faces.preserveActionParams" init-param. The default is false. */
 	PreserveActionParams(false, "javax.portlet.faces.preserveActionParams"),
 
+	/**
+	 * Flag indicating whether or not the resources that correspond to the external resource URLs encoded by the
+	 * PrimeFaces HeadRenderer are cached for each PrimeFaces version, theme, and mobile flag so that the same URLs do
+	 * not have to be parsed again on subsequent renders. Default value is false.
+	 */
+	PrimeFacesHeadCaptureCacheEnabled(false, "com.liferay.faces.bridge.primeFacesHeadCaptureCacheEnabled"),
+
 	/**
 	 * Flag indicating whether or not the render-redirect standard feature is enabled. Default value is false for the
 	 * sake of performance.
@@ -106,6 +148,15 @@ public enum PortletConfigParam implements ConfigParam<PortletConfig> {
 	ResourceBufferSize(1024, "com.liferay.faces.bridge.resourceBufferSize",
 		"org.portletfaces.bridge.resourceBufferSize"),
 
+	/**
+	 * Flag indicating whether or not the bridge produces the URLs of JSF resources (such as scripts and stylesheets)
+	 * from a template that is created once per request, rather than asking the portlet container to create a new
+	 * ResourceURL for each JSF resource. Default value is false. Since the template assumes that the portlet container
+	 * encodes parameter values with {@link java.net.URLEncoder}, the bridge falls back to creating a new ResourceURL if
+	 * the template cannot be created or if the portlet container encodes a probe value differently.
+	 */
+	ResourceURLTemplateEnabled(false, "com.liferay.faces.bridge.resourceURLTemplateEnabled"),
+
 	/**
 	 * Absolute path to a directory (folder) in which the uploaded file data should be written to. Default value is the
 	 * value of the system property "java.io.tmpdir".
@@ -113,11 +164,55 @@ public enum PortletConfigParam implements ConfigParam<PortletConfig> {
 	UploadedFilesDir(WebConfigParam.UploadedFilesDir.getDefaultStringValue(), WebConfigParam.UploadedFilesDir.getName(),
 		"com.liferay.faces.bridge.uploadedFilesDir", "javax.faces.UPLOADED_FILES_DIR"),
 
+	/**
+	 * Integer indicating the number of minutes after which a per-session directory within the {@link #UploadedFilesDir}
+	 * that has not received an uploaded file is removed by a background thread. Default value is -1, which means that
+	 * per-session directories are only removed when the session expires or the web application is undeployed.
+	 */
+	UploadedFilesDirMaxIdleTime(-1, "com.liferay.faces.bridge.uploadedFilesDirMaxIdleTime"),
+
+	/**
+	 * Comma-delimited list of the content types (such as "application/pdf" or "image/*") of the files that may be
+	 * uploaded to the portlet. Files with any other content type are rejected before they are written to the {@link
+	 * #UploadedFilesDir}. Default value is null, which means that files of any content type are accepted.
+	 */
+	UploadedFileContentTypes(null, "com.liferay.faces.bridge.uploadedFileContentTypes"),
+
+	/**
+	 * Integer indicating the maximum number of files that may be uploaded to the portlet in a single request. Files in
+	 * excess of the maximum are rejected before they are written to the {@link #UploadedFilesDir}. Default value is -1,
+	 * which means that the number of files is not limited by the bridge.
+	 */
+	UploadedFileMaxCount(-1, "com.liferay.faces.bridge.uploadedFileMaxCount"),
+
+	/**
+	 * Maximum number of bytes that may be uploaded to the portlet by a single field (such as a file input that permits
+	 * multiple files) in a single request. Files that would exceed the maximum are rejected before they are written to
+	 * the {@link #UploadedFilesDir}. Default value is -1, which means that the size is not limited by the bridge.
+	 */
+	UploadedFileMaxFieldSize(-1L, "com.liferay.faces.bridge.uploadedFileMaxFieldSize"),
+
+	/**
+	 * Maximum number of bytes that may be uploaded to the portlet (by all fields combined) in a single request. Files
+	 * that would exceed the maximum are rejected before they are written to the {@link #UploadedFilesDir}. If the
+	 * content length of the request itself exceeds the maximum, then the request is rejected before the portlet
+	 * container is asked for its parts. Default value is -1, which means that the size is not limited by the bridge.
+	 */
+	UploadedFileMaxRequestSize(-1L, "com.liferay.faces.bridge.uploadedFileMaxRequestSize"),
+
 	/** Maximum file size for an uploaded file. Default is 104,857,600 (~100MB), upper limit is 2,147,483,647 (~2GB) */
 	UploadedFileMaxSize(WebConfigParam.UploadedFileMaxSize.getDefaultLongValue(),
 		WebConfigParam.UploadedFileMaxSize.getName(), "com.liferay.faces.bridge.uploadedFileMaxSize",
 		"javax.faces.UPLOADED_FILE_MAX_SIZE"),
 
+	/**
+	 * Flag indicating whether or not the viewId history of all portlet modes is stored in a single {@link
+	 * ViewIdHistory} session attribute named "javax.portlet.faces.viewIdHistory" rather than in one
+	 * "javax.portlet.faces.viewIdHistory.<code>portletMode</code>" session attribute per portlet mode. Default value is
+	 * false since Section 5.4.3 of the Bridge Spec requires one session attribute per portlet mode.
+	 */
+	ViewIdHistoryCompact(false, "com.liferay.faces.bridge.viewIdHistoryCompact"),
+
 	/** Name of the render parameter used to encode the viewId. Default value is "_facesViewIdRender". */
 	ViewIdRenderParameterName("_facesViewIdRender", "com.liferay.faces.bridge.viewIdRenderParameterName"),
 
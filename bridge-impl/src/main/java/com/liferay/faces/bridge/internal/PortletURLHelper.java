@@ -16,7 +16,9 @@
 package com.liferay.faces.bridge.internal;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import javax.portlet.BaseURL;
@@ -63,9 +65,10 @@ public final class PortletURLHelper {
 		if (portletMode != null) {
 
 			try {
-				PortletMode candidatePortletMode = new PortletMode(portletMode);
+				AllowedModesAndStates allowedModesAndStates = AllowedModesAndStates.getInstance(portletRequest);
+				PortletMode candidatePortletMode = AllowedModesAndStates.toPortletMode(portletMode);
 
-				if (portletRequest.isPortletModeAllowed(candidatePortletMode)) {
+				if (allowedModesAndStates.isPortletModeAllowed(candidatePortletMode)) {
 					portletURL.setPortletMode(candidatePortletMode);
 				}
 				else {
@@ -101,9 +104,10 @@ public final class PortletURLHelper {
 		if (windowState != null) {
 
 			try {
-				WindowState candidateWindowState = new WindowState(windowState);
+				AllowedModesAndStates allowedModesAndStates = AllowedModesAndStates.getInstance(portletRequest);
+				WindowState candidateWindowState = AllowedModesAndStates.toWindowState(windowState);
 
-				if (portletRequest.isWindowStateAllowed(candidateWindowState)) {
+				if (allowedModesAndStates.isWindowStateAllowed(candidateWindowState)) {
 					portletURL.setWindowState(candidateWindowState);
 				}
 				else {
@@ -115,4 +119,145 @@ public final class PortletURLHelper {
 			}
 		}
 	}
+
+	/**
+	 * This class remembers the outcome of {@link PortletRequest#isPortletModeAllowed(PortletMode)} and {@link
+	 * PortletRequest#isWindowStateAllowed(WindowState)} for the duration of a request, since portlet containers like
+	 * Liferay Portal consult the portlet descriptor each time they are called. The standard portlet modes and window
+	 * states are interned so that their outcomes can be looked up by array index. Since it is designed to exist and be
+	 * used within the scope of a request, it is not thread-safe.
+	 */
+	private static final class AllowedModesAndStates {
+
+		// Private Constants
+		private static final String ATTRIBUTE_NAME = AllowedModesAndStates.class.getName();
+		private static final PortletMode[] STANDARD_PORTLET_MODES = new PortletMode[] {
+				PortletMode.VIEW, PortletMode.EDIT, PortletMode.HELP
+			};
+		private static final WindowState[] STANDARD_WINDOW_STATES = new WindowState[] {
+				WindowState.NORMAL, WindowState.MAXIMIZED, WindowState.MINIMIZED
+			};
+
+		// Private Final Data Members
+		private final PortletRequest portletRequest;
+		private final Boolean[] standardPortletModesAllowed;
+		private final Boolean[] standardWindowStatesAllowed;
+
+		// Private Data Members
+		private Map<PortletMode, Boolean> portletModesAllowed;
+		private Map<WindowState, Boolean> windowStatesAllowed;
+
+		private AllowedModesAndStates(PortletRequest portletRequest) {
+			this.portletRequest = portletRequest;
+			this.standardPortletModesAllowed = new Boolean[STANDARD_PORTLET_MODES.length];
+			this.standardWindowStatesAllowed = new Boolean[STANDARD_WINDOW_STATES.length];
+		}
+
+		/**
+		 * Returns the instance for the specified request, which is cached as an attribute of the request. Note that
+		 * the attribute name is listed as an excluded attribute in the bridge's faces-config.xml descriptor, since the
+		 * instance must not be saved in the bridge request scope.
+		 */
+		public static AllowedModesAndStates getInstance(PortletRequest portletRequest) {
+
+			AllowedModesAndStates allowedModesAndStates = (AllowedModesAndStates) portletRequest.getAttribute(
+					ATTRIBUTE_NAME);
+
+			if (allowedModesAndStates == null) {
+
+				allowedModesAndStates = new AllowedModesAndStates(portletRequest);
+				portletRequest.setAttribute(ATTRIBUTE_NAME, allowedModesAndStates);
+			}
+
+			return allowedModesAndStates;
+		}
+
+		/**
+		 * Returns the standard {@link PortletMode} constant with the specified name, or a new {@link PortletMode} if
+		 * the specified name is not one of the standard portlet modes.
+		 */
+		public static PortletMode toPortletMode(String portletMode) {
+
+			for (PortletMode standardPortletMode : STANDARD_PORTLET_MODES) {
+
+				if (standardPortletMode.toString().equalsIgnoreCase(portletMode)) {
+					return standardPortletMode;
+				}
+			}
+
+			return new PortletMode(portletMode);
+		}
+
+		/**
+		 * Returns the standard {@link WindowState} constant with the specified name, or a new {@link WindowState} if
+		 * the specified name is not one of the standard window states.
+		 */
+		public static WindowState toWindowState(String windowState) {
+
+			for (WindowState standardWindowState : STANDARD_WINDOW_STATES) {
+
+				if (standardWindowState.toString().equalsIgnoreCase(windowState)) {
+					return standardWindowState;
+				}
+			}
+
+			return new WindowState(windowState);
+		}
+
+		public boolean isPortletModeAllowed(PortletMode portletMode) {
+
+			for (int i = 0; i < STANDARD_PORTLET_MODES.length; i++) {
+
+				if (STANDARD_PORTLET_MODES[i] == portletMode) {
+
+					if (standardPortletModesAllowed[i] == null) {
+						standardPortletModesAllowed[i] = portletRequest.isPortletModeAllowed(portletMode);
+					}
+
+					return standardPortletModesAllowed[i];
+				}
+			}
+
+			if (portletModesAllowed == null) {
+				portletModesAllowed = new HashMap<PortletMode, Boolean>();
+			}
+
+			Boolean allowed = portletModesAllowed.get(portletMode);
+
+			if (allowed == null) {
+				allowed = portletRequest.isPortletModeAllowed(portletMode);
+				portletModesAllowed.put(portletMode, allowed);
+			}
+
+			return allowed;
+		}
+
+		public boolean isWindowStateAllowed(WindowState windowState) {
+
+			for (int i = 0; i < STANDARD_WINDOW_STATES.length; i++) {
+
+				if (STANDARD_WINDOW_STATES[i] == windowState) {
+
+					if (standardWindowStatesAllowed[i] == null) {
+						standardWindowStatesAllowed[i] = portletRequest.isWindowStateAllowed(windowState);
+					}
+
+					return standardWindowStatesAllowed[i];
+				}
+			}
+
+			if (windowStatesAllowed == null) {
+				windowStatesAllowed = new HashMap<WindowState, Boolean>();
+			}
+
+			Boolean allowed = windowStatesAllowed.get(windowState);
+
+			if (allowed == null) {
+				allowed = portletRequest.isWindowStateAllowed(windowState);
+				windowStatesAllowed.put(windowState, allowed);
+			}
+
+			return allowed;
+		}
+	}
 }
@@ -0,0 +1,200 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.faces.render.ResponseStateManager;
+import javax.portlet.BaseURL;
+import javax.portlet.MutableRenderParameters;
+import javax.portlet.PortletRequest;
+import javax.portlet.RenderParameters;
+import javax.portlet.RenderURL;
+import javax.portlet.ResourceRequest;
+
+import com.liferay.faces.util.logging.Logger;
+import com.liferay.faces.util.logging.LoggerFactory;
+
+
+/**
+ * This class provides an immutable snapshot of the render parameters of a request, so that the render parameters can
+ * be copied to each self-referencing URL without asking the portlet container for the public and private parameter
+ * maps every time. Since it is designed to exist and be used within the scope of a request, it is not thread-safe.
+ *
+ * @author  Neil Griffin
+ */
+/* package-private */ final class RenderParameterSnapshot {
+
+	// Logger
+	private static final Logger logger = LoggerFactory.getLogger(RenderParameterSnapshot.class);
+
+	// Private Constants
+	private static final String ATTRIBUTE_NAME = RenderParameterSnapshot.class.getName();
+
+	// Private Final Data Members
+	private final Map<String, String[]> parameterMap;
+	private final RenderParameters renderParameters;
+
+	// Private Data Members
+	private boolean bulkApplySupported;
+
+	private RenderParameterSnapshot(PortletRequest portletRequest) {
+
+		this.renderParameters = portletRequest.getRenderParameters();
+		this.bulkApplySupported = (renderParameters != null);
+
+		// Public render parameters are copied before private render parameters, so that a private render parameter
+		// takes precedence over a public render parameter with the same name.
+		Map<String, String[]> parameterMap = new LinkedHashMap<String, String[]>();
+
+		// During a ResourceRequest, the private parameter map also contains the resource parameters, which must not be
+		// copied to the URL. In that case, the snapshot is taken from the render parameters, which is consistent with
+		// the parameters that are copied in bulk.
+		if ((portletRequest instanceof ResourceRequest) && (renderParameters != null)) {
+
+			putRenderParameters(parameterMap, true);
+			putRenderParameters(parameterMap, false);
+		}
+		else {
+
+			Map<String, String[]> publicParameterMap = portletRequest.getPublicParameterMap();
+
+			if (publicParameterMap != null) {
+				parameterMap.putAll(publicParameterMap);
+			}
+
+			Map<String, String[]> privateParameterMap = portletRequest.getPrivateParameterMap();
+
+			if (privateParameterMap != null) {
+				parameterMap.putAll(privateParameterMap);
+			}
+		}
+
+		this.parameterMap = Collections.unmodifiableMap(parameterMap);
+	}
+
+	/**
+	 * Returns the snapshot of the specified request, which is cached as an attribute of the request. Note that the
+	 * attribute name is listed as an excluded attribute in the bridge's faces-config.xml descriptor, since the snapshot
+	 * must not be saved in the bridge request scope.
+	 */
+	/* package-private */ static RenderParameterSnapshot getInstance(PortletRequest portletRequest) {
+
+		RenderParameterSnapshot renderParameterSnapshot = (RenderParameterSnapshot) portletRequest.getAttribute(
+				ATTRIBUTE_NAME);
+
+		if (renderParameterSnapshot == null) {
+
+			renderParameterSnapshot = new RenderParameterSnapshot(portletRequest);
+			portletRequest.setAttribute(ATTRIBUTE_NAME, renderParameterSnapshot);
+		}
+
+		return renderParameterSnapshot;
+	}
+
+	/**
+	 * Copies the render parameters of the snapshot to the specified URL. Parameters that are present in the specified
+	 * URL parameter map and the "javax.faces.ViewState" parameter are not copied.
+	 *
+	 * @param  baseURL          The URL that the render parameters are to be copied to.
+	 * @param  urlParameterMap  The parameters that are present in the URL string of the bridge URL.
+	 */
+	/* package-private */ void applyTo(BaseURL baseURL, Map<String, String[]> urlParameterMap) {
+
+		if (bulkApplySupported && (baseURL instanceof RenderURL)) {
+
+			try {
+				applyTo((RenderURL) baseURL, urlParameterMap);
+
+				return;
+			}
+			catch (UnsupportedOperationException e) {
+
+				// Fall back to copying the render parameters one at a time for the rest of the request.
+				logger.debug("Unable to copy render parameters in bulk: {0}", e.getMessage());
+				bulkApplySupported = false;
+			}
+		}
+
+		for (Map.Entry<String, String[]> mapEntry : parameterMap.entrySet()) {
+
+			String parameterName = mapEntry.getKey();
+
+			if (!isExcluded(parameterName, urlParameterMap)) {
+				baseURL.setParameter(parameterName, mapEntry.getValue());
+			}
+		}
+	}
+
+	private void applyTo(RenderURL renderURL, Map<String, String[]> urlParameterMap) {
+
+		MutableRenderParameters urlRenderParameters = renderURL.getRenderParameters();
+
+		// Remember the values that the URL has for the parameters that must not be overwritten.
+		List<String> excludedParameterNames = new ArrayList<String>();
+		List<String[]> excludedParameterValues = new ArrayList<String[]>();
+		Set<String> parameterNames = parameterMap.keySet();
+
+		for (String parameterName : parameterNames) {
+
+			if (isExcluded(parameterName, urlParameterMap)) {
+				excludedParameterNames.add(parameterName);
+				excludedParameterValues.add(urlRenderParameters.getValues(parameterName));
+			}
+		}
+
+		// Copy all of the render parameters (including whether or not each one is public) with a single call, which
+		// replaces the values of parameters with the same name, just like BaseURL#setParameter(String,String[]).
+		urlRenderParameters.add(renderParameters);
+
+		// Restore the parameters that must not be overwritten.
+		for (int i = 0; i < excludedParameterNames.size(); i++) {
+
+			String excludedParameterName = excludedParameterNames.get(i);
+			String[] excludedParameterValue = excludedParameterValues.get(i);
+
+			if (excludedParameterValue == null) {
+				urlRenderParameters.removeParameter(excludedParameterName);
+			}
+			else {
+				urlRenderParameters.setValues(excludedParameterName, excludedParameterValue);
+			}
+		}
+	}
+
+	private boolean isExcluded(String parameterName, Map<String, String[]> urlParameterMap) {
+
+		// Note that preserved action parameters, parameters that already exist in the URL string, and
+		// "javax.faces.ViewState" must not be copied.
+		return ResponseStateManager.VIEW_STATE_PARAM.equals(parameterName) ||
+			urlParameterMap.containsKey(parameterName);
+	}
+
+	private void putRenderParameters(Map<String, String[]> parameterMap, boolean publicParameters) {
+
+		for (String parameterName : renderParameters.getNames()) {
+
+			if (renderParameters.isPublic(parameterName) == publicParameters) {
+				parameterMap.put(parameterName, renderParameters.getValues(parameterName));
+			}
+		}
+	}
+}
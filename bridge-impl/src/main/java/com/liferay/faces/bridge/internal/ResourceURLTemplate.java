@@ -0,0 +1,237 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.internal;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.URLEncoder;
+import java.util.Arrays;
+
+import javax.portlet.BaseURL;
+import javax.portlet.ResourceURL;
+
+
+/**
+ * This class represents the string form of a {@link ResourceURL} created by the portlet container in which the value of
+ * each parameter has been replaced with a placeholder. It makes it possible to produce the string form of other
+ * ResourceURLs that have the same parameter names (in the same order) by substituting the encoded parameter values
+ * for the placeholders, rather than asking the portlet container to create a new ResourceURL each time.
+ *
+ * @author  Neil Griffin
+ */
+public class ResourceURLTemplate {
+
+	// Private Constants
+	private static final String PLACEHOLDER_PREFIX = "lfbResourceURLTemplate";
+	private static final String PLACEHOLDER_SUFFIX = "x";
+
+	// Since the bridge rather than the portlet container encodes the values that are substituted into the template,
+	// the probe value contains characters that are encoded differently by different URL encoders.
+	private static final String PROBE_VALUE = "a b+c&d=e/f?g~h*i%j\u00e9";
+
+	// Private Final Data Members
+	private final Segments escapedSegments;
+	private final int parameterCount;
+	private final Segments segments;
+
+	private ResourceURLTemplate(int parameterCount, Segments segments, Segments escapedSegments) {
+		this.parameterCount = parameterCount;
+		this.segments = segments;
+		this.escapedSegments = escapedSegments;
+	}
+
+	/**
+	 * Sets a placeholder value for each of the specified parameter names (in order) on the specified ResourceURL and
+	 * returns a template of the resulting string forms of the URL.
+	 *
+	 * @param   resourceURL     A newly created ResourceURL that does not have any parameters set. Note that the type
+	 *                          is {@link BaseURL} since only the methods of BaseURL are required.
+	 * @param   parameterNames  The names of the parameters of the URLs that the template is able to produce.
+	 *
+	 * @return  The template, or <code>null</code> if the placeholder values cannot each be located exactly once in the
+	 *          string forms of the URL (for example, because the portlet container encodes parameters in an
+	 *          unexpected manner).
+	 *
+	 * @throws  IOException  If the escaped string form of the URL cannot be written.
+	 */
+	public static ResourceURLTemplate newInstance(BaseURL resourceURL, String[] parameterNames) throws IOException {
+
+		String[] placeholders = new String[parameterNames.length];
+
+		for (int i = 0; i < parameterNames.length; i++) {
+			placeholders[i] = PLACEHOLDER_PREFIX + i + PLACEHOLDER_SUFFIX;
+			resourceURL.setParameter(parameterNames[i], placeholders[i]);
+		}
+
+		Segments segments = Segments.parse(resourceURL.toString(), placeholders);
+
+		if (segments == null) {
+			return null;
+		}
+
+		StringWriter stringWriter = new StringWriter();
+		resourceURL.write(stringWriter, true);
+
+		Segments escapedSegments = Segments.parse(stringWriter.toString(), placeholders);
+
+		if (escapedSegments == null) {
+			return null;
+		}
+
+		return new ResourceURLTemplate(parameterNames.length, segments, escapedSegments);
+	}
+
+	/**
+	 * Determines whether or not the template produces the same string forms as the specified ResourceURL after a value
+	 * that requires URL encoding has been set on it for each of the specified parameter names.
+	 *
+	 * @param   resourceURL     A newly created ResourceURL that does not have any parameters set.
+	 * @param   parameterNames  The names of the parameters that were specified when the template was created.
+	 * @param   encoding        The character encoding that is used to URL encode the values substituted into the
+	 *                          template.
+	 *
+	 * @return  <code>true</code> if the portlet container encodes parameter values in the same manner as the bridge,
+	 *          otherwise <code>false</code>.
+	 *
+	 * @throws  IOException  If the probe value cannot be encoded or the escaped string form of the URL cannot be
+	 *                       written.
+	 */
+	public boolean isEquivalent(BaseURL resourceURL, String[] parameterNames, String encoding) throws IOException {
+
+		String[] encodedValues = new String[parameterNames.length];
+		String encodedProbeValue = URLEncoder.encode(PROBE_VALUE, encoding);
+
+		for (int i = 0; i < parameterNames.length; i++) {
+			resourceURL.setParameter(parameterNames[i], PROBE_VALUE);
+			encodedValues[i] = encodedProbeValue;
+		}
+
+		StringWriter stringWriter = new StringWriter();
+		resourceURL.write(stringWriter, true);
+
+		return toString(encodedValues, false).equals(resourceURL.toString()) &&
+			toString(encodedValues, true).equals(stringWriter.toString());
+	}
+
+	/**
+	 * Returns the string form of a URL that has the specified parameter values.
+	 *
+	 * @param  encodedValues  The URL encoded values of the parameters, in the same order as the names that were
+	 *                        specified when the template was created.
+	 * @param  escapeXML      Flag indicating whether or not the URL is to be escaped for XML.
+	 */
+	public String toString(String[] encodedValues, boolean escapeXML) {
+
+		if (encodedValues.length != parameterCount) {
+			throw new IllegalArgumentException("Expected " + parameterCount + " values but received " +
+				encodedValues.length);
+		}
+
+		// Since URL encoded values do not contain any characters that must be escaped for XML, the same values can be
+		// substituted into the escaped form of the URL.
+		if (escapeXML) {
+			return escapedSegments.render(encodedValues);
+		}
+		else {
+			return segments.render(encodedValues);
+		}
+	}
+
+	private static final class Segments {
+
+		// Private Final Data Members
+		private final int length;
+		private final int[] parameterIndexes;
+		private final String[] text;
+
+		private Segments(String[] text, int[] parameterIndexes, int length) {
+			this.text = text;
+			this.parameterIndexes = parameterIndexes;
+			this.length = length;
+		}
+
+		public static Segments parse(String url, String[] placeholders) {
+
+			if (url == null) {
+				return null;
+			}
+
+			// Locate each placeholder, requiring that it appear exactly once in the URL. Since the portlet container
+			// is free to render the parameters in any order, the positions are encoded as (position * count) + index
+			// so that sorting them also sorts the indexes of the parameters.
+			int count = placeholders.length;
+			long[] positions = new long[count];
+
+			for (int i = 0; i < count; i++) {
+
+				int pos = url.indexOf(placeholders[i]);
+
+				if ((pos < 0) || (url.indexOf(placeholders[i], pos + 1) >= 0)) {
+					return null;
+				}
+
+				positions[i] = ((long) pos * count) + i;
+			}
+
+			Arrays.sort(positions);
+
+			String[] text = new String[count + 1];
+			int[] parameterIndexes = new int[count];
+			int length = 0;
+			int textStart = 0;
+
+			for (int i = 0; i < count; i++) {
+
+				int parameterIndex = (int) (positions[i] % count);
+				int pos = (int) (positions[i] / count);
+
+				if (pos < textStart) {
+					return null;
+				}
+
+				text[i] = url.substring(textStart, pos);
+				length += text[i].length();
+				parameterIndexes[i] = parameterIndex;
+				textStart = pos + placeholders[parameterIndex].length();
+			}
+
+			text[count] = url.substring(textStart);
+			length += text[count].length();
+
+			return new Segments(text, parameterIndexes, length);
+		}
+
+		public String render(String[] values) {
+
+			int capacity = length;
+
+			for (String value : values) {
+				capacity += value.length();
+			}
+
+			StringBuilder buf = new StringBuilder(capacity);
+
+			for (int i = 0; i < parameterIndexes.length; i++) {
+				buf.append(text[i]);
+				buf.append(values[parameterIndexes[i]]);
+			}
+
+			buf.append(text[parameterIndexes.length]);
+
+			return buf.toString();
+		}
+	}
+}
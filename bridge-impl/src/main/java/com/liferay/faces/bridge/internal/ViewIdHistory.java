@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.internal;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.portlet.faces.Bridge;
+
+import com.liferay.faces.bridge.helper.internal.PortletModeHelper;
+
+
+/**
+ * This class holds the viewId history of every portlet mode in a single session attribute. It is only used when the
+ * {@link PortletConfigParam#ViewIdHistoryCompact} init-param is true, in which case the history for a particular
+ * portlet mode can be obtained with an EL expression like
+ * <code>#{sessionScope['javax.portlet.faces.viewIdHistory'].viewIds['view']}</code>. Instances are immutable so that a
+ * change to the history always requires the session attribute to be set again (which in turn causes the session to be
+ * replicated in a clustered environment).
+ *
+ * @author  Neil Griffin
+ */
+public final class ViewIdHistory implements Serializable {
+
+	// serialVersionUID
+	private static final long serialVersionUID = 4096419463153532197L;
+
+	// Private Constants
+	private static final Map<String, String> ATTRIBUTE_NAMES;
+
+	static {
+
+		Map<String, String> attributeNames = new HashMap<String, String>();
+
+		for (String portletMode : PortletModeHelper.PORTLET_MODE_NAMES) {
+			attributeNames.put(portletMode, Bridge.VIEWID_HISTORY + "." + portletMode);
+		}
+
+		ATTRIBUTE_NAMES = Collections.unmodifiableMap(attributeNames);
+	}
+
+	// Private Final Data Members
+	private final Map<String, String> viewIds;
+
+	public ViewIdHistory(Map<String, String> viewIds) {
+		this.viewIds = Collections.unmodifiableMap(new HashMap<String, String>(viewIds));
+	}
+
+	/**
+	 * Returns the name of the "javax.portlet.faces.viewIdHistory.<code>portletMode</code>" session attribute
+	 * according to Section 5.4.3 of the Bridge Spec. The names for the standard portlet modes are precomputed.
+	 */
+	public static String getAttributeName(String portletMode) {
+
+		String attributeName = ATTRIBUTE_NAMES.get(portletMode);
+
+		if (attributeName == null) {
+			attributeName = Bridge.VIEWID_HISTORY + "." + portletMode;
+		}
+
+		return attributeName;
+	}
+
+	public String getViewId(String portletMode) {
+		return viewIds.get(portletMode);
+	}
+
+	public Map<String, String> getViewIds() {
+		return viewIds;
+	}
+
+	/**
+	 * Returns a copy of this history in which the specified portlet mode is associated with the specified viewId.
+	 */
+	public ViewIdHistory withViewId(String portletMode, String viewId) {
+
+		Map<String, String> viewIds = new HashMap<String, String>(this.viewIds);
+		viewIds.put(portletMode, viewId);
+
+		return new ViewIdHistory(viewIds);
+	}
+}
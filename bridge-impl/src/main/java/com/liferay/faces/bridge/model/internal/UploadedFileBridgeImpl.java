@@ -15,8 +15,6 @@
  */
 package com.liferay.faces.bridge.model.internal;
 
-import java.io.File;
-import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Serializable;
@@ -49,31 +47,10 @@ public class UploadedFileBridgeImpl implements Serializable, UploadedFile {
 	public void delete() throws IOException {
 
 		try {
-			String tempDirPath = null;
-			String absolutePath = wrappedUploadedFile.getAbsolutePath();
-
-			if (absolutePath != null) {
-				File wrappedFile = new File(absolutePath);
-				tempDirPath = wrappedFile.getParent();
-
-				if (tempDirPath != null) {
-					File tempDir = new File(tempDirPath);
-					File[] files = tempDir.listFiles(new FilenameFilter() {
-								@Override
-								public boolean accept(File dir, String name) {
-									return ((name != null) && name.endsWith(".tmp"));
-								}
-							});
-
-					if (files != null) {
-
-						for (File file : files) {
-							file.delete();
-						}
-					}
-				}
-			}
 
+			// Delete only the file that was written for this upload rather than listing the uploaded files directory,
+			// which may contain the files of other in-flight uploads. The temporary storage of the container's part is
+			// released while the request is still in progress (see MultiPartFormDataProcessorCompatImpl).
 			wrappedUploadedFile.delete();
 		}
 		catch (Exception e) {
@@ -15,9 +15,12 @@
  */
 package com.liferay.faces.bridge.preference.internal;
 
+import java.io.IOException;
 import java.util.Enumeration;
 
 import javax.portlet.PortletPreferences;
+import javax.portlet.ReadOnlyException;
+import javax.portlet.ValidatorException;
 import javax.portlet.faces.preference.Preference;
 
 import com.liferay.faces.util.map.AbstractPropertyMap;
@@ -29,29 +32,35 @@ import com.liferay.faces.util.map.AbstractPropertyMapEntry;
  */
 public class MutablePreferenceMap extends AbstractPropertyMap<Preference> {
 
-	private PortletPreferences portletPreferences;
+	private PortletPreferencesSnapshot portletPreferencesSnapshot;
 
 	public MutablePreferenceMap(PortletPreferences portletPreferences) {
-		this.portletPreferences = portletPreferences;
+		this.portletPreferencesSnapshot = new PortletPreferencesSnapshot(portletPreferences);
+	}
+
+	/**
+	 * Writes the preference values that were changed through this map to the underlying {@link PortletPreferences}
+	 * and stores them.
+	 */
+	public void store() throws ReadOnlyException, ValidatorException, IOException {
+		portletPreferencesSnapshot.store();
 	}
 
 	@Override
 	protected AbstractPropertyMapEntry<Preference> createPropertyMapEntry(String name) {
-		Preference preference = new PreferenceImpl(portletPreferences, name);
+		Preference preference = portletPreferencesSnapshot.getPreference(name);
 
 		return new MutablePreferenceMapEntry(preference, name);
 	}
 
 	@Override
 	protected Preference getProperty(String name) {
-		Preference preference = new PreferenceImpl(portletPreferences, name);
-
-		return preference;
+		return portletPreferencesSnapshot.getPreference(name);
 	}
 
 	@Override
 	protected Enumeration<String> getPropertyNames() {
-		return portletPreferences.getNames();
+		return portletPreferencesSnapshot.getNames();
 	}
 
 	@Override
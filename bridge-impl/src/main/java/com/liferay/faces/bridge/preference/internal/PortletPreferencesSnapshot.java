@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.preference.internal;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javax.portlet.PortletPreferences;
+import javax.portlet.ReadOnlyException;
+import javax.portlet.ValidatorException;
+import javax.portlet.faces.preference.Preference;
+
+
+/**
+ * This class provides a request-scoped snapshot of {@link PortletPreferences}. The names and values are read once (via
+ * {@link PortletPreferences#getMap()}) when the snapshot is created and all subsequent reads are answered from that
+ * copy. Calls to {@link #setValue(String, String)}, {@link #setValues(String, String[])} and {@link #reset(String)} are
+ * applied to the copy and buffered until {@link #store()} is called, at which time they are written to the underlying
+ * {@link PortletPreferences} and stored. Until then, the value of a name that has been reset is <code>null</code>
+ * since the default value is only known after the underlying {@link PortletPreferences} has been reset.
+ *
+ * @author  Neil Griffin
+ */
+public class PortletPreferencesSnapshot {
+
+	// Private Final Data Members
+	private final Set<String> pendingResets;
+	private final Map<String, String[]> pendingValues;
+	private final PortletPreferences portletPreferences;
+	private final Map<String, Preference> preferences;
+	private final Map<String, Boolean> readOnlyFlags;
+	private final Map<String, String[]> values;
+
+	public PortletPreferencesSnapshot(PortletPreferences portletPreferences) {
+		this.pendingResets = new LinkedHashSet<String>();
+		this.pendingValues = new LinkedHashMap<String, String[]>();
+		this.portletPreferences = portletPreferences;
+		this.preferences = new HashMap<String, Preference>();
+		this.readOnlyFlags = new HashMap<String, Boolean>();
+		this.values = new LinkedHashMap<String, String[]>(portletPreferences.getMap());
+	}
+
+	public Enumeration<String> getNames() {
+		return Collections.enumeration(values.keySet());
+	}
+
+	public Preference getPreference(String name) {
+
+		Preference preference = preferences.get(name);
+
+		if (preference == null) {
+			preference = new PreferenceImpl(this, name);
+			preferences.put(name, preference);
+		}
+
+		return preference;
+	}
+
+	public String getValue(String name) {
+
+		String value = null;
+		String[] nameValues = values.get(name);
+
+		if ((nameValues != null) && (nameValues.length > 0)) {
+			value = nameValues[0];
+		}
+
+		return value;
+	}
+
+	/**
+	 * Returns the values of the specified name from the snapshot. The returned array is shared with the snapshot and
+	 * must not be modified by the caller.
+	 */
+	public String[] getValues(String name) {
+		return values.get(name);
+	}
+
+	public boolean isReadOnly(String name) {
+
+		Boolean readOnly = readOnlyFlags.get(name);
+
+		if (readOnly == null) {
+			readOnly = portletPreferences.isReadOnly(name);
+			readOnlyFlags.put(name, readOnly);
+		}
+
+		return readOnly;
+	}
+
+	public void reset(String name) throws ReadOnlyException {
+
+		verifyWritable(name);
+		pendingValues.remove(name);
+		pendingResets.add(name);
+		values.put(name, null);
+	}
+
+	public void setValue(String name, String value) throws ReadOnlyException {
+		setValues(name, new String[] { value });
+	}
+
+	public void setValues(String name, String[] values) throws ReadOnlyException {
+
+		verifyWritable(name);
+
+		String[] copy = null;
+
+		if (values != null) {
+			copy = values.clone();
+		}
+
+		pendingValues.put(name, copy);
+		this.values.put(name, copy);
+	}
+
+	/**
+	 * Writes the buffered resets and values to the underlying {@link PortletPreferences} and then calls {@link
+	 * PortletPreferences#store()}. Afterwards, the values of the names that were reset are read again so that the
+	 * snapshot reflects their default values.
+	 */
+	public void store() throws ReadOnlyException, ValidatorException, IOException {
+
+		for (String name : pendingResets) {
+			portletPreferences.reset(name);
+		}
+
+		for (Map.Entry<String, String[]> pendingValue : pendingValues.entrySet()) {
+			portletPreferences.setValues(pendingValue.getKey(), pendingValue.getValue());
+		}
+
+		portletPreferences.store();
+
+		for (String name : pendingResets) {
+
+			String[] defaultValues = portletPreferences.getValues(name, null);
+
+			if (defaultValues == null) {
+				values.remove(name);
+			}
+			else {
+				values.put(name, defaultValues);
+			}
+		}
+
+		pendingResets.clear();
+		pendingValues.clear();
+	}
+
+	private void verifyWritable(String name) throws ReadOnlyException {
+
+		if (isReadOnly(name)) {
+			throw new ReadOnlyException("Preference name=[" + name + "] is read-only");
+		}
+	}
+}
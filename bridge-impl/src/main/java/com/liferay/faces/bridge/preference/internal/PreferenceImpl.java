@@ -17,7 +17,6 @@ package com.liferay.faces.bridge.preference.internal;
 
 import java.util.List;
 
-import javax.portlet.PortletPreferences;
 import javax.portlet.ReadOnlyException;
 import javax.portlet.faces.preference.Preference;
 
@@ -28,11 +27,11 @@ import javax.portlet.faces.preference.Preference;
 public class PreferenceImpl implements Preference {
 
 	private String name;
-	private PortletPreferences portletPreferences;
+	private PortletPreferencesSnapshot portletPreferencesSnapshot;
 	private PreferenceValuesList preferenceValuesList;
 
-	public PreferenceImpl(PortletPreferences portletPreferences, String name) {
-		this.portletPreferences = portletPreferences;
+	public PreferenceImpl(PortletPreferencesSnapshot portletPreferencesSnapshot, String name) {
+		this.portletPreferencesSnapshot = portletPreferencesSnapshot;
 		this.name = name;
 	}
 
@@ -41,24 +40,24 @@ public class PreferenceImpl implements Preference {
 	}
 
 	public String getValue() {
-		return portletPreferences.getValue(name, null);
+		return portletPreferencesSnapshot.getValue(name);
 	}
 
 	public List<String> getValues() {
 
 		if (preferenceValuesList == null) {
-			preferenceValuesList = new PreferenceValuesList(portletPreferences, name);
+			preferenceValuesList = new PreferenceValuesList(portletPreferencesSnapshot, name);
 		}
 
 		return preferenceValuesList;
 	}
 
 	public boolean isReadOnly() {
-		return portletPreferences.isReadOnly(name);
+		return portletPreferencesSnapshot.isReadOnly(name);
 	}
 
 	public void reset() throws ReadOnlyException {
-		portletPreferences.reset(name);
+		portletPreferencesSnapshot.reset(name);
 	}
 
 	public void setName(String name) {
@@ -66,10 +65,10 @@ public class PreferenceImpl implements Preference {
 	}
 
 	public void setValue(String value) throws ReadOnlyException {
-		portletPreferences.setValue(name, value);
+		portletPreferencesSnapshot.setValue(name, value);
 	}
 
 	public void setValues(String[] values) throws ReadOnlyException {
-		portletPreferences.setValues(name, values);
+		portletPreferencesSnapshot.setValues(name, values);
 	}
 }
@@ -20,19 +20,17 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 
-import javax.portlet.PortletPreferences;
-
 
 /**
  * @author  Neil Griffin
  */
 public class PreferenceValuesList implements List<String> {
 
-	private PortletPreferences portletPreferences;
+	private PortletPreferencesSnapshot portletPreferencesSnapshot;
 	private String name;
 
-	public PreferenceValuesList(PortletPreferences portletPreferences, String name) {
-		this.portletPreferences = portletPreferences;
+	public PreferenceValuesList(PortletPreferencesSnapshot portletPreferencesSnapshot, String name) {
+		this.portletPreferencesSnapshot = portletPreferencesSnapshot;
 		this.name = name;
 	}
 
@@ -59,7 +57,7 @@ public class PreferenceValuesList implements List<String> {
 	public boolean contains(Object value) {
 
 		if (value != null) {
-			String[] values = portletPreferences.getValues(name, null);
+			String[] values = portletPreferencesSnapshot.getValues(name);
 
 			if (values != null) {
 
@@ -137,7 +135,7 @@ public class PreferenceValuesList implements List<String> {
 
 	public String get(int index) {
 		String value = null;
-		String[] values = portletPreferences.getValues(name, null);
+		String[] values = portletPreferencesSnapshot.getValues(name);
 
 		if ((values != null) && (values.length > index)) {
 			value = values[index];
@@ -148,7 +146,7 @@ public class PreferenceValuesList implements List<String> {
 
 	public int indexOf(Object value) {
 		int index = 0;
-		String[] values = portletPreferences.getValues(name, null);
+		String[] values = portletPreferencesSnapshot.getValues(name);
 
 		if ((values != null)) {
 
@@ -167,13 +165,13 @@ public class PreferenceValuesList implements List<String> {
 	}
 
 	public boolean isEmpty() {
-		String[] values = portletPreferences.getValues(name, null);
+		String[] values = portletPreferencesSnapshot.getValues(name);
 
 		return ((values == null) || (values.length == 0));
 	}
 
 	public Iterator<String> iterator() {
-		return new PreferenceValueIterator(portletPreferences.getNames());
+		return new PreferenceValueIterator(portletPreferencesSnapshot.getNames());
 	}
 
 	public int lastIndexOf(Object value) {
@@ -210,7 +208,7 @@ public class PreferenceValuesList implements List<String> {
 
 	public int size() {
 		int size = 0;
-		String[] values = portletPreferences.getValues(name, null);
+		String[] values = portletPreferencesSnapshot.getValues(name);
 
 		if (values != null) {
 			size = values.length;
@@ -224,7 +222,14 @@ public class PreferenceValuesList implements List<String> {
 	}
 
 	public Object[] toArray() {
-		return portletPreferences.getValues(name, null);
+
+		String[] values = portletPreferencesSnapshot.getValues(name);
+
+		if (values == null) {
+			return null;
+		}
+
+		return values.clone();
 	}
 
 	public <T> T[] toArray(T[] arg0) {
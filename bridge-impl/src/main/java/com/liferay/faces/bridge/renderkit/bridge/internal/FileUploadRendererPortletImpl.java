@@ -25,9 +25,8 @@ import javax.faces.render.Renderer;
 import javax.faces.render.RendererWrapper;
 import javax.portlet.ClientDataRequest;
 
-import com.liferay.faces.bridge.context.map.internal.ContextMapFactory;
 import com.liferay.faces.bridge.model.UploadedFile;
-import com.liferay.faces.util.factory.FactoryExtensionFinder;
+import com.liferay.faces.bridge.util.internal.RequestMapUtil;
 
 
 /**
@@ -35,6 +34,9 @@ import com.liferay.faces.util.factory.FactoryExtensionFinder;
  */
 public final class FileUploadRendererPortletImpl extends RendererWrapper {
 
+	// Private Constants
+	private static final String FILE_UPLOAD_ADAPTER = HttpServletRequestFileUploadAdapter.class.getName();
+
 	// Private Final Data Members
 	private final Renderer wrappedRenderer;
 
@@ -45,19 +47,16 @@ public final class FileUploadRendererPortletImpl extends RendererWrapper {
 	@Override
 	public void decode(FacesContext facesContext, UIComponent uiComponent) {
 
-		ExternalContext externalContext = facesContext.getExternalContext();
-		ClientDataRequest clientDataRequest = (ClientDataRequest) externalContext.getRequest();
-		ContextMapFactory contextMapFactory = (ContextMapFactory) FactoryExtensionFinder.getFactory(externalContext,
-				ContextMapFactory.class);
-		Map<String, List<UploadedFile>> uploadedFileMap = (Map<String, List<UploadedFile>>)
-			contextMapFactory.getUploadedFileMap(clientDataRequest);
+		Map<String, List<UploadedFile>> uploadedFileMap = RequestMapUtil.getUploadedFileMap(facesContext);
 
 		if (!uploadedFileMap.isEmpty()) {
 
+			ExternalContext externalContext = facesContext.getExternalContext();
+			ClientDataRequest clientDataRequest = (ClientDataRequest) externalContext.getRequest();
+
 			try {
 
-				externalContext.setRequest(new HttpServletRequestFileUploadAdapter(clientDataRequest, uploadedFileMap,
-						externalContext));
+				externalContext.setRequest(getFileUploadAdapter(facesContext, clientDataRequest, uploadedFileMap));
 				super.decode(facesContext, uiComponent);
 			}
 			finally {
@@ -70,4 +69,26 @@ public final class FileUploadRendererPortletImpl extends RendererWrapper {
 	public Renderer getWrapped() {
 		return wrappedRenderer;
 	}
+
+	/**
+	 * Returns the adapter that is shared by every file upload component decoded during the current request, so that
+	 * the parts (and query string) of the adapter are only built once. The adapter is cached as an attribute of the
+	 * specified request. Since it is a {@link javax.portlet.PortletRequest}, it is never saved in the bridge request
+	 * scope.
+	 */
+	private HttpServletRequestFileUploadAdapter getFileUploadAdapter(FacesContext facesContext,
+		ClientDataRequest clientDataRequest, Map<String, List<UploadedFile>> uploadedFileMap) {
+
+		HttpServletRequestFileUploadAdapter fileUploadAdapter = (HttpServletRequestFileUploadAdapter)
+			clientDataRequest.getAttribute(FILE_UPLOAD_ADAPTER);
+
+		if ((fileUploadAdapter == null) || (fileUploadAdapter.getRequest() != clientDataRequest)) {
+
+			fileUploadAdapter = new HttpServletRequestFileUploadAdapter(clientDataRequest, uploadedFileMap,
+					facesContext.getExternalContext());
+			clientDataRequest.setAttribute(FILE_UPLOAD_ADAPTER, fileUploadAdapter);
+		}
+
+		return fileUploadAdapter;
+	}
 }
@@ -29,6 +29,7 @@ import javax.faces.context.FacesContext;
 import javax.faces.context.ResponseWriter;
 import javax.faces.render.Renderer;
 import javax.portlet.PortalContext;
+import javax.portlet.PortletConfig;
 import javax.portlet.PortletContext;
 import javax.portlet.PortletRequest;
 import javax.portlet.PortletResponse;
@@ -36,6 +37,9 @@ import javax.portlet.PortletResponse;
 import com.liferay.faces.bridge.component.internal.ComponentUtil;
 import com.liferay.faces.bridge.context.BridgePortalContext;
 import com.liferay.faces.bridge.context.HeadResponseWriterFactory;
+import com.liferay.faces.bridge.timing.internal.BridgeTimingSink;
+import com.liferay.faces.bridge.timing.internal.BridgeTimingSinkFactory;
+import com.liferay.faces.bridge.util.internal.RequestMapUtil;
 import com.liferay.faces.util.application.ResourceUtil;
 import com.liferay.faces.util.logging.Logger;
 import com.liferay.faces.util.logging.LoggerFactory;
@@ -68,6 +72,14 @@ public class HeadRendererBridgeImpl extends Renderer {
 	@Override
 	public void encodeChildren(FacesContext facesContext, UIComponent uiComponent) throws IOException {
 
+		PortletConfig portletConfig = RequestMapUtil.getPortletConfig(facesContext);
+		BridgeTimingSink bridgeTimingSink = BridgeTimingSinkFactory.getBridgeTimingSinkInstance(portletConfig);
+		long startTime = 0L;
+
+		if (bridgeTimingSink.isEnabled()) {
+			startTime = System.nanoTime();
+		}
+
 		// Build up a list of components that are intended for the <head> section of the portal page.
 		UIViewRoot uiViewRoot = facesContext.getViewRoot();
 		List<UIComponent> headResources = new ArrayList<UIComponent>();
@@ -225,6 +237,11 @@ public class HeadRendererBridgeImpl extends Renderer {
 			// Restore the temporary ResponseWriter reference.
 			facesContext.setResponseWriter(responseWriterBackup);
 		}
+
+		if (bridgeTimingSink.isEnabled()) {
+			bridgeTimingSink.record(portletConfig.getPortletName(), BridgeTimingSink.STEP_HEAD_RESOURCES,
+				System.nanoTime() - startTime);
+		}
 	}
 
 	@Override
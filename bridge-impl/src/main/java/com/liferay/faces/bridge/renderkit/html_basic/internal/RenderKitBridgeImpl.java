@@ -79,7 +79,8 @@ public class RenderKitBridgeImpl extends RenderKitBridgeImplCompat {
 					renderer = new HeadRendererICEfacesImpl();
 				}
 				else if (PRIMEFACES_DETECTED) {
-					renderer = new HeadRendererPrimeFacesImpl();
+					renderer = new HeadRendererPrimeFacesImpl(PRIMEFACES.getMajorVersion(),
+							PRIMEFACES.getMinorVersion());
 				}
 				else {
 					renderer = new HeadRendererBridgeImpl();
@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.faces.application.Application;
 import javax.faces.application.ResourceHandler;
@@ -31,10 +32,14 @@ import javax.faces.context.ExternalContext;
 import javax.faces.context.FacesContext;
 import javax.faces.context.ResponseWriter;
 import javax.faces.render.Renderer;
+import javax.portlet.PortletConfig;
 
 import com.liferay.faces.bridge.component.internal.ResourceComponent;
+import com.liferay.faces.bridge.internal.PortletConfigParam;
 import com.liferay.faces.bridge.renderkit.html_basic.internal.HeadRendererBridgeImpl;
 import com.liferay.faces.bridge.renderkit.html_basic.internal.InlineScript;
+import com.liferay.faces.bridge.renderkit.primefaces.internal.PrimeFacesHeadCapture.ResourceDescriptor;
+import com.liferay.faces.bridge.util.internal.RequestMapUtil;
 import com.liferay.faces.bridge.util.internal.TCCLUtil;
 import com.liferay.faces.bridge.util.internal.URLUtil;
 import com.liferay.faces.util.lang.ThreadSafeAccessor;
@@ -54,22 +59,33 @@ public class HeadRendererPrimeFacesImpl extends HeadRendererBridgeImpl {
 	private static final Logger logger = LoggerFactory.getLogger(HeadRendererPrimeFacesImpl.class);
 
 	// Private Constants
+	private static final String HEAD_CAPTURE_CACHE_KEY = HeadRendererPrimeFacesImpl.class.getName() +
+		"_headCaptureCache";
 	private static final String MOBILE_COMPONENT_RESOURCES_KEY = HeadRendererPrimeFacesImpl.class.getName() +
 		"_mobileComponentResources";
+	private static final String PRIMEFACES_THEME_PARAM = "primefaces.THEME";
 	private static final String PRIMEFACES_THEME_PREFIX = "primefaces-";
 	private static final String PRIMEFACES_THEME_RESOURCE_NAME = "theme.css";
 
 	// Private Final Data Members
+	private final int majorVersion;
+	private final int minorVersion;
 	private final PrimeFacesHeadRendererAccessor primeFacesHeadRendererAccessor = new PrimeFacesHeadRendererAccessor();
 	private final PrimeFacesMobileHeadRendererAccessor primeFacesMobileHeadRendererAccessor =
 		new PrimeFacesMobileHeadRendererAccessor();
 
+	public HeadRendererPrimeFacesImpl(int majorVersion, int minorVersion) {
+		this.majorVersion = majorVersion;
+		this.minorVersion = minorVersion;
+	}
+
 	@Override
 	public void encodeBegin(FacesContext facesContext, UIComponent uiComponent) throws IOException {
 
 		UIViewRoot originalUIViewRoot = facesContext.getViewRoot();
+		boolean mobile = isMobile(facesContext);
 
-		if (isMobile(facesContext)) {
+		if (mobile) {
 
 			List<UIComponent> componentResources = originalUIViewRoot.getComponentResources(facesContext, "head");
 			List<UIComponent> resourcesToRemove = new ArrayList<UIComponent>();
@@ -99,7 +115,9 @@ public class HeadRendererPrimeFacesImpl extends HeadRendererBridgeImpl {
 
 		// Invoke the PrimeFaces HeadRenderer so that it has the opportunity to add css and/or script resources to the
 		// view root. However, the PrimeFaces HeadRenderer must be captured (and thus prevented from actually rendering
-		// any resources) so that they can instead be rendered by the superclass.
+		// any resources) so that they can instead be rendered by the superclass. Note that the PrimeFaces HeadRenderer
+		// is invoked for every render, since the inline scripts that it encodes contain request-specific values such as
+		// the locale and the viewId.
 		FacesContext primeFacesContext = new FacesContextPrimeFacesHeadImpl(facesContext);
 		ResponseWriter origResponseWriter = primeFacesContext.getResponseWriter();
 		PrimeFacesHeadResponseWriter primeFacesHeadResponseWriter = new PrimeFacesHeadResponseWriter();
@@ -108,7 +126,7 @@ public class HeadRendererPrimeFacesImpl extends HeadRendererBridgeImpl {
 		ResourceCapturingUIViewRoot resourceCapturingUIViewRoot = new ResourceCapturingUIViewRoot();
 		primeFacesContext.setViewRoot(resourceCapturingUIViewRoot);
 
-		Renderer primeFacesHeadRenderer = getPrimeFacesHeadRenderer(facesContext);
+		Renderer primeFacesHeadRenderer = getPrimeFacesHeadRenderer(facesContext, mobile);
 		primeFacesHeadRenderer.encodeBegin(primeFacesContext, uiComponent);
 		primeFacesContext.setViewRoot(originalUIViewRoot);
 		primeFacesContext.setResponseWriter(origResponseWriter);
@@ -122,113 +140,49 @@ public class HeadRendererPrimeFacesImpl extends HeadRendererBridgeImpl {
 		// PrimeFaces 5.0/4.0 HeadRenderer does not add resources to the view root. Instead, it encodes a <script>
 		// element to the response writer with a "src" attribute containing a URL (an external script). When this
 		// occurs, it is necessary to reverse-engineer the URL of each external script in order to determine the
-		// name/library of the corresponding JSF2 resource.
+		// name/library of the corresponding JSF2 resource. If the cache is enabled and the very same URLs were
+		// previously reverse-engineered for the same PrimeFaces version, theme, and mobile flag, then the resulting
+		// descriptors are reused rather than parsing the URLs again.
 		List<String> externalResourceURLs = primeFacesHeadResponseWriter.getExternalResourceURLs();
+		List<ResourceDescriptor> externalResourceDescriptors = null;
 
-		// For each external script URL:
-		if (externalResourceURLs.size() > 0) {
-
-			ExternalContext externalContext = facesContext.getExternalContext();
-			String resourceNameParam = externalContext.encodeNamespace("javax.faces.resource");
-			String libraryNameParam = externalContext.encodeNamespace("ln");
-
-			for (String externalResourceURL : externalResourceURLs) {
-
-				// Determine the value of the "javax.faces.resource" and "ln" parameters from the URL.
-				String resourceName = null;
-				String libraryName = null;
-				ResponseWriter responseWriter = facesContext.getResponseWriter();
-				String characterEncoding = responseWriter.getCharacterEncoding();
-				Map<String, String[]> parsedParameterMapValuesArray = URLUtil.parseParameterMapValuesArray(
-						externalResourceURL, characterEncoding);
-
-				if (parsedParameterMapValuesArray != null) {
-
-					String[] resourceNameParamValues = parsedParameterMapValuesArray.get(resourceNameParam);
-
-					if ((resourceNameParamValues == null) || (resourceNameParamValues.length < 1)) {
-						resourceNameParamValues = parsedParameterMapValuesArray.get("javax.faces.resource");
-					}
-
-					if ((resourceNameParamValues != null) && (resourceNameParamValues.length > 0)) {
-						resourceName = resourceNameParamValues[0];
-					}
+		if (!externalResourceURLs.isEmpty()) {
 
-					if (resourceName == null) {
-
-						int indexOfResource = externalResourceURL.indexOf("javax.faces.resource/");
-						int indexOfQuery = externalResourceURL.indexOf("?");
+			Map<PrimeFacesHeadCaptureKey, PrimeFacesHeadCapture> primeFacesHeadCaptureCache = null;
+			PrimeFacesHeadCaptureKey primeFacesHeadCaptureKey = null;
+			PortletConfig portletConfig = RequestMapUtil.getPortletConfig(facesContext);
 
-						if (indexOfResource > -1) {
-
-							int indexOfResourceName = indexOfResource + "javax.faces.resource/".length();
-
-							if (indexOfQuery > -1) {
-								resourceName = externalResourceURL.substring(indexOfResourceName, indexOfQuery);
-							}
-							else {
-								resourceName = externalResourceURL.substring(indexOfResourceName);
-							}
-						}
-					}
+			if (PortletConfigParam.PrimeFacesHeadCaptureCacheEnabled.getBooleanValue(portletConfig)) {
 
-					String[] libraryNameParamValues = parsedParameterMapValuesArray.get(libraryNameParam);
+				primeFacesHeadCaptureCache = getPrimeFacesHeadCaptureCache(facesContext.getExternalContext());
+				primeFacesHeadCaptureKey = new PrimeFacesHeadCaptureKey(majorVersion, minorVersion,
+						getTheme(facesContext), mobile);
 
-					if ((libraryNameParamValues == null) || (libraryNameParamValues.length < 1)) {
-						libraryNameParamValues = parsedParameterMapValuesArray.get("ln");
-					}
+				PrimeFacesHeadCapture cachedPrimeFacesHeadCapture = primeFacesHeadCaptureCache.get(
+						primeFacesHeadCaptureKey);
 
-					if ((libraryNameParamValues != null) && (libraryNameParamValues.length > 0)) {
-						libraryName = libraryNameParamValues[0];
-					}
+				if ((cachedPrimeFacesHeadCapture != null) &&
+						cachedPrimeFacesHeadCapture.getExternalResourceURLs().equals(externalResourceURLs)) {
+					externalResourceDescriptors = cachedPrimeFacesHeadCapture.getExternalResourceDescriptors();
 				}
+			}
 
-				// If the "javax.faces.resource" and "ln" parameters were found, then create the corresponding JSF2
-				// resource and add it to the view root.
-				if ((resourceName != null) && (libraryName != null)) {
-
-					if (resourceName.equals(PRIMEFACES_THEME_RESOURCE_NAME) &&
-							libraryName.startsWith(PRIMEFACES_THEME_PREFIX)) {
-
-						ResourceComponent primefacesThemeResource = new ResourceComponent(facesContext, resourceName,
-								libraryName, externalContext.encodeNamespace(""));
-						Map<Object, Object> facesContextAttributes = facesContext.getAttributes();
-						facesContextAttributes.put("primefacesTheme", primefacesThemeResource);
-					}
-					else {
-
-						Application application = facesContext.getApplication();
-						ResourceHandler resourceHandler = application.getResourceHandler();
-						UIComponent resource = application.createComponent(UIOutput.COMPONENT_TYPE);
-						String rendererType = resourceHandler.getRendererTypeForResourceName(resourceName);
-						resource.setRendererType(rendererType);
-						resource.setTransient(true);
-						resource.getAttributes().put("name", resourceName);
-						resource.getAttributes().put("library", libraryName);
-						resource.getAttributes().put("target", "head");
-
-						if (isMobile(facesContext)) {
-
-							if (isMobileComponentResource(resourceName, libraryName)) {
-								capturedMobileResources.add(resource);
-							}
-							else {
+			if (externalResourceDescriptors == null) {
 
-								if (isComponentResourceSuppressedWhenMobile(resourceName, libraryName)) {
-									resource.setRendered(false);
-								}
+				externalResourceDescriptors = getExternalResourceDescriptors(facesContext, externalResourceURLs);
 
-								capturedResources.add(resource);
-							}
-						}
-						else {
-							capturedResources.add(resource);
-						}
-					}
+				if (primeFacesHeadCaptureCache != null) {
+					primeFacesHeadCaptureCache.put(primeFacesHeadCaptureKey,
+						new PrimeFacesHeadCapture(externalResourceDescriptors, externalResourceURLs));
 				}
 			}
+
+			addExternalResources(facesContext, externalResourceDescriptors, capturedResources,
+				capturedMobileResources, mobile);
 		}
 
+		List<InlineScript> inlineScripts = primeFacesHeadResponseWriter.getInlineScripts();
+
 		// Add each component resources that was captured to the real view root so that they will be rendered by the
 		// superclass.
 		for (UIComponent componentResource : capturedResources) {
@@ -238,15 +192,13 @@ public class HeadRendererPrimeFacesImpl extends HeadRendererBridgeImpl {
 		// FACES-2061: If the PrimeFaces HeadRenderer attempted to render an inline script (as is the case when
 		// PrimeFaces client side validation is activated) then add a component that can render the script to the view
 		// root.
-		List<InlineScript> inlineScripts = primeFacesHeadResponseWriter.getInlineScripts();
-
 		if (!inlineScripts.isEmpty()) {
 
 			// If the PrimeFaces Mobile HeadRenderer is being used, the first inline script in the <head> section must
 			// be rendered after jQuery.js is rendered/loaded and before other mobile resources. For more information,
 			// see http://demos.jquerymobile.com/1.0/docs/api/globalconfig.html and
 			// https://github.com/primefaces/primefaces/blob/6_0/src/main/java/org/primefaces/mobile/renderkit/HeadRenderer.java#L68-L87.
-			if (isMobile(facesContext)) {
+			if (mobile) {
 
 				InlineScript mobileInlineScript = inlineScripts.remove(0);
 				ListIterator<UIComponent> listIterator = capturedMobileResources.listIterator();
@@ -271,7 +223,7 @@ public class HeadRendererPrimeFacesImpl extends HeadRendererBridgeImpl {
 			}
 		}
 
-		if (isMobile(facesContext)) {
+		if (mobile) {
 
 			// Save captured mobile resources so that they can be rendered in as middle resources before other scripts.
 			// For more information, see HeadRendererBridgeImpl.encodeChildren(),
@@ -332,9 +284,145 @@ public class HeadRendererPrimeFacesImpl extends HeadRendererBridgeImpl {
 		return middleResources;
 	}
 
-	private Renderer getPrimeFacesHeadRenderer(FacesContext facesContext) {
+	private void addExternalResources(FacesContext facesContext, List<ResourceDescriptor> externalResourceDescriptors,
+		List<UIComponent> capturedResources, List<UIComponent> capturedMobileResources, boolean mobile) {
 
-		if (isMobile(facesContext)) {
+		for (ResourceDescriptor externalResourceDescriptor : externalResourceDescriptors) {
+
+			String resourceName = externalResourceDescriptor.getResourceName();
+			String libraryName = externalResourceDescriptor.getLibraryName();
+
+			if (resourceName.equals(PRIMEFACES_THEME_RESOURCE_NAME) &&
+					libraryName.startsWith(PRIMEFACES_THEME_PREFIX)) {
+
+				ExternalContext externalContext = facesContext.getExternalContext();
+				ResourceComponent primefacesThemeResource = new ResourceComponent(facesContext, resourceName,
+						libraryName, externalContext.encodeNamespace(""));
+				Map<Object, Object> facesContextAttributes = facesContext.getAttributes();
+				facesContextAttributes.put("primefacesTheme", primefacesThemeResource);
+			}
+			else {
+
+				UIComponent resource = newComponentResource(facesContext, externalResourceDescriptor);
+
+				if (mobile) {
+
+					if (isMobileComponentResource(resourceName, libraryName)) {
+						capturedMobileResources.add(resource);
+					}
+					else {
+
+						if (isComponentResourceSuppressedWhenMobile(resourceName, libraryName)) {
+							resource.setRendered(false);
+						}
+
+						capturedResources.add(resource);
+					}
+				}
+				else {
+					capturedResources.add(resource);
+				}
+			}
+		}
+	}
+
+	private List<ResourceDescriptor> getExternalResourceDescriptors(FacesContext facesContext,
+		List<String> externalResourceURLs) {
+
+		List<ResourceDescriptor> externalResourceDescriptors = new ArrayList<ResourceDescriptor>();
+
+		// For each external script URL:
+		if (externalResourceURLs.size() > 0) {
+
+			ExternalContext externalContext = facesContext.getExternalContext();
+			String resourceNameParam = externalContext.encodeNamespace("javax.faces.resource");
+			String libraryNameParam = externalContext.encodeNamespace("ln");
+			ResponseWriter responseWriter = facesContext.getResponseWriter();
+			String characterEncoding = responseWriter.getCharacterEncoding();
+			Application application = facesContext.getApplication();
+			ResourceHandler resourceHandler = application.getResourceHandler();
+
+			for (String externalResourceURL : externalResourceURLs) {
+
+				// Determine the value of the "javax.faces.resource" and "ln" parameters from the URL.
+				String resourceName = null;
+				String libraryName = null;
+				Map<String, String[]> parsedParameterMapValuesArray = URLUtil.parseParameterMapValuesArray(
+						externalResourceURL, characterEncoding);
+
+				if (parsedParameterMapValuesArray != null) {
+
+					String[] resourceNameParamValues = parsedParameterMapValuesArray.get(resourceNameParam);
+
+					if ((resourceNameParamValues == null) || (resourceNameParamValues.length < 1)) {
+						resourceNameParamValues = parsedParameterMapValuesArray.get("javax.faces.resource");
+					}
+
+					if ((resourceNameParamValues != null) && (resourceNameParamValues.length > 0)) {
+						resourceName = resourceNameParamValues[0];
+					}
+
+					if (resourceName == null) {
+
+						int indexOfResource = externalResourceURL.indexOf("javax.faces.resource/");
+						int indexOfQuery = externalResourceURL.indexOf("?");
+
+						if (indexOfResource > -1) {
+
+							int indexOfResourceName = indexOfResource + "javax.faces.resource/".length();
+
+							if (indexOfQuery > -1) {
+								resourceName = externalResourceURL.substring(indexOfResourceName, indexOfQuery);
+							}
+							else {
+								resourceName = externalResourceURL.substring(indexOfResourceName);
+							}
+						}
+					}
+
+					String[] libraryNameParamValues = parsedParameterMapValuesArray.get(libraryNameParam);
+
+					if ((libraryNameParamValues == null) || (libraryNameParamValues.length < 1)) {
+						libraryNameParamValues = parsedParameterMapValuesArray.get("ln");
+					}
+
+					if ((libraryNameParamValues != null) && (libraryNameParamValues.length > 0)) {
+						libraryName = libraryNameParamValues[0];
+					}
+				}
+
+				// If the "javax.faces.resource" and "ln" parameters were found, then remember the name, library, and
+				// renderer type of the corresponding JSF2 resource.
+				if ((resourceName != null) && (libraryName != null)) {
+
+					String rendererType = resourceHandler.getRendererTypeForResourceName(resourceName);
+					externalResourceDescriptors.add(new ResourceDescriptor(resourceName, libraryName, rendererType));
+				}
+			}
+		}
+
+		return externalResourceDescriptors;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<PrimeFacesHeadCaptureKey, PrimeFacesHeadCapture> getPrimeFacesHeadCaptureCache(
+		ExternalContext externalContext) {
+
+		Map<String, Object> applicationMap = externalContext.getApplicationMap();
+		Map<PrimeFacesHeadCaptureKey, PrimeFacesHeadCapture> primeFacesHeadCaptureCache =
+			(Map<PrimeFacesHeadCaptureKey, PrimeFacesHeadCapture>) applicationMap.get(HEAD_CAPTURE_CACHE_KEY);
+
+		if (primeFacesHeadCaptureCache == null) {
+			primeFacesHeadCaptureCache = new ConcurrentHashMap<PrimeFacesHeadCaptureKey, PrimeFacesHeadCapture>();
+			applicationMap.put(HEAD_CAPTURE_CACHE_KEY, primeFacesHeadCaptureCache);
+		}
+
+		return primeFacesHeadCaptureCache;
+	}
+
+	private Renderer getPrimeFacesHeadRenderer(FacesContext facesContext, boolean mobile) {
+
+		if (mobile) {
 			return primeFacesMobileHeadRendererAccessor.computeValue(facesContext);
 		}
 		else {
@@ -342,6 +430,24 @@ public class HeadRendererPrimeFacesImpl extends HeadRendererBridgeImpl {
 		}
 	}
 
+	/**
+	 * Returns the name of the PrimeFaces theme in the same manner as the PrimeFaces HeadRenderer, which is to say that
+	 * the value of the "primefaces.THEME" context-param may be an EL expression.
+	 */
+	private String getTheme(FacesContext facesContext) {
+
+		ExternalContext externalContext = facesContext.getExternalContext();
+		String theme = externalContext.getInitParameter(PRIMEFACES_THEME_PARAM);
+
+		if ((theme != null) && theme.contains("#{")) {
+
+			Application application = facesContext.getApplication();
+			theme = application.evaluateExpressionGet(facesContext, theme, String.class);
+		}
+
+		return theme;
+	}
+
 	/**
 	 * Returns true if a resource should be suppressed when PrimeFaces' PRIMEFACES_MOBILE RenderKit is used. For more
 	 * information, see {@link #isComponentResourceSuppressedWhenMobile(java.lang.String, java.lang.String)}.
@@ -409,6 +515,73 @@ public class HeadRendererPrimeFacesImpl extends HeadRendererBridgeImpl {
 				"core.js".equals(resourceName) || "components-mobile.js".equals(resourceName));
 	}
 
+	private UIComponent newComponentResource(FacesContext facesContext, ResourceDescriptor resourceDescriptor) {
+
+		Application application = facesContext.getApplication();
+		UIComponent resource = application.createComponent(UIOutput.COMPONENT_TYPE);
+		resource.setRendererType(resourceDescriptor.getRendererType());
+		resource.setTransient(true);
+
+		Map<String, Object> attributes = resource.getAttributes();
+		attributes.put("name", resourceDescriptor.getResourceName());
+
+		String libraryName = resourceDescriptor.getLibraryName();
+
+		if (libraryName != null) {
+			attributes.put("library", libraryName);
+		}
+
+		attributes.put("target", "head");
+
+		return resource;
+	}
+
+	private static final class PrimeFacesHeadCaptureKey {
+
+		// Private Final Data Members
+		private final int majorVersion;
+		private final int minorVersion;
+		private final boolean mobile;
+		private final String theme;
+
+		public PrimeFacesHeadCaptureKey(int majorVersion, int minorVersion, String theme, boolean mobile) {
+			this.majorVersion = majorVersion;
+			this.minorVersion = minorVersion;
+			this.theme = theme;
+			this.mobile = mobile;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof PrimeFacesHeadCaptureKey)) {
+				return false;
+			}
+
+			PrimeFacesHeadCaptureKey primeFacesHeadCaptureKey = (PrimeFacesHeadCaptureKey) obj;
+
+			return (majorVersion == primeFacesHeadCaptureKey.majorVersion) &&
+				(minorVersion == primeFacesHeadCaptureKey.minorVersion) &&
+				(mobile == primeFacesHeadCaptureKey.mobile) &&
+				((theme == null) ? (primeFacesHeadCaptureKey.theme == null)
+								 : theme.equals(primeFacesHeadCaptureKey.theme));
+		}
+
+		@Override
+		public int hashCode() {
+
+			int hashCode = (31 * majorVersion) + minorVersion;
+			hashCode = (31 * hashCode) + (mobile ? 1 : 0);
+			hashCode = (31 * hashCode) + ((theme == null) ? 0 : theme.hashCode());
+
+			return hashCode;
+		}
+	}
+
 	private static final class PrimeFacesHeadRendererAccessor extends ThreadSafeAccessor<Renderer, FacesContext> {
 
 		@Override
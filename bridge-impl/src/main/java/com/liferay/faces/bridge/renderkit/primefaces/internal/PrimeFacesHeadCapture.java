@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.renderkit.primefaces.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * This class is an immutable record of the external resources that were captured from the PrimeFaces HeadRenderer. It
+ * makes it possible for {@link HeadRendererPrimeFacesImpl} to determine the resources that correspond to the very same
+ * external resource URLs without re-parsing them.
+ *
+ * @author  Neil Griffin
+ */
+public class PrimeFacesHeadCapture {
+
+	// Private Final Data Members
+	private final List<ResourceDescriptor> externalResourceDescriptors;
+	private final List<String> externalResourceURLs;
+
+	public PrimeFacesHeadCapture(List<ResourceDescriptor> externalResourceDescriptors,
+		List<String> externalResourceURLs) {
+
+		this.externalResourceDescriptors = Collections.unmodifiableList(externalResourceDescriptors);
+		this.externalResourceURLs = Collections.unmodifiableList(new ArrayList<String>(externalResourceURLs));
+	}
+
+	/**
+	 * Returns the descriptors of the resources that were determined from the external resource URLs that the
+	 * PrimeFaces HeadRenderer encoded to the response writer.
+	 */
+	public List<ResourceDescriptor> getExternalResourceDescriptors() {
+		return externalResourceDescriptors;
+	}
+
+	/**
+	 * Returns the external resource URLs that the PrimeFaces HeadRenderer encoded to the response writer. The
+	 * descriptors returned by {@link #getExternalResourceDescriptors()} may only be reused for the same URLs.
+	 */
+	public List<String> getExternalResourceURLs() {
+		return externalResourceURLs;
+	}
+
+	public static final class ResourceDescriptor {
+
+		// Private Final Data Members
+		private final String libraryName;
+		private final String rendererType;
+		private final String resourceName;
+
+		public ResourceDescriptor(String resourceName, String libraryName, String rendererType) {
+			this.resourceName = resourceName;
+			this.libraryName = libraryName;
+			this.rendererType = rendererType;
+		}
+
+		public String getLibraryName() {
+			return libraryName;
+		}
+
+		public String getRendererType() {
+			return rendererType;
+		}
+
+		public String getResourceName() {
+			return resourceName;
+		}
+	}
+}
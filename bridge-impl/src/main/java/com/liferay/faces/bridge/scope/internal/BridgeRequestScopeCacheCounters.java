@@ -0,0 +1,180 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.scope.internal;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.portlet.faces.annotation.ExcludeFromManagedRequestScope;
+
+
+/**
+ * This class contains the counters that {@link BridgeRequestScopeCacheInstrumentedImpl} maintains for the bridge
+ * request scopes of a single portlet. An instance is made available to the current request as an attribute named with
+ * the fully qualified name of this class for the sake of diagnostics.
+ *
+ * @author  Neil Griffin
+ */
+@ExcludeFromManagedRequestScope
+public final class BridgeRequestScopeCacheCounters {
+
+	/** The reasons for which a bridge request scope is explicitly removed from the cache. */
+	public enum RemovalReason {
+
+		/** The portlet mode changed between the ACTION_PHASE (or EVENT_PHASE) and the HEADER_PHASE. */
+		PORTLET_MODE_CHANGED,
+
+		/** A redirect occurred in the ACTION_PHASE (or EVENT_PHASE). */
+		REDIRECT_OCCURRED,
+
+		/** The RENDER_PHASE completed and the bridge request scope is not preserved after the RENDER_PHASE. */
+		RENDER_COMPLETED,
+
+		/** The portlet was unloaded or the session expired. See {@link BridgeRequestScopeManager}. */
+		SCOPES_REMOVED,
+
+		/** Any other reason. */
+		OTHER
+	}
+
+	// Private Final Data Members
+	private final AtomicLong evictionCount;
+	private final AtomicLong hitCount;
+	private final AtomicLong missCount;
+	private final String portletName;
+	private final AtomicInteger peakSize;
+	private final AtomicLong[] removalCounts;
+	private final AtomicInteger size;
+
+	public BridgeRequestScopeCacheCounters(String portletName) {
+
+		this.portletName = portletName;
+		this.evictionCount = new AtomicLong();
+		this.hitCount = new AtomicLong();
+		this.missCount = new AtomicLong();
+		this.peakSize = new AtomicInteger();
+		this.size = new AtomicInteger();
+
+		RemovalReason[] removalReasons = RemovalReason.values();
+		this.removalCounts = new AtomicLong[removalReasons.length];
+
+		for (int i = 0; i < removalReasons.length; i++) {
+			this.removalCounts[i] = new AtomicLong();
+		}
+	}
+
+	/** Returns the number of bridge request scopes that were evicted since the cache reached its maximum capacity. */
+	public long getEvictionCount() {
+		return evictionCount.get();
+	}
+
+	/** Returns the number of lookups that found a bridge request scope in the cache. */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	/** Returns the number of lookups of a bridge request scope by id. */
+	public long getLookupCount() {
+		return hitCount.get() + missCount.get();
+	}
+
+	/**
+	 * Returns the number of lookups that did not find a bridge request scope in the cache. A non-zero value typically
+	 * indicates that the maximum capacity of the cache is too small, since the state of an ACTION_PHASE was lost.
+	 */
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	/** Returns the maximum number of bridge request scopes that have been in the cache at the same time. */
+	public int getPeakSize() {
+		return peakSize.get();
+	}
+
+	public String getPortletName() {
+		return portletName;
+	}
+
+	/** Returns the number of bridge request scopes that were explicitly removed for the specified reason. */
+	public long getRemovalCount(RemovalReason removalReason) {
+		return removalCounts[removalReason.ordinal()].get();
+	}
+
+	/** Returns the number of bridge request scopes that are currently in the cache. */
+	public int getSize() {
+		return size.get();
+	}
+
+	@Override
+	public String toString() {
+
+		StringBuilder buf = new StringBuilder();
+		buf.append("portletName=[");
+		buf.append(portletName);
+		buf.append("] lookups=[");
+		buf.append(getLookupCount());
+		buf.append("] hits=[");
+		buf.append(getHitCount());
+		buf.append("] misses=[");
+		buf.append(getMissCount());
+		buf.append("] evictions=[");
+		buf.append(getEvictionCount());
+
+		for (RemovalReason removalReason : RemovalReason.values()) {
+
+			buf.append("] removals.");
+			buf.append(removalReason);
+			buf.append("=[");
+			buf.append(getRemovalCount(removalReason));
+		}
+
+		buf.append("] size=[");
+		buf.append(getSize());
+		buf.append("] peakSize=[");
+		buf.append(getPeakSize());
+		buf.append("]");
+
+		return buf.toString();
+	}
+
+	/* package-private */ void added() {
+
+		int currentSize = size.incrementAndGet();
+		int currentPeakSize = peakSize.get();
+
+		while ((currentSize > currentPeakSize) && !peakSize.compareAndSet(currentPeakSize, currentSize)) {
+			currentPeakSize = peakSize.get();
+		}
+	}
+
+	/* package-private */ void evicted() {
+		evictionCount.incrementAndGet();
+		size.decrementAndGet();
+	}
+
+	/* package-private */ void hit() {
+		hitCount.incrementAndGet();
+	}
+
+	/* package-private */ void missed() {
+		missCount.incrementAndGet();
+	}
+
+	/* package-private */ void removed(RemovalReason removalReason) {
+		removalCounts[removalReason.ordinal()].incrementAndGet();
+		size.decrementAndGet();
+	}
+}
@@ -0,0 +1,292 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.scope.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.liferay.faces.bridge.scope.internal.BridgeRequestScopeCacheCounters.RemovalReason;
+import com.liferay.faces.util.cache.Cache;
+
+
+/**
+ * This class is a decorator for the bridge request scope cache that maintains {@link BridgeRequestScopeCacheCounters}
+ * for each portlet. Since an LRU cache evicts entries silently, evictions are detected by keeping track of the keys
+ * that were added to the cache and reconciling them with the keys of the cache whenever the size of the cache falls
+ * behind. The keys of the cache are inspected rather than the values so that the order of the LRU cache is not
+ * disturbed.
+ *
+ * @author  Neil Griffin
+ */
+public class BridgeRequestScopeCacheInstrumentedImpl implements Cache<String, BridgeRequestScope> {
+
+	// Private Constants
+	private static final String SEPARATOR = ":::";
+
+	// Private Final Data Members
+	private final ConcurrentMap<String, BridgeRequestScopeCacheCounters> countersMap;
+	private final int maxCapacity;
+	private final ConcurrentMap<String, BridgeRequestScopeCacheCounters> trackedKeys;
+	private final Cache<String, BridgeRequestScope> wrappedCache;
+
+	public BridgeRequestScopeCacheInstrumentedImpl(Cache<String, BridgeRequestScope> wrappedCache, int maxCapacity) {
+		this.wrappedCache = wrappedCache;
+		this.maxCapacity = maxCapacity;
+		this.countersMap = new ConcurrentHashMap<String, BridgeRequestScopeCacheCounters>();
+		this.trackedKeys = new ConcurrentHashMap<String, BridgeRequestScopeCacheCounters>();
+	}
+
+	/**
+	 * Returns the bridge request scope associated with the specified id from the specified cache. If the specified
+	 * cache is instrumented, then the hit or miss is counted for the specified portlet. Since the id is typically
+	 * supplied by the client (as a render parameter), the portlet name must be obtained from the {@link
+	 * javax.portlet.PortletConfig} rather than from the id.
+	 */
+	public static BridgeRequestScope getBridgeRequestScope(Cache<String, BridgeRequestScope> bridgeRequestScopeCache,
+		String portletName, String bridgeRequestScopeId) {
+
+		if (bridgeRequestScopeCache instanceof BridgeRequestScopeCacheInstrumentedImpl) {
+
+			BridgeRequestScopeCacheInstrumentedImpl bridgeRequestScopeCacheInstrumentedImpl =
+				(BridgeRequestScopeCacheInstrumentedImpl) bridgeRequestScopeCache;
+
+			return bridgeRequestScopeCacheInstrumentedImpl.getValue(portletName, bridgeRequestScopeId);
+		}
+		else {
+			return bridgeRequestScopeCache.getValue(bridgeRequestScopeId);
+		}
+	}
+
+	/**
+	 * Removes the bridge request scope associated with the specified id from the specified cache. If the specified
+	 * cache is instrumented, then the removal is counted according to the specified reason.
+	 */
+	public static BridgeRequestScope removeBridgeRequestScope(Cache<String, BridgeRequestScope> bridgeRequestScopeCache,
+		String bridgeRequestScopeId, RemovalReason removalReason) {
+
+		if (bridgeRequestScopeCache instanceof BridgeRequestScopeCacheInstrumentedImpl) {
+
+			BridgeRequestScopeCacheInstrumentedImpl bridgeRequestScopeCacheInstrumentedImpl =
+				(BridgeRequestScopeCacheInstrumentedImpl) bridgeRequestScopeCache;
+
+			return bridgeRequestScopeCacheInstrumentedImpl.removeValue(bridgeRequestScopeId, removalReason);
+		}
+		else {
+			return bridgeRequestScopeCache.removeValue(bridgeRequestScopeId);
+		}
+	}
+
+	private static String getPortletName(String bridgeRequestScopeId) {
+
+		int pos = bridgeRequestScopeId.indexOf(SEPARATOR);
+
+		if (pos > 0) {
+			return bridgeRequestScopeId.substring(0, pos);
+		}
+		else {
+			return bridgeRequestScopeId;
+		}
+	}
+
+	/** Returns the counters for the specified portlet, or null if the portlet has not used the cache. */
+	public BridgeRequestScopeCacheCounters getCounters(String portletName) {
+		return countersMap.get(portletName);
+	}
+
+	@Override
+	public Set<String> getKeys() {
+		return wrappedCache.getKeys();
+	}
+
+	public int getMaxCapacity() {
+		return maxCapacity;
+	}
+
+	/** Returns the counters for the specified portlet, creating them if the portlet has not yet used the cache. */
+	public BridgeRequestScopeCacheCounters getOrCreateCounters(String portletName) {
+
+		BridgeRequestScopeCacheCounters counters = countersMap.get(portletName);
+
+		if (counters == null) {
+
+			counters = new BridgeRequestScopeCacheCounters(portletName);
+
+			BridgeRequestScopeCacheCounters existingCounters = countersMap.putIfAbsent(portletName, counters);
+
+			if (existingCounters != null) {
+				counters = existingCounters;
+			}
+		}
+
+		return counters;
+	}
+
+	/** Returns the names of the portlets that have used the cache, in alphabetical order. */
+	public List<String> getPortletNames() {
+
+		List<String> portletNames = new ArrayList<String>(countersMap.keySet());
+		Collections.sort(portletNames);
+
+		return portletNames;
+	}
+
+	@Override
+	public int getSize() {
+		return wrappedCache.getSize();
+	}
+
+	/**
+	 * Returns the bridge request scope associated with the specified id. Since the id might have been supplied by the
+	 * client, the portlet name is not parsed from it. Instead, the hit or miss is counted only if counters already
+	 * exist for the portlet name prefix of the id, so that forged ids cannot add counters.
+	 */
+	@Override
+	public BridgeRequestScope getValue(String bridgeRequestScopeId) {
+
+		BridgeRequestScope bridgeRequestScope = wrappedCache.getValue(bridgeRequestScopeId);
+		count(getCounters(getPortletName(bridgeRequestScopeId)), bridgeRequestScope);
+
+		return bridgeRequestScope;
+	}
+
+	/**
+	 * Returns the bridge request scope associated with the specified id, and counts the hit or miss for the specified
+	 * portlet. The portlet name must be known by the server (for example, from the {@link
+	 * javax.portlet.PortletConfig}).
+	 */
+	public BridgeRequestScope getValue(String portletName, String bridgeRequestScopeId) {
+
+		BridgeRequestScope bridgeRequestScope = wrappedCache.getValue(bridgeRequestScopeId);
+		count(getOrCreateCounters(portletName), bridgeRequestScope);
+
+		return bridgeRequestScope;
+	}
+
+	@Override
+	public BridgeRequestScope putValue(String bridgeRequestScopeId, BridgeRequestScope bridgeRequestScope) {
+
+		BridgeRequestScope previousBridgeRequestScope = wrappedCache.putValue(bridgeRequestScopeId,
+				bridgeRequestScope);
+		track(bridgeRequestScopeId);
+
+		return previousBridgeRequestScope;
+	}
+
+	@Override
+	public BridgeRequestScope putValueIfAbsent(String bridgeRequestScopeId, BridgeRequestScope bridgeRequestScope) {
+
+		BridgeRequestScope cachedBridgeRequestScope = wrappedCache.putValueIfAbsent(bridgeRequestScopeId,
+				bridgeRequestScope);
+		track(bridgeRequestScopeId);
+
+		return cachedBridgeRequestScope;
+	}
+
+	@Override
+	public BridgeRequestScope removeValue(String bridgeRequestScopeId) {
+		return removeValue(bridgeRequestScopeId, RemovalReason.OTHER);
+	}
+
+	/**
+	 * Removes the bridge request scope associated with the specified id and counts the removal according to the
+	 * specified reason.
+	 */
+	public BridgeRequestScope removeValue(String bridgeRequestScopeId, RemovalReason removalReason) {
+
+		// Stop tracking the key before removing it from the wrapped cache so that a concurrent reconciliation does not
+		// mistake the removal for an eviction.
+		BridgeRequestScopeCacheCounters counters = trackedKeys.remove(bridgeRequestScopeId);
+		BridgeRequestScope bridgeRequestScope = wrappedCache.removeValue(bridgeRequestScopeId);
+
+		if (counters != null) {
+
+			if (bridgeRequestScope == null) {
+				counters.evicted();
+			}
+			else {
+				counters.removed(removalReason);
+			}
+		}
+
+		return bridgeRequestScope;
+	}
+
+	private void count(BridgeRequestScopeCacheCounters counters, BridgeRequestScope bridgeRequestScope) {
+
+		if (counters != null) {
+
+			if (bridgeRequestScope == null) {
+				counters.missed();
+			}
+			else {
+				counters.hit();
+			}
+		}
+	}
+
+	private void reconcileEvictions() {
+
+		// Since a key is tracked only after it has been added to the wrapped cache, a key that was added after the
+		// first snapshot was taken will be present in the second snapshot.
+		Set<String> cachedKeys = new HashSet<String>(wrappedCache.getKeys());
+		List<String> missingKeys = new ArrayList<String>();
+
+		for (String trackedKey : trackedKeys.keySet()) {
+
+			if (!cachedKeys.contains(trackedKey)) {
+				missingKeys.add(trackedKey);
+			}
+		}
+
+		if (!missingKeys.isEmpty()) {
+
+			cachedKeys = new HashSet<String>(wrappedCache.getKeys());
+
+			for (String missingKey : missingKeys) {
+
+				if (!cachedKeys.contains(missingKey)) {
+
+					BridgeRequestScopeCacheCounters counters = trackedKeys.remove(missingKey);
+
+					if (counters != null) {
+						counters.evicted();
+					}
+				}
+			}
+		}
+	}
+
+	private void track(String bridgeRequestScopeId) {
+
+		BridgeRequestScopeCacheCounters counters = getOrCreateCounters(getPortletName(bridgeRequestScopeId));
+
+		if (trackedKeys.putIfAbsent(bridgeRequestScopeId, counters) == null) {
+
+			// Reconcile evictions before counting the addition so that the peak size does not overshoot the maximum
+			// capacity of the cache.
+			if (wrappedCache.getSize() < trackedKeys.size()) {
+				reconcileEvictions();
+			}
+
+			counters.added();
+		}
+	}
+}
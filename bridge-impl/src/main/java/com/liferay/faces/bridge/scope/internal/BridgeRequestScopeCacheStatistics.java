@@ -0,0 +1,171 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.scope.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.liferay.faces.bridge.scope.internal.BridgeRequestScopeCacheCounters.RemovalReason;
+
+
+/**
+ * This class is a standard MBean that exposes the counters of a {@link BridgeRequestScopeCacheInstrumentedImpl}.
+ *
+ * @author  Neil Griffin
+ */
+public class BridgeRequestScopeCacheStatistics implements BridgeRequestScopeCacheStatisticsMBean {
+
+	// Public Constants
+	public static final String MBEAN_TYPE = "BridgeRequestScopeCache";
+
+	// Private Final Data Members
+	private final BridgeRequestScopeCacheInstrumentedImpl bridgeRequestScopeCache;
+
+	public BridgeRequestScopeCacheStatistics(BridgeRequestScopeCacheInstrumentedImpl bridgeRequestScopeCache) {
+		this.bridgeRequestScopeCache = bridgeRequestScopeCache;
+	}
+
+	@Override
+	public long getEvictionCount(String portletName) {
+
+		BridgeRequestScopeCacheCounters counters = bridgeRequestScopeCache.getCounters(portletName);
+
+		if (counters == null) {
+			return 0;
+		}
+
+		return counters.getEvictionCount();
+	}
+
+	@Override
+	public long getHitCount(String portletName) {
+
+		BridgeRequestScopeCacheCounters counters = bridgeRequestScopeCache.getCounters(portletName);
+
+		if (counters == null) {
+			return 0;
+		}
+
+		return counters.getHitCount();
+	}
+
+	@Override
+	public long getLookupCount(String portletName) {
+
+		BridgeRequestScopeCacheCounters counters = bridgeRequestScopeCache.getCounters(portletName);
+
+		if (counters == null) {
+			return 0;
+		}
+
+		return counters.getLookupCount();
+	}
+
+	@Override
+	public int getMaxCapacity() {
+		return bridgeRequestScopeCache.getMaxCapacity();
+	}
+
+	@Override
+	public long getMissCount(String portletName) {
+
+		BridgeRequestScopeCacheCounters counters = bridgeRequestScopeCache.getCounters(portletName);
+
+		if (counters == null) {
+			return 0;
+		}
+
+		return counters.getMissCount();
+	}
+
+	@Override
+	public int getPeakSize(String portletName) {
+
+		BridgeRequestScopeCacheCounters counters = bridgeRequestScopeCache.getCounters(portletName);
+
+		if (counters == null) {
+			return 0;
+		}
+
+		return counters.getPeakSize();
+	}
+
+	@Override
+	public String[] getPortletNames() {
+
+		List<String> portletNames = bridgeRequestScopeCache.getPortletNames();
+
+		return portletNames.toArray(new String[portletNames.size()]);
+	}
+
+	@Override
+	public int getPortletSize(String portletName) {
+
+		BridgeRequestScopeCacheCounters counters = bridgeRequestScopeCache.getCounters(portletName);
+
+		if (counters == null) {
+			return 0;
+		}
+
+		return counters.getSize();
+	}
+
+	@Override
+	public long getRemovalCount(String portletName, String removalReason) {
+
+		BridgeRequestScopeCacheCounters counters = bridgeRequestScopeCache.getCounters(portletName);
+
+		if (counters == null) {
+			return 0;
+		}
+
+		return counters.getRemovalCount(RemovalReason.valueOf(removalReason));
+	}
+
+	@Override
+	public int getSize() {
+		return bridgeRequestScopeCache.getSize();
+	}
+
+	@Override
+	public String[] getSummary() {
+
+		List<String> summary = new ArrayList<String>();
+
+		for (String portletName : bridgeRequestScopeCache.getPortletNames()) {
+
+			BridgeRequestScopeCacheCounters counters = bridgeRequestScopeCache.getCounters(portletName);
+
+			if (counters != null) {
+				summary.add(counters.toString());
+			}
+		}
+
+		return summary.toArray(new String[summary.size()]);
+	}
+
+	@Override
+	public long getTotalEvictionCount() {
+
+		long totalEvictionCount = 0;
+
+		for (String portletName : bridgeRequestScopeCache.getPortletNames()) {
+			totalEvictionCount += getEvictionCount(portletName);
+		}
+
+		return totalEvictionCount;
+	}
+}
@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.scope.internal;
+
+/**
+ * This is the management interface of {@link BridgeRequestScopeCacheStatistics}.
+ *
+ * @author  Neil Griffin
+ */
+public interface BridgeRequestScopeCacheStatisticsMBean {
+
+	/** Returns the number of bridge request scopes that were evicted from the cache for the specified portlet. */
+	public long getEvictionCount(String portletName);
+
+	/** Returns the number of lookups that found a bridge request scope in the cache for the specified portlet. */
+	public long getHitCount(String portletName);
+
+	/** Returns the number of lookups of a bridge request scope in the cache for the specified portlet. */
+	public long getLookupCount(String portletName);
+
+	/** Returns the maximum capacity of the cache, or -1 if the cache is unbounded. */
+	public int getMaxCapacity();
+
+	/** Returns the number of lookups that missed a bridge request scope in the cache for the specified portlet. */
+	public long getMissCount(String portletName);
+
+	/** Returns the peak number of bridge request scopes in the cache for the specified portlet. */
+	public int getPeakSize(String portletName);
+
+	/** Returns the names of the portlets that have used the cache. */
+	public String[] getPortletNames();
+
+	/** Returns the current number of bridge request scopes in the cache for the specified portlet. */
+	public int getPortletSize(String portletName);
+
+	/**
+	 * Returns the number of bridge request scopes that were explicitly removed from the cache for the specified portlet
+	 * and the specified reason. Valid reasons are PORTLET_MODE_CHANGED, REDIRECT_OCCURRED, RENDER_COMPLETED,
+	 * SCOPES_REMOVED, and OTHER.
+	 */
+	public long getRemovalCount(String portletName, String removalReason);
+
+	/** Returns the current number of bridge request scopes in the cache for all portlets. */
+	public int getSize();
+
+	/** Returns one line for each portlet consisting of all of the counts. */
+	public String[] getSummary();
+
+	/** Returns the number of bridge request scopes that were evicted from the cache for all portlets. */
+	public long getTotalEvictionCount();
+}
@@ -25,6 +25,7 @@ import javax.faces.context.ExternalContextWrapper;
 import javax.faces.context.FacesContext;
 import javax.faces.context.Flash;
 
+import com.liferay.faces.bridge.context.internal.BridgeFlashImpl;
 import com.liferay.faces.bridge.context.internal.ExternalContextImpl;
 import com.liferay.faces.util.logging.Logger;
 import com.liferay.faces.util.logging.LoggerFactory;
@@ -51,6 +52,13 @@ public abstract class BridgeRequestScopeCompatImpl extends BridgeRequestScopeBas
 
 		if (flash != null) {
 
+			// If the bridge-native flash is in use, then the values that were put into the flash during the
+			// ACTION_PHASE (or EVENT_PHASE) become the current values for this traversal of the lifecycle. Since the
+			// new flash replaces the saved one, the values are only available to the first HEADER_PHASE that follows.
+			if (flash instanceof BridgeFlashImpl) {
+				flash = ((BridgeFlashImpl) flash).getNextTraversalFlash();
+			}
+
 			while (externalContext instanceof ExternalContextWrapper) {
 				ExternalContextWrapper externalContextWrapper = (ExternalContextWrapper) externalContext;
 				externalContext = externalContextWrapper.getWrapped();
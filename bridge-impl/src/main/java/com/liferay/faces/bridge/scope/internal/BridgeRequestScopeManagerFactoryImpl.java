@@ -21,6 +21,7 @@ import javax.portlet.faces.BridgeFactoryFinder;
 
 import com.liferay.faces.bridge.internal.PortletConfigEmptyImpl;
 import com.liferay.faces.bridge.internal.PortletConfigParam;
+import com.liferay.faces.bridge.util.internal.MBeanUtil;
 import com.liferay.faces.util.cache.Cache;
 import com.liferay.faces.util.cache.CacheFactory;
 import com.liferay.faces.util.lang.ThreadSafeAccessor;
@@ -69,6 +70,15 @@ public class BridgeRequestScopeManagerFactoryImpl extends BridgeRequestScopeMana
 				bridgeRequestScopeCache = cacheFactory.getConcurrentCache(initialCacheCapacity);
 			}
 
+			if (PortletConfigParam.BridgeRequestScopeCacheStatisticsEnabled.getBooleanValue(emptyPortletConfig)) {
+
+				BridgeRequestScopeCacheInstrumentedImpl bridgeRequestScopeCacheInstrumentedImpl =
+					new BridgeRequestScopeCacheInstrumentedImpl(bridgeRequestScopeCache, maxCacheCapacity);
+				MBeanUtil.registerMBean(portletContext, BridgeRequestScopeCacheStatistics.MBEAN_TYPE,
+					new BridgeRequestScopeCacheStatistics(bridgeRequestScopeCacheInstrumentedImpl));
+				bridgeRequestScopeCache = bridgeRequestScopeCacheInstrumentedImpl;
+			}
+
 			return new BridgeRequestScopeManagerImpl(bridgeRequestScopeCache);
 		}
 	}
@@ -22,6 +22,7 @@ import java.util.Set;
 import javax.portlet.PortletConfig;
 import javax.servlet.http.HttpSession;
 
+import com.liferay.faces.bridge.scope.internal.BridgeRequestScopeCacheCounters.RemovalReason;
 import com.liferay.faces.bridge.servlet.BridgeSessionListener;
 import com.liferay.faces.util.cache.Cache;
 import com.liferay.faces.util.logging.Logger;
@@ -95,7 +96,8 @@ public class BridgeRequestScopeManagerImpl implements BridgeRequestScopeManager
 
 		for (String keyToRemove : keysToRemove) {
 
-			Object bridgeRequestScope = bridgeRequestScopeCache.removeValue(keyToRemove);
+			Object bridgeRequestScope = BridgeRequestScopeCacheInstrumentedImpl.removeBridgeRequestScope(
+					bridgeRequestScopeCache, keyToRemove, RemovalReason.SCOPES_REMOVED);
 
 			if (!removeByPortletId) {
 				logger.debug(
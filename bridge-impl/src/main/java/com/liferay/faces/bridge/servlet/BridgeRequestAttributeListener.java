@@ -16,6 +16,8 @@
 package com.liferay.faces.bridge.servlet;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import javax.faces.context.FacesContext;
@@ -47,6 +49,10 @@ public class BridgeRequestAttributeListener implements ServletRequestAttributeLi
 	// Logger
 	private static final Logger logger = LoggerFactory.getLogger(BridgeRequestAttributeListener.class);
 
+	// Private Constants
+	private static final Method[] NO_CALLBACK_METHODS = new Method[0];
+	private static final ClassValue<Method[]> CALLBACK_METHODS = new CallbackMethodsClassValue();
+
 	/**
 	 * This method is called after an attribute is added to the ServletRequest. Note that this should only get called
 	 * for remote WSRP portlets. For more info, see: http://issues.liferay.com/browse/FACES-146
@@ -65,6 +71,16 @@ public class BridgeRequestAttributeListener implements ServletRequestAttributeLi
 		// HEADER_PHASE, then
 		if ((phase != null) && (phase != PortletPhase.HEADER_PHASE)) {
 
+			// If the attribute value does not have any methods annotated with the BridgeRequestScopeAttributeAdded
+			// annotation, then there is nothing to do. This is by far the most common case since containers and JSF
+			// implementations add many attributes to the request.
+			Object attributeValue = servletRequestAttributeEvent.getValue();
+			Method[] callbackMethods = getCallbackMethods(attributeValue);
+
+			if ((callbackMethods.length == 0) && !logger.isTraceEnabled()) {
+				return;
+			}
+
 			// If the attribute being added is not excluded, then invoke all methods on the attribute value (class
 			// instance) that are annotated with the BridgeRequestScopeAttributeAdded annotation.
 			String attributeName = servletRequestAttributeEvent.getName();
@@ -74,29 +90,15 @@ public class BridgeRequestAttributeListener implements ServletRequestAttributeLi
 
 			if (!excludedRequestScopeAttributes.contains(attributeName)) {
 
-				Object attributeValue = servletRequestAttributeEvent.getValue();
 				logger.trace("Attribute added name=[{0}] value=[{1}]", attributeName, attributeValue);
 
-				if (attributeValue != null) {
-					Method[] methods = attributeValue.getClass().getMethods();
-
-					if (methods != null) {
-
-						for (Method method : methods) {
-
-							if (method != null) {
-
-								if (method.isAnnotationPresent(BridgeRequestScopeAttributeAdded.class)) {
+				for (Method callbackMethod : callbackMethods) {
 
-									try {
-										method.invoke(attributeValue);
-									}
-									catch (Exception e) {
-										logger.error(e);
-									}
-								}
-							}
-						}
+					try {
+						callbackMethod.invoke(attributeValue);
+					}
+					catch (Exception e) {
+						logger.error(e);
 					}
 				}
 			}
@@ -131,4 +133,50 @@ public class BridgeRequestAttributeListener implements ServletRequestAttributeLi
 		logger.trace("Attribute replaced name=[{0}] value=[{1}]", attributeName, attributeValue);
 	}
 
+	private Method[] getCallbackMethods(Object attributeValue) {
+
+		if (attributeValue == null) {
+			return NO_CALLBACK_METHODS;
+		}
+
+		Class<?> attributeValueClass = attributeValue.getClass();
+		String className = attributeValueClass.getName();
+
+		// JDK and container types never have methods annotated with the BridgeRequestScopeAttributeAdded annotation.
+		if (attributeValueClass.isArray() || className.startsWith("java.") || className.startsWith("javax.") ||
+				className.startsWith("sun.") || className.startsWith("com.sun.") ||
+				className.startsWith("org.apache.catalina.")) {
+			return NO_CALLBACK_METHODS;
+		}
+
+		return CALLBACK_METHODS.get(attributeValueClass);
+	}
+
+	private static final class CallbackMethodsClassValue extends ClassValue<Method[]> {
+
+		@Override
+		protected Method[] computeValue(Class<?> type) {
+
+			List<Method> callbackMethods = null;
+
+			for (Method method : type.getMethods()) {
+
+				if (method.isAnnotationPresent(BridgeRequestScopeAttributeAdded.class)) {
+
+					if (callbackMethods == null) {
+						callbackMethods = new ArrayList<Method>();
+					}
+
+					callbackMethods.add(method);
+				}
+			}
+
+			if (callbackMethods == null) {
+				return NO_CALLBACK_METHODS;
+			}
+			else {
+				return callbackMethods.toArray(new Method[callbackMethods.size()]);
+			}
+		}
+	}
 }
@@ -31,8 +31,10 @@ import com.liferay.faces.bridge.bean.internal.BeanManagerFactory;
 import com.liferay.faces.bridge.bean.internal.PreDestroyInvoker;
 import com.liferay.faces.bridge.bean.internal.PreDestroyInvokerFactory;
 import com.liferay.faces.bridge.context.internal.PortletContextAdapter;
+import com.liferay.faces.bridge.context.map.internal.UploadedFilesDirManager;
 import com.liferay.faces.bridge.scope.internal.BridgeRequestScopeManager;
 import com.liferay.faces.bridge.scope.internal.BridgeRequestScopeManagerFactory;
+import com.liferay.faces.bridge.util.internal.MBeanUtil;
 import com.liferay.faces.util.config.ApplicationConfig;
 import com.liferay.faces.util.lang.ThreadSafeAccessor;
 import com.liferay.faces.util.logging.Logger;
@@ -68,6 +70,16 @@ public class BridgeSessionListener implements HttpSessionListener, ServletContex
 		ServletContext servletContext = servletContextEvent.getServletContext();
 		PortletContext portletContext = new PortletContextAdapter(servletContext);
 		BridgeFactoryFinder.getInstance().releaseFactories(portletContext);
+
+		// Stop the reaper (if any) and remove the per-session directories that contain uploaded files.
+		UploadedFilesDirManager uploadedFilesDirManager = UploadedFilesDirManager.getInstance(portletContext, false);
+
+		if (uploadedFilesDirManager != null) {
+			uploadedFilesDirManager.shutdown();
+		}
+
+		// Unregister the MBeans (if any) that the bridge registered on behalf of this web application.
+		MBeanUtil.unregisterMBeans(servletContext);
 	}
 
 	/**
@@ -108,6 +120,16 @@ public class BridgeSessionListener implements HttpSessionListener, ServletContex
 
 		if (firstInstance) {
 
+			// Remove the per-session directories (if any) that contain uploaded files.
+			HttpSession expiringHttpSession = httpSessionEvent.getSession();
+			PortletContext expiringPortletContext = new PortletContextAdapter(expiringHttpSession.getServletContext());
+			UploadedFilesDirManager uploadedFilesDirManager = UploadedFilesDirManager.getInstance(
+					expiringPortletContext, false);
+
+			if (uploadedFilesDirManager != null) {
+				uploadedFilesDirManager.removeSessionDirs(expiringHttpSession.getId());
+			}
+
 			// Discover Factories
 			BeanManagerFactory beanManagerFactory = null;
 			BridgeRequestScopeManagerFactory bridgeRequestScopeManagerFactory = null;
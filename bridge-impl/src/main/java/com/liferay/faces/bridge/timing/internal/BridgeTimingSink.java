@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.timing.internal;
+
+/**
+ * This interface represents a destination for the elapsed time of the steps that the bridge performs during a portlet
+ * request. Implementations must be thread-safe since a single instance is shared by all of the requests for a given
+ * portlet.
+ *
+ * @author  Neil Griffin
+ */
+public interface BridgeTimingSink {
+
+	/** Step name for the initialization of a bridge phase (request attributes, bridge request scope, FacesContext). */
+	public static final String STEP_BRIDGE_INIT = "bridge.init";
+
+	/** Step name for the execution of the JSF lifecycle (all phases prior to RENDER_RESPONSE). */
+	public static final String STEP_FACES_LIFECYCLE_EXECUTE = "faces.lifecycle.execute";
+
+	/** Step name for the RENDER_RESPONSE phase of the JSF lifecycle. */
+	public static final String STEP_FACES_LIFECYCLE_RENDER = "faces.lifecycle.render";
+
+	/** Prefix of the step names for the individual phases of the JSF lifecycle. */
+	public static final String STEP_FACES_PHASE_PREFIX = "faces.phase.";
+
+	/** Step name for the encoding of the resources that the bridge adds to the &lt;head&gt; section of the page. */
+	public static final String STEP_HEAD_RESOURCES = "head.resources";
+
+	/** Step name for {@link com.liferay.faces.bridge.scope.internal.BridgeRequestScope#restoreState}. */
+	public static final String STEP_SCOPE_RESTORE_STATE = "scope.restoreState";
+
+	/** Step name for {@link com.liferay.faces.bridge.scope.internal.BridgeRequestScope#saveState}. */
+	public static final String STEP_SCOPE_SAVE_STATE = "scope.saveState";
+
+	/** Step name for the replay of the writer operations captured by the bridge CapturingWriter. */
+	public static final String STEP_WRITER_REPLAY = "writer.replay";
+
+	/**
+	 * Returns true if the sink records elapsed times. Callers use this flag in order to avoid calling {@link
+	 * System#nanoTime()} when timing is not enabled.
+	 */
+	public boolean isEnabled();
+
+	/**
+	 * Records the elapsed time of a step.
+	 *
+	 * @param  portletName   The name of the portlet that performed the step.
+	 * @param  stepName      The name of the step.
+	 * @param  elapsedNanos  The elapsed time of the step in nanoseconds.
+	 */
+	public void record(String portletName, String stepName, long elapsedNanos);
+}
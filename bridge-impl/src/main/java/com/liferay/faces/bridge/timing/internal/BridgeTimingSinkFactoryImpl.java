@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.timing.internal;
+
+import javax.portlet.PortletConfig;
+import javax.portlet.PortletContext;
+
+import com.liferay.faces.bridge.internal.PortletConfigParam;
+import com.liferay.faces.bridge.util.internal.MBeanUtil;
+import com.liferay.faces.util.lang.ThreadSafeAccessor;
+
+
+/**
+ * @author  Neil Griffin
+ */
+public class BridgeTimingSinkFactoryImpl extends BridgeTimingSinkFactory {
+
+	// Private Final Data Members
+	private final BridgeTimingSinkAccessor bridgeTimingSinkAccessor = new BridgeTimingSinkAccessor();
+
+	@Override
+	public BridgeTimingSink getBridgeTimingSink(PortletConfig portletConfig) {
+
+		if (PortletConfigParam.BridgeTimingEnabled.getBooleanValue(portletConfig)) {
+			return bridgeTimingSinkAccessor.get(portletConfig.getPortletContext());
+		}
+
+		return BridgeTimingSinkNoOpImpl.INSTANCE;
+	}
+
+	@Override
+	public BridgeTimingSinkFactory getWrapped() {
+
+		// Since this is the factory instance provided by the bridge, it will never wrap another factory.
+		return null;
+	}
+
+	private static final class BridgeTimingSinkAccessor
+		extends ThreadSafeAccessor<BridgeTimingSinkHistogramImpl, PortletContext> {
+
+		@Override
+		protected BridgeTimingSinkHistogramImpl computeValue(PortletContext portletContext) {
+
+			BridgeTimingSinkHistogramImpl bridgeTimingSink = new BridgeTimingSinkHistogramImpl();
+			MBeanUtil.registerMBean(portletContext, BridgeTimingStatistics.MBEAN_TYPE,
+				new BridgeTimingStatistics(bridgeTimingSink));
+
+			return bridgeTimingSink;
+		}
+	}
+}
@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.timing.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+
+/**
+ * This class provides a {@link BridgeTimingSink} that keeps an in-memory {@link TimingHistogram} for each step of each
+ * portlet.
+ *
+ * @author  Neil Griffin
+ */
+public class BridgeTimingSinkHistogramImpl implements BridgeTimingSink {
+
+	// Private Final Data Members
+	private final ConcurrentMap<String, ConcurrentMap<String, TimingHistogram>> portletHistograms;
+
+	public BridgeTimingSinkHistogramImpl() {
+		this.portletHistograms = new ConcurrentHashMap<String, ConcurrentMap<String, TimingHistogram>>();
+	}
+
+	/**
+	 * Returns the histogram for the specified step of the specified portlet, or <code>null</code> if the step has not
+	 * been recorded.
+	 */
+	public TimingHistogram getHistogram(String portletName, String stepName) {
+
+		Map<String, TimingHistogram> stepHistograms = portletHistograms.get(portletName);
+
+		if (stepHistograms == null) {
+			return null;
+		}
+
+		return stepHistograms.get(stepName);
+	}
+
+	/** Returns the sorted names of the portlets that have recorded elapsed times. */
+	public List<String> getPortletNames() {
+
+		List<String> portletNames = new ArrayList<String>(portletHistograms.keySet());
+		Collections.sort(portletNames);
+
+		return portletNames;
+	}
+
+	/** Returns the sorted names of the steps that have been recorded for the specified portlet. */
+	public List<String> getStepNames(String portletName) {
+
+		Map<String, TimingHistogram> stepHistograms = portletHistograms.get(portletName);
+
+		if (stepHistograms == null) {
+			return Collections.emptyList();
+		}
+
+		List<String> stepNames = new ArrayList<String>(stepHistograms.keySet());
+		Collections.sort(stepNames);
+
+		return stepNames;
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return true;
+	}
+
+	@Override
+	public void record(String portletName, String stepName, long elapsedNanos) {
+
+		ConcurrentMap<String, TimingHistogram> stepHistograms = portletHistograms.get(portletName);
+
+		if (stepHistograms == null) {
+
+			stepHistograms = new ConcurrentHashMap<String, TimingHistogram>();
+
+			ConcurrentMap<String, TimingHistogram> existingStepHistograms = portletHistograms.putIfAbsent(portletName,
+					stepHistograms);
+
+			if (existingStepHistograms != null) {
+				stepHistograms = existingStepHistograms;
+			}
+		}
+
+		TimingHistogram timingHistogram = stepHistograms.get(stepName);
+
+		if (timingHistogram == null) {
+
+			timingHistogram = new TimingHistogram();
+
+			TimingHistogram existingTimingHistogram = stepHistograms.putIfAbsent(stepName, timingHistogram);
+
+			if (existingTimingHistogram != null) {
+				timingHistogram = existingTimingHistogram;
+			}
+		}
+
+		timingHistogram.record(elapsedNanos);
+	}
+
+	/** Resets all of the histograms. */
+	public void reset() {
+
+		for (Map<String, TimingHistogram> stepHistograms : portletHistograms.values()) {
+
+			for (TimingHistogram timingHistogram : stepHistograms.values()) {
+				timingHistogram.reset();
+			}
+		}
+	}
+}
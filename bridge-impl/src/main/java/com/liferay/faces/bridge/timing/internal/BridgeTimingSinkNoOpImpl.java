@@ -0,0 +1,41 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.timing.internal;
+
+/**
+ * This class provides a {@link BridgeTimingSink} that discards all elapsed times.
+ *
+ * @author  Neil Griffin
+ */
+public final class BridgeTimingSinkNoOpImpl implements BridgeTimingSink {
+
+	// Public Constants
+	public static final BridgeTimingSink INSTANCE = new BridgeTimingSinkNoOpImpl();
+
+	private BridgeTimingSinkNoOpImpl() {
+		// Prevent instantiation since this class is a singleton.
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return false;
+	}
+
+	@Override
+	public void record(String portletName, String stepName, long elapsedNanos) {
+		// no-op
+	}
+}
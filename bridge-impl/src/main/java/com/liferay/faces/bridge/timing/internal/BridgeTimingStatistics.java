@@ -0,0 +1,140 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.timing.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+
+/**
+ * This class is a standard MBean that exposes the elapsed times recorded by a {@link BridgeTimingSinkHistogramImpl}.
+ *
+ * @author  Neil Griffin
+ */
+public class BridgeTimingStatistics implements BridgeTimingStatisticsMBean {
+
+	// Public Constants
+	public static final String MBEAN_TYPE = "BridgeTiming";
+
+	// Private Constants
+	private static final double NANOS_PER_MILLI = 1000000.0;
+
+	// Private Final Data Members
+	private final BridgeTimingSinkHistogramImpl bridgeTimingSink;
+
+	public BridgeTimingStatistics(BridgeTimingSinkHistogramImpl bridgeTimingSink) {
+		this.bridgeTimingSink = bridgeTimingSink;
+	}
+
+	private static double toMillis(long nanos) {
+		return nanos / NANOS_PER_MILLI;
+	}
+
+	@Override
+	public long getCount(String portletName, String stepName) {
+
+		TimingHistogram timingHistogram = bridgeTimingSink.getHistogram(portletName, stepName);
+
+		if (timingHistogram == null) {
+			return 0;
+		}
+
+		return timingHistogram.getCount();
+	}
+
+	@Override
+	public double getMaxMillis(String portletName, String stepName) {
+
+		TimingHistogram timingHistogram = bridgeTimingSink.getHistogram(portletName, stepName);
+
+		if (timingHistogram == null) {
+			return 0.0;
+		}
+
+		return toMillis(timingHistogram.getMax());
+	}
+
+	@Override
+	public double getMeanMillis(String portletName, String stepName) {
+
+		TimingHistogram timingHistogram = bridgeTimingSink.getHistogram(portletName, stepName);
+
+		if (timingHistogram == null) {
+			return 0.0;
+		}
+
+		return toMillis(timingHistogram.getMean());
+	}
+
+	@Override
+	public double getPercentileMillis(String portletName, String stepName, double percentile) {
+
+		TimingHistogram timingHistogram = bridgeTimingSink.getHistogram(portletName, stepName);
+
+		if (timingHistogram == null) {
+			return 0.0;
+		}
+
+		return toMillis(timingHistogram.getPercentile(percentile));
+	}
+
+	@Override
+	public String[] getPortletNames() {
+
+		List<String> portletNames = bridgeTimingSink.getPortletNames();
+
+		return portletNames.toArray(new String[portletNames.size()]);
+	}
+
+	@Override
+	public String[] getStepNames(String portletName) {
+
+		List<String> stepNames = bridgeTimingSink.getStepNames(portletName);
+
+		return stepNames.toArray(new String[stepNames.size()]);
+	}
+
+	@Override
+	public String[] getSummary() {
+
+		List<String> summary = new ArrayList<String>();
+
+		for (String portletName : bridgeTimingSink.getPortletNames()) {
+
+			for (String stepName : bridgeTimingSink.getStepNames(portletName)) {
+
+				TimingHistogram timingHistogram = bridgeTimingSink.getHistogram(portletName, stepName);
+
+				if (timingHistogram != null) {
+
+					summary.add(String.format(Locale.ENGLISH,
+							"%s %s count=%d p50=%.3fms p90=%.3fms p99=%.3fms max=%.3fms", portletName, stepName,
+							timingHistogram.getCount(), toMillis(timingHistogram.getPercentile(50.0)),
+							toMillis(timingHistogram.getPercentile(90.0)),
+							toMillis(timingHistogram.getPercentile(99.0)), toMillis(timingHistogram.getMax())));
+				}
+			}
+		}
+
+		return summary.toArray(new String[summary.size()]);
+	}
+
+	@Override
+	public void reset() {
+		bridgeTimingSink.reset();
+	}
+}
@@ -0,0 +1,55 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.timing.internal;
+
+/**
+ * This interface defines the management operations of {@link BridgeTimingStatistics}. Elapsed times are expressed in
+ * milliseconds.
+ *
+ * @author  Neil Griffin
+ */
+public interface BridgeTimingStatisticsMBean {
+
+	/** Returns the number of times that the specified step was recorded for the specified portlet. */
+	public long getCount(String portletName, String stepName);
+
+	/** Returns the maximum elapsed time of the specified step for the specified portlet. */
+	public double getMaxMillis(String portletName, String stepName);
+
+	/** Returns the mean elapsed time of the specified step for the specified portlet. */
+	public double getMeanMillis(String portletName, String stepName);
+
+	/**
+	 * Returns an estimate of the specified percentile (between 0 and 100) of the elapsed time of the specified step for
+	 * the specified portlet.
+	 */
+	public double getPercentileMillis(String portletName, String stepName, double percentile);
+
+	/** Returns the names of the portlets that have recorded elapsed times. */
+	public String[] getPortletNames();
+
+	/** Returns the names of the steps that have been recorded for the specified portlet. */
+	public String[] getStepNames(String portletName);
+
+	/**
+	 * Returns one line for each step of each portlet, consisting of the count along with the 50th, 90th, and 99th
+	 * percentiles and maximum of the elapsed time.
+	 */
+	public String[] getSummary();
+
+	/** Discards all of the recorded elapsed times. */
+	public void reset();
+}
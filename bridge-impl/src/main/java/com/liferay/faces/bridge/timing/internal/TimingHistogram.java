@@ -0,0 +1,170 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.timing.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * This class provides a lock-free histogram of elapsed times. Values are counted in logarithmic buckets: each power of
+ * two is subdivided into four linear sub-buckets, which bounds the relative error of a percentile to 25% while keeping
+ * the footprint of the histogram fixed at {@link #BUCKET_COUNT} counters regardless of the number of recorded values.
+ *
+ * @author  Neil Griffin
+ */
+public class TimingHistogram {
+
+	// Private Constants
+	private static final int SUB_BUCKET_BITS = 2;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+	// Private Final Data Members
+	private final AtomicLongArray bucketCounts;
+	private final AtomicLong count;
+	private final AtomicLong max;
+	private final AtomicLong total;
+
+	public TimingHistogram() {
+		this.bucketCounts = new AtomicLongArray(BUCKET_COUNT);
+		this.count = new AtomicLong();
+		this.max = new AtomicLong();
+		this.total = new AtomicLong();
+	}
+
+	/* package-private */ static int getBucketIndex(long value) {
+
+		if (value < SUB_BUCKET_COUNT) {
+			return (int) Math.max(value, 0L);
+		}
+
+		int highestBit = (Long.SIZE - 1) - Long.numberOfLeadingZeros(value);
+		int shift = highestBit - SUB_BUCKET_BITS;
+		int subBucket = (int) ((value >>> shift) & (SUB_BUCKET_COUNT - 1));
+
+		return ((shift + 1) * SUB_BUCKET_COUNT) + subBucket;
+	}
+
+	/* package-private */ static long getBucketUpperBound(int bucketIndex) {
+
+		if (bucketIndex < SUB_BUCKET_COUNT) {
+			return bucketIndex;
+		}
+
+		int shift = (bucketIndex / SUB_BUCKET_COUNT) - 1;
+		long subBucket = bucketIndex % SUB_BUCKET_COUNT;
+		long nextLowerBound = (SUB_BUCKET_COUNT + subBucket + 1) << shift;
+
+		return nextLowerBound - 1;
+	}
+
+	private static long saturatedAdd(long nonNegativeValue1, long nonNegativeValue2) {
+
+		long sum = nonNegativeValue1 + nonNegativeValue2;
+
+		if (sum < 0) {
+			sum = Long.MAX_VALUE;
+		}
+
+		return sum;
+	}
+
+	public long getCount() {
+		return count.get();
+	}
+
+	public long getMax() {
+		return max.get();
+	}
+
+	public long getMean() {
+
+		long currentCount = count.get();
+
+		if (currentCount == 0) {
+			return 0;
+		}
+
+		return total.get() / currentCount;
+	}
+
+	/**
+	 * Returns an estimate of the specified percentile, which is the upper bound of the bucket that contains the value
+	 * at the percentile (but never more than the maximum recorded value).
+	 *
+	 * @param  percentile  A value between 0 and 100.
+	 */
+	public long getPercentile(double percentile) {
+
+		long currentCount = count.get();
+
+		if (currentCount == 0) {
+			return 0;
+		}
+
+		// Note that the count is multiplied before dividing by 100 so that a whole percentile of a count such as 100 is
+		// not rounded up to the next value (0.07 * 100 is slightly greater than 7).
+		long threshold = (long) Math.ceil((Math.min(Math.max(percentile, 0.0), 100.0) * currentCount) / 100.0);
+		threshold = Math.max(threshold, 1L);
+
+		long cumulativeCount = 0;
+
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+
+			cumulativeCount += bucketCounts.get(i);
+
+			if (cumulativeCount >= threshold) {
+				return Math.min(getBucketUpperBound(i), max.get());
+			}
+		}
+
+		return max.get();
+	}
+
+	public void record(long value) {
+
+		long nonNegativeValue = Math.max(value, 0L);
+		bucketCounts.incrementAndGet(getBucketIndex(nonNegativeValue));
+		count.incrementAndGet();
+
+		// Since the mean is calculated from the total, the total saturates at Long.MAX_VALUE rather than overflowing
+		// to a negative value.
+		long currentTotal = total.get();
+
+		while ((currentTotal < Long.MAX_VALUE) &&
+				!total.compareAndSet(currentTotal, saturatedAdd(currentTotal, nonNegativeValue))) {
+			currentTotal = total.get();
+		}
+
+		long currentMax = max.get();
+
+		while ((nonNegativeValue > currentMax) && !max.compareAndSet(currentMax, nonNegativeValue)) {
+			currentMax = max.get();
+		}
+	}
+
+	public void reset() {
+
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			bucketCounts.set(i, 0L);
+		}
+
+		count.set(0L);
+		max.set(0L);
+		total.set(0L);
+	}
+}
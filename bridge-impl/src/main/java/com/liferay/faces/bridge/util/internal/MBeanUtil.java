@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.util.internal;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.portlet.PortletContext;
+import javax.servlet.ServletContext;
+
+import com.liferay.faces.util.logging.Logger;
+import com.liferay.faces.util.logging.LoggerFactory;
+
+
+/**
+ * This class provides the ability to register MBeans with the platform MBeanServer on behalf of a web application, and
+ * to unregister them when the web application is undeployed so that the MBeans do not prevent the web application
+ * class loader from being garbage collected.
+ *
+ * @author  Neil Griffin
+ */
+public final class MBeanUtil {
+
+	// Logger
+	private static final Logger logger = LoggerFactory.getLogger(MBeanUtil.class);
+
+	// Private Constants
+	private static final String DOMAIN = "com.liferay.faces.bridge";
+	private static final String OBJECT_NAMES = MBeanUtil.class.getName() + ".objectNames";
+
+	private MBeanUtil() {
+		throw new AssertionError();
+	}
+
+	/**
+	 * Registers the specified MBean with an ObjectName of the form
+	 * "com.liferay.faces.bridge:type=<code>type</code>,context=<code>portletContextName</code>". If an MBean is already
+	 * registered with the same ObjectName (for example, by a previous deployment of the same web application) then it
+	 * is replaced. Failures are logged rather than thrown since management is not essential to request processing.
+	 */
+	public static void registerMBean(PortletContext portletContext, String type, Object mbean) {
+
+		String contextName = portletContext.getPortletContextName();
+
+		if (contextName == null) {
+			contextName = "default";
+		}
+
+		try {
+			ObjectName objectName = new ObjectName(DOMAIN + ":type=" + type + ",context=" +
+					ObjectName.quote(contextName));
+			MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+			try {
+				mBeanServer.registerMBean(mbean, objectName);
+			}
+			catch (InstanceAlreadyExistsException e) {
+				mBeanServer.unregisterMBean(objectName);
+				mBeanServer.registerMBean(mbean, objectName);
+			}
+
+			synchronized (MBeanUtil.class) {
+
+				@SuppressWarnings("unchecked")
+				List<ObjectName> objectNames = (List<ObjectName>) portletContext.getAttribute(OBJECT_NAMES);
+
+				if (objectNames == null) {
+					objectNames = new ArrayList<ObjectName>();
+					portletContext.setAttribute(OBJECT_NAMES, objectNames);
+				}
+
+				objectNames.add(objectName);
+			}
+
+			logger.debug("Registered MBean objectName=[{0}]", objectName);
+		}
+		catch (JMException | SecurityException e) {
+			logger.error("Unable to register MBean type=[{0}] context=[{1}]: {2}", type, contextName, e.getMessage());
+		}
+	}
+
+	/** Unregisters all of the MBeans that were registered on behalf of the specified web application. */
+	public static void unregisterMBeans(ServletContext servletContext) {
+
+		List<ObjectName> objectNames;
+
+		synchronized (MBeanUtil.class) {
+
+			@SuppressWarnings("unchecked")
+			List<ObjectName> registeredObjectNames = (List<ObjectName>) servletContext.getAttribute(OBJECT_NAMES);
+			objectNames = registeredObjectNames;
+			servletContext.removeAttribute(OBJECT_NAMES);
+		}
+
+		if (objectNames != null) {
+
+			MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+			for (ObjectName objectName : objectNames) {
+
+				try {
+
+					if (mBeanServer.isRegistered(objectName)) {
+						mBeanServer.unregisterMBean(objectName);
+						logger.debug("Unregistered MBean objectName=[{0}]", objectName);
+					}
+				}
+				catch (JMException e) {
+					logger.error("Unable to unregister MBean objectName=[{0}]: {1}", objectName, e.getMessage());
+				}
+			}
+		}
+	}
+}
@@ -15,12 +15,19 @@
  */
 package com.liferay.faces.bridge.util.internal;
 
+import java.util.List;
+import java.util.Map;
+
 import javax.faces.context.ExternalContext;
 import javax.faces.context.FacesContext;
 import javax.portlet.PortletConfig;
+import javax.portlet.PortletContext;
 import javax.portlet.PortletRequest;
 import javax.portlet.faces.BridgeConfig;
+import javax.portlet.faces.BridgeFactoryFinder;
 
+import com.liferay.faces.bridge.context.map.internal.ContextMapFactory;
+import com.liferay.faces.bridge.model.UploadedFile;
 import com.liferay.faces.bridge.scope.internal.BridgeRequestScope;
 
 
@@ -29,6 +36,9 @@ import com.liferay.faces.bridge.scope.internal.BridgeRequestScope;
  */
 public final class RequestMapUtil {
 
+	// Private Constants
+	private static final String UPLOADED_FILE_MAP = RequestMapUtil.class.getName() + ".uploadedFileMap";
+
 	private RequestMapUtil() {
 		throw new AssertionError();
 	}
@@ -68,4 +78,31 @@ public final class RequestMapUtil {
 	public static PortletConfig getPortletConfig(PortletRequest portletRequest) {
 		return (PortletConfig) portletRequest.getAttribute(PortletConfig.class.getName());
 	}
+
+	/**
+	 * Returns the map of uploaded files (keyed by the client id of the submitting component) of the current request.
+	 * The map is resolved from the {@link ContextMapFactory} once per request and then cached as an attribute of the
+	 * current {@link PortletRequest}, so that each file upload component that is decoded shares the same instance. The
+	 * attribute is listed as an excluded attribute in META-INF/faces-config.xml so that it is not saved in the {@link
+	 * BridgeRequestScope}.
+	 */
+	@SuppressWarnings("unchecked")
+	public static Map<String, List<UploadedFile>> getUploadedFileMap(FacesContext facesContext) {
+
+		ExternalContext externalContext = facesContext.getExternalContext();
+		PortletRequest portletRequest = (PortletRequest) externalContext.getRequest();
+		Map<String, List<UploadedFile>> uploadedFileMap = (Map<String, List<UploadedFile>>) portletRequest
+			.getAttribute(UPLOADED_FILE_MAP);
+
+		if (uploadedFileMap == null) {
+
+			PortletContext portletContext = (PortletContext) externalContext.getContext();
+			ContextMapFactory contextMapFactory = (ContextMapFactory) BridgeFactoryFinder.getFactory(portletContext,
+					ContextMapFactory.class);
+			uploadedFileMap = contextMapFactory.getUploadedFileMap(portletRequest);
+			portletRequest.setAttribute(UPLOADED_FILE_MAP, uploadedFileMap);
+		}
+
+		return uploadedFileMap;
+	}
 }
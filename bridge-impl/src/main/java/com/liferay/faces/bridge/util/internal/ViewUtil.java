@@ -15,12 +15,19 @@
  */
 package com.liferay.faces.bridge.util.internal;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.portlet.PortletConfig;
 import javax.portlet.PortletContext;
 import javax.portlet.PortletMode;
 import javax.portlet.faces.Bridge;
+import javax.portlet.faces.BridgeConfig;
+import javax.portlet.faces.GenericFacesPortlet;
+
+import com.liferay.faces.bridge.internal.BridgeConfigAttributeMap;
 
 
 /**
@@ -28,6 +35,32 @@ import javax.portlet.faces.Bridge;
  */
 public class ViewUtil {
 
+	// Private Constants
+	private static final String DEFAULT_VIEWID_PREFIX = GenericFacesPortlet.DEFAULT_VIEWID + ".";
+
+	/**
+	 * Returns the immutable default viewId map of the portlet associated with the specified {@link PortletConfig} that
+	 * was registered in the specified {@link BridgeConfig} by {@link #registerDefaultViewIdMap(BridgeConfig,
+	 * PortletConfig)}. If a map has not been registered, then it is registered on demand. The keys and values of the
+	 * map are the same as those of {@link #getDefaultViewIdMap(PortletConfig)}.
+	 */
+	public static Map<String, String> getDefaultViewIdMap(BridgeConfig bridgeConfig, PortletConfig portletConfig) {
+
+		ConcurrentMap<String, Map<String, String>> defaultViewIdMaps = getDefaultViewIdMaps(bridgeConfig);
+
+		if (defaultViewIdMaps == null) {
+			return getDefaultViewIdMap(portletConfig);
+		}
+
+		Map<String, String> defaultViewIdMap = defaultViewIdMaps.get(portletConfig.getPortletName());
+
+		if (defaultViewIdMap == null) {
+			defaultViewIdMap = registerDefaultViewIdMap(bridgeConfig, portletConfig);
+		}
+
+		return defaultViewIdMap;
+	}
+
 	/**
 	 * <p>Returns an immutable {@link Map} whose keys are determined by {@link PortletMode#toString()} and whose values
 	 * are retrieved from the following sections of the WEB-INF/portlet.xml descriptor.</p>
@@ -64,4 +97,49 @@ public class ViewUtil {
 
 		return defaultViewIdMap;
 	}
+
+	/**
+	 * Creates an immutable snapshot of the {@link #getDefaultViewIdMap(PortletConfig)} of the portlet associated with
+	 * the specified {@link PortletConfig} and registers it in the specified {@link BridgeConfig} so that subsequent
+	 * calls to {@link #getDefaultViewIdMap(BridgeConfig, PortletConfig)} do not have to read the portlet init-param
+	 * values.
+	 */
+	public static Map<String, String> registerDefaultViewIdMap(BridgeConfig bridgeConfig,
+		PortletConfig portletConfig) {
+
+		Map<String, String> defaultViewIdMap = getDefaultViewIdMap(portletConfig);
+		Map<String, String> defaultViewIdSnapshot = new HashMap<String, String>();
+
+		for (String key : defaultViewIdMap.keySet()) {
+
+			String portletMode = key;
+
+			if (portletMode.startsWith(DEFAULT_VIEWID_PREFIX)) {
+				portletMode = portletMode.substring(DEFAULT_VIEWID_PREFIX.length());
+			}
+
+			defaultViewIdSnapshot.put(portletMode, defaultViewIdMap.get(key));
+		}
+
+		defaultViewIdSnapshot = Collections.unmodifiableMap(defaultViewIdSnapshot);
+
+		ConcurrentMap<String, Map<String, String>> defaultViewIdMaps = getDefaultViewIdMaps(bridgeConfig);
+
+		if (defaultViewIdMaps != null) {
+			defaultViewIdMaps.put(portletConfig.getPortletName(), defaultViewIdSnapshot);
+		}
+
+		return defaultViewIdSnapshot;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static ConcurrentMap<String, Map<String, String>> getDefaultViewIdMaps(BridgeConfig bridgeConfig) {
+
+		if (bridgeConfig == null) {
+			return null;
+		}
+
+		return (ConcurrentMap<String, Map<String, String>>) bridgeConfig.getAttributes().get(
+				BridgeConfigAttributeMap.DEFAULT_VIEW_ID_MAPS);
+	}
 }
@@ -0,0 +1,167 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.application.internal;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.faces.component.UIViewRoot;
+import javax.faces.context.ExternalContext;
+import javax.faces.context.ExternalContextWrapper;
+import javax.faces.context.PartialViewContext;
+import javax.faces.context.PartialViewContextWrapper;
+import javax.portlet.PortletConfig;
+import javax.portlet.PortletMode;
+import javax.portlet.PortletRequest;
+import javax.portlet.faces.BridgeConfig;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.liferay.faces.bridge.config.BridgeConfigDefaultViewIdMapsMockImpl;
+import com.liferay.faces.bridge.config.PortletConfigInitParamMockImpl;
+import com.liferay.faces.bridge.internal.FacesContextMockImpl;
+import com.liferay.faces.bridge.util.internal.ViewUtil;
+
+
+/**
+ * This class verifies that a change of portlet mode navigates to the default viewId of the new mode by way of the
+ * default viewId map that was registered when the bridge was initialized, rather than by reading the portlet init-param
+ * values.
+ *
+ * @author  Neil Griffin
+ */
+public class BridgeNavigationHandlerImplTest {
+
+	@Test
+	public void testPortletModeChangeUsesRegisteredDefaultViewIdMap() {
+
+		Map<String, String> initParameters = new HashMap<String, String>();
+		initParameters.put("javax.portlet.faces.defaultViewId.view", "/views/portletViewMode.xhtml");
+		initParameters.put("javax.portlet.faces.defaultViewId.edit", "views/portletEditMode.xhtml");
+
+		PortletConfigInitParamMockImpl portletConfig = new PortletConfigInitParamMockImpl("portlet1", initParameters);
+		BridgeConfigDefaultViewIdMapsMockImpl bridgeConfig = new BridgeConfigDefaultViewIdMapsMockImpl();
+
+		// Register the default viewId map in the same manner as BridgeImpl.init(PortletConfig).
+		ViewUtil.registerDefaultViewIdMap(bridgeConfig, portletConfig);
+
+		int defaultViewIdReads = portletConfig.getDefaultViewIdReads();
+		BridgeNavigationHandlerImpl bridgeNavigationHandler = new BridgeNavigationHandlerImpl(null);
+
+		for (int i = 0; i < 3; i++) {
+
+			NavigationFacesContextMockImpl facesContext = new NavigationFacesContextMockImpl(portletConfig,
+					bridgeConfig);
+			UIViewRoot viewRoot = new UIViewRoot();
+			viewRoot.setViewId("/views/portletViewMode.xhtml");
+			facesContext.setViewRoot(viewRoot);
+
+			bridgeNavigationHandler.handleNavigation(facesContext, PortletMode.VIEW, PortletMode.EDIT);
+			Assert.assertEquals("/views/portletEditMode.xhtml", facesContext.getViewRoot().getViewId());
+			Assert.assertTrue(facesContext.getPartialViewContext().isRenderAll());
+
+			// Since there is no default viewId for HELP mode, the view must not change.
+			bridgeNavigationHandler.handleNavigation(facesContext, PortletMode.EDIT, PortletMode.HELP);
+			Assert.assertEquals("/views/portletEditMode.xhtml", facesContext.getViewRoot().getViewId());
+		}
+
+		Assert.assertEquals(defaultViewIdReads, portletConfig.getDefaultViewIdReads());
+	}
+
+	private static final class NavigationExternalContextMockImpl extends ExternalContextWrapper {
+
+		// Private Final Data Members
+		private final PortletRequest portletRequest;
+
+		public NavigationExternalContextMockImpl(PortletConfig portletConfig, BridgeConfig bridgeConfig) {
+
+			final Map<String, Object> requestAttributes = new HashMap<String, Object>();
+			requestAttributes.put(PortletConfig.class.getName(), portletConfig);
+			requestAttributes.put(BridgeConfig.class.getName(), bridgeConfig);
+
+			this.portletRequest = (PortletRequest) Proxy.newProxyInstance(PortletRequest.class.getClassLoader(),
+					new Class<?>[] { PortletRequest.class }, new InvocationHandler() {
+
+						@Override
+						public Object invoke(Object proxy, Method method, Object[] args) {
+
+							if ("getAttribute".equals(method.getName())) {
+								return requestAttributes.get((String) args[0]);
+							}
+
+							throw new UnsupportedOperationException(method.getName());
+						}
+					});
+		}
+
+		@Override
+		public Object getRequest() {
+			return portletRequest;
+		}
+
+		@Override
+		public ExternalContext getWrapped() {
+			return null;
+		}
+	}
+
+	private static final class NavigationFacesContextMockImpl extends FacesContextMockImpl {
+
+		// Private Final Data Members
+		private final ExternalContext externalContext;
+		private final PartialViewContext partialViewContext;
+
+		public NavigationFacesContextMockImpl(PortletConfig portletConfig, BridgeConfig bridgeConfig) {
+			this.externalContext = new NavigationExternalContextMockImpl(portletConfig, bridgeConfig);
+			this.partialViewContext = new PartialViewContextMockImpl();
+		}
+
+		@Override
+		public ExternalContext getExternalContext() {
+			return externalContext;
+		}
+
+		@Override
+		public PartialViewContext getPartialViewContext() {
+			return partialViewContext;
+		}
+	}
+
+	private static final class PartialViewContextMockImpl extends PartialViewContextWrapper {
+
+		// Private Data Members
+		private boolean renderAll;
+
+		@Override
+		public PartialViewContext getWrapped() {
+			return null;
+		}
+
+		@Override
+		public boolean isRenderAll() {
+			return renderAll;
+		}
+
+		@Override
+		public void setRenderAll(boolean renderAll) {
+			this.renderAll = renderAll;
+		}
+	}
+}
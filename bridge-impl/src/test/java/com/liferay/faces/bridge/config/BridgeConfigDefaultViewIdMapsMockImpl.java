@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.config;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.liferay.faces.bridge.internal.BridgeConfigAttributeMap;
+
+
+/**
+ * This class is a BridgeConfig whose attributes contain an empty registry of default viewId maps, in the same manner
+ * as the BridgeConfig provided by the bridge.
+ *
+ * @author  Neil Griffin
+ */
+public class BridgeConfigDefaultViewIdMapsMockImpl extends BridgeConfigMockImpl {
+
+	// Private Final Data Members
+	private final Map<String, Object> attributes;
+
+	public BridgeConfigDefaultViewIdMapsMockImpl() {
+		this.attributes = Collections.<String, Object>singletonMap(BridgeConfigAttributeMap.DEFAULT_VIEW_ID_MAPS,
+				new ConcurrentHashMap<String, Map<String, String>>());
+	}
+
+	@Override
+	public Map<String, Object> getAttributes() {
+		return attributes;
+	}
+}
@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.config;
+
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Map;
+
+import javax.portlet.PortletContext;
+import javax.portlet.faces.GenericFacesPortlet;
+
+
+/**
+ * This class is a PortletConfig that provides the specified init-param values and counts the number of times that the
+ * default viewId init-params are read.
+ *
+ * @author  Neil Griffin
+ */
+public class PortletConfigInitParamMockImpl extends PortletConfigMockImpl {
+
+	// Private Final Data Members
+	private final Map<String, String> initParameters;
+	private final PortletContext portletContext;
+	private final String portletName;
+
+	// Private Data Members
+	private int defaultViewIdReads;
+
+	public PortletConfigInitParamMockImpl(String portletName, Map<String, String> initParameters) {
+		this.portletName = portletName;
+		this.initParameters = initParameters;
+		this.portletContext = new PortletContextMockImpl();
+	}
+
+	/**
+	 * Returns the number of times that the names of the init-params, or the value of a default viewId init-param,
+	 * have been read.
+	 */
+	public int getDefaultViewIdReads() {
+		return defaultViewIdReads;
+	}
+
+	@Override
+	public String getInitParameter(String name) {
+
+		if (name.startsWith(GenericFacesPortlet.DEFAULT_VIEWID)) {
+			defaultViewIdReads++;
+		}
+
+		return initParameters.get(name);
+	}
+
+	@Override
+	public Enumeration<String> getInitParameterNames() {
+
+		defaultViewIdReads++;
+
+		return Collections.enumeration(initParameters.keySet());
+	}
+
+	@Override
+	public PortletContext getPortletContext() {
+		return portletContext;
+	}
+
+	@Override
+	public String getPortletName() {
+		return portletName;
+	}
+}
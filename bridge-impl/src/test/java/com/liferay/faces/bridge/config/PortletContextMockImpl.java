@@ -0,0 +1,158 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.config;
+
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.portlet.PortletContext;
+import javax.portlet.PortletRequestDispatcher;
+
+
+/**
+ * @author  Neil Griffin
+ */
+public class PortletContextMockImpl implements PortletContext {
+
+	// Private Final Data Members
+	private final Map<String, Object> attributes = new HashMap<String, Object>();
+
+	@Override
+	public Object getAttribute(String name) {
+		return attributes.get(name);
+	}
+
+	@Override
+	public Enumeration<String> getAttributeNames() {
+		return Collections.enumeration(attributes.keySet());
+	}
+
+	@Override
+	public ClassLoader getClassLoader() {
+		return getClass().getClassLoader();
+	}
+
+	@Override
+	public Enumeration<String> getContainerRuntimeOptions() {
+		return null;
+	}
+
+	@Override
+	public String getContextPath() {
+		return null;
+	}
+
+	@Override
+	public int getEffectiveMajorVersion() {
+		return 3;
+	}
+
+	@Override
+	public int getEffectiveMinorVersion() {
+		return 0;
+	}
+
+	@Override
+	public String getInitParameter(String name) {
+		return null;
+	}
+
+	@Override
+	public Enumeration<String> getInitParameterNames() {
+		return null;
+	}
+
+	@Override
+	public int getMajorVersion() {
+		return 3;
+	}
+
+	@Override
+	public String getMimeType(String file) {
+		return null;
+	}
+
+	@Override
+	public int getMinorVersion() {
+		return 0;
+	}
+
+	@Override
+	public PortletRequestDispatcher getNamedDispatcher(String name) {
+		return null;
+	}
+
+	@Override
+	public String getPortletContextName() {
+		return null;
+	}
+
+	@Override
+	public String getRealPath(String path) {
+		return null;
+	}
+
+	@Override
+	public PortletRequestDispatcher getRequestDispatcher(String path) {
+		return null;
+	}
+
+	@Override
+	public URL getResource(String path) throws MalformedURLException {
+		return null;
+	}
+
+	@Override
+	public InputStream getResourceAsStream(String path) {
+		return null;
+	}
+
+	@Override
+	public Set<String> getResourcePaths(String path) {
+		return null;
+	}
+
+	@Override
+	public String getServerInfo() {
+		return null;
+	}
+
+	@Override
+	public void log(String msg) {
+		// no-op
+	}
+
+	@Override
+	public void log(String message, Throwable throwable) {
+		// no-op
+	}
+
+	@Override
+	public void removeAttribute(String name) {
+		attributes.remove(name);
+	}
+
+	@Override
+	public void setAttribute(String name, Object object) {
+		attributes.put(name, object);
+	}
+}
@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.context;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.liferay.faces.bridge.context.internal.ExceptionAggregator;
+
+
+/**
+ * @author  Neil Griffin
+ */
+public class ExceptionAggregatorTest {
+
+	private static IllegalStateException newException() {
+		return new IllegalStateException("same place");
+	}
+
+	@Test
+	public void testFingerprint() {
+
+		Throwable rootCause = newException();
+		Throwable wrapped = new RuntimeException(new RuntimeException(rootCause));
+		String fingerprint = ExceptionAggregator.getFingerprint(rootCause, "/views/view.xhtml");
+
+		Assert.assertEquals(fingerprint, ExceptionAggregator.getFingerprint(wrapped, "/views/view.xhtml"));
+		Assert.assertTrue(fingerprint.startsWith(IllegalStateException.class.getName() + " at "));
+		Assert.assertFalse(fingerprint.equals(ExceptionAggregator.getFingerprint(rootCause, "/views/other.xhtml")));
+		Assert.assertFalse(fingerprint.equals(
+				ExceptionAggregator.getFingerprint(new IllegalStateException(), "/views/view.xhtml")));
+	}
+
+	@Test
+	public void testRecord() {
+
+		ExceptionAggregator exceptionAggregator = new ExceptionAggregator(3600);
+		Assert.assertTrue(exceptionAggregator.isEnabled());
+
+		for (int i = 0; i < 5; i++) {
+			Assert.assertEquals(i == 0, exceptionAggregator.record(newException(), "/views/view.xhtml"));
+		}
+
+		Assert.assertTrue(exceptionAggregator.record(newException(), "/views/other.xhtml"));
+		Assert.assertTrue(exceptionAggregator.record(newException(), null));
+		Assert.assertEquals(7L, exceptionAggregator.getTotalCount());
+		Assert.assertEquals(4L, exceptionAggregator.getSuppressedCount());
+		Assert.assertEquals(3, exceptionAggregator.getFingerprints().size());
+
+		String fingerprint = ExceptionAggregator.getFingerprint(newException(), "/views/view.xhtml");
+		Assert.assertEquals(5L, exceptionAggregator.getCount(fingerprint));
+
+		exceptionAggregator.reset();
+		Assert.assertEquals(0L, exceptionAggregator.getTotalCount());
+		Assert.assertTrue(exceptionAggregator.record(newException(), "/views/view.xhtml"));
+		Assert.assertFalse(new ExceptionAggregator(-1).isEnabled());
+	}
+}
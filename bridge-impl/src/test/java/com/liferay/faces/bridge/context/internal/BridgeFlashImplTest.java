@@ -0,0 +1,165 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.context.internal;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+
+/**
+ * @author  Neil Griffin
+ */
+public class BridgeFlashImplTest {
+
+	/**
+	 * Returns a flash in which "current" is a value of the current traversal of the lifecycle, "next" is a value for
+	 * the next traversal, and "both" is a value of both (in which case the value for the next traversal takes
+	 * precedence).
+	 */
+	private static BridgeFlashImpl newFlash() {
+
+		BridgeFlashImpl bridgeFlash = new BridgeFlashImpl("scopeId");
+		bridgeFlash.putNow("current", "currentValue");
+		bridgeFlash.putNow("both", "oldValue");
+		bridgeFlash.put("both", "newValue");
+		bridgeFlash.put("next", "nextValue");
+
+		return bridgeFlash;
+	}
+
+	@Test
+	public void testEntrySet() {
+
+		BridgeFlashImpl bridgeFlash = newFlash();
+		Set<Map.Entry<String, Object>> entrySet = bridgeFlash.entrySet();
+		Assert.assertEquals(3, entrySet.size());
+
+		for (Map.Entry<String, Object> mapEntry : entrySet) {
+
+			if ("both".equals(mapEntry.getKey())) {
+				Assert.assertEquals("newValue", mapEntry.getValue());
+			}
+			else if ("current".equals(mapEntry.getKey())) {
+				Assert.assertEquals("currentValue", mapEntry.setValue("updatedValue"));
+			}
+		}
+
+		Assert.assertEquals("updatedValue", bridgeFlash.get("current"));
+
+		Iterator<Map.Entry<String, Object>> iterator = entrySet.iterator();
+
+		while (iterator.hasNext()) {
+
+			if ("both".equals(iterator.next().getKey())) {
+				iterator.remove();
+			}
+		}
+
+		// Removing the entry must remove the value of both the current and the next traversal of the lifecycle.
+		Assert.assertFalse(bridgeFlash.containsKey("both"));
+		Assert.assertNull(bridgeFlash.getNextTraversalFlash().get("both"));
+		Assert.assertEquals(2, entrySet.size());
+		Assert.assertEquals(2, bridgeFlash.size());
+
+		entrySet.clear();
+		Assert.assertTrue(bridgeFlash.isEmpty());
+	}
+
+	@Test
+	public void testIteratorRemoveWithoutNext() {
+
+		Iterator<String> iterator = newFlash().keySet().iterator();
+
+		try {
+			iterator.remove();
+			Assert.fail("Expected IllegalStateException");
+		}
+		catch (IllegalStateException e) {
+
+			// Expected.
+		}
+
+		iterator.next();
+		iterator.remove();
+
+		try {
+			iterator.remove();
+			Assert.fail("Expected IllegalStateException");
+		}
+		catch (IllegalStateException e) {
+
+			// Expected.
+		}
+	}
+
+	@Test
+	public void testKeySet() {
+
+		BridgeFlashImpl bridgeFlash = newFlash();
+		Set<String> keySet = bridgeFlash.keySet();
+		Assert.assertEquals(new HashSet<String>(Arrays.asList("both", "current", "next")), new HashSet<String>(keySet));
+
+		// The key set is a view, so values that are put after it was obtained are visible in it.
+		bridgeFlash.put("later", "laterValue");
+		Assert.assertTrue(keySet.contains("later"));
+		Assert.assertEquals(4, keySet.size());
+
+		Assert.assertTrue(keySet.remove("current"));
+		Assert.assertFalse(keySet.remove("current"));
+		Assert.assertFalse(bridgeFlash.containsKey("current"));
+
+		Assert.assertTrue(keySet.removeAll(Arrays.asList("next", "later")));
+		Assert.assertEquals(1, bridgeFlash.size());
+
+		keySet.retainAll(Arrays.asList("next"));
+		Assert.assertTrue(bridgeFlash.isEmpty());
+		Assert.assertTrue(keySet.isEmpty());
+	}
+
+	@Test
+	public void testValues() {
+
+		BridgeFlashImpl bridgeFlash = newFlash();
+		Collection<Object> values = bridgeFlash.values();
+		Assert.assertEquals(3, values.size());
+		Assert.assertFalse(values.contains("oldValue"));
+		Assert.assertTrue(values.contains("newValue"));
+
+		Assert.assertTrue(values.remove("nextValue"));
+		Assert.assertFalse(bridgeFlash.containsKey("next"));
+		Assert.assertEquals(2, bridgeFlash.size());
+
+		Iterator<Object> iterator = values.iterator();
+
+		while (iterator.hasNext()) {
+
+			if ("newValue".equals(iterator.next())) {
+				iterator.remove();
+			}
+		}
+
+		Assert.assertFalse(bridgeFlash.containsKey("both"));
+		Assert.assertEquals("currentValue", bridgeFlash.get("current"));
+		Assert.assertEquals(1, values.size());
+	}
+}
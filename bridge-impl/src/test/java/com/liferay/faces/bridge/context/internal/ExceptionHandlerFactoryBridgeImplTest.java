@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.context.internal;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+import javax.faces.context.ExceptionHandler;
+import javax.servlet.ServletContext;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.liferay.faces.bridge.config.PortletContextMockImpl;
+
+
+/**
+ * @author  Neil Griffin
+ */
+public class ExceptionHandlerFactoryBridgeImplTest {
+
+	private static ServletContext newServletContext() {
+
+		// Every method of the ServletContext returns null (or throws for primitive return types) since the factory
+		// must not make use of it.
+		return (ServletContext) Proxy.newProxyInstance(ServletContext.class.getClassLoader(),
+				new Class<?>[] { ServletContext.class }, new InvocationHandler() {
+
+					@Override
+					public Object invoke(Object proxy, Method method, Object[] args) {
+						return null;
+					}
+				});
+	}
+
+	@Test
+	public void testNonPortletContext() {
+
+		ExceptionHandlerFactoryBridgeImpl exceptionHandlerFactory = new ExceptionHandlerFactoryBridgeImpl(null);
+		ExceptionHandler exceptionHandler = exceptionHandlerFactory.getExceptionHandler(null, newServletContext());
+
+		Assert.assertTrue(exceptionHandler instanceof ExceptionHandlerBridgeImpl);
+		Assert.assertNull(((ExceptionHandlerBridgeImpl) exceptionHandler).getExceptionAggregator());
+
+		exceptionHandler = exceptionHandlerFactory.getExceptionHandler(null, null);
+		Assert.assertNull(((ExceptionHandlerBridgeImpl) exceptionHandler).getExceptionAggregator());
+	}
+
+	@Test
+	public void testPortletContextWithoutAggregation() {
+
+		ExceptionHandlerFactoryBridgeImpl exceptionHandlerFactory = new ExceptionHandlerFactoryBridgeImpl(null);
+		ExceptionHandler exceptionHandler = exceptionHandlerFactory.getExceptionHandler(null,
+				new PortletContextMockImpl());
+
+		Assert.assertNull(((ExceptionHandlerBridgeImpl) exceptionHandler).getExceptionAggregator());
+	}
+
+	@Test
+	public void testSummaryIsLoggedOnceAfterInterval() {
+
+		ExceptionAggregator exceptionAggregator = new ExceptionAggregator(60);
+
+		for (int i = 0; i < 3; i++) {
+			exceptionAggregator.record(new IllegalStateException(), "/views/view.xhtml");
+		}
+
+		long nanoTime = System.nanoTime();
+		Assert.assertFalse(exceptionAggregator.logSummaryIfDue(nanoTime));
+
+		nanoTime += TimeUnit.SECONDS.toNanos(61);
+		Assert.assertTrue(exceptionAggregator.logSummaryIfDue(nanoTime));
+		Assert.assertFalse(exceptionAggregator.logSummaryIfDue(nanoTime));
+
+		// The interval counts were reset by the summary, so the next occurrence is to be logged again.
+		Assert.assertTrue(exceptionAggregator.record(new IllegalStateException(), "/views/view.xhtml"));
+		Assert.assertEquals(4L, exceptionAggregator.getTotalCount());
+	}
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.context.map;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+import javax.servlet.http.Cookie;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.liferay.faces.bridge.context.map.internal.RequestCookieMap;
+
+
+/**
+ * @author  Neil Griffin
+ */
+public class RequestCookieMapTest {
+
+	@Test
+	public void testDuplicateCookieNames() {
+
+		Cookie firstSession = new Cookie("JSESSIONID", "first");
+		Cookie analytics = new Cookie("_ga", "GA1.2.3");
+		Cookie secondSession = new Cookie("JSESSIONID", "second");
+		Cookie[] cookies = new Cookie[] { firstSession, analytics, secondSession };
+		Map<String, Object> requestCookieMap = new RequestCookieMap(cookies);
+
+		// The first cookie with a given name takes precedence, just like a linear scan of the array.
+		Assert.assertSame(firstSession, requestCookieMap.get("JSESSIONID"));
+		Assert.assertSame(analytics, requestCookieMap.get("_ga"));
+		Assert.assertTrue(requestCookieMap.containsKey("JSESSIONID"));
+		Assert.assertFalse(requestCookieMap.containsKey("jsessionid"));
+		Assert.assertFalse(requestCookieMap.containsKey(null));
+		Assert.assertNull(requestCookieMap.get("GUEST_LANGUAGE_ID"));
+		Assert.assertNull(requestCookieMap.get(null));
+
+		// Every cookie remains visible as a value, including the one that is shadowed by its name.
+		Assert.assertTrue(requestCookieMap.containsValue(firstSession));
+		Assert.assertTrue(requestCookieMap.containsValue(secondSession));
+		Assert.assertFalse(requestCookieMap.containsValue(new Cookie("JSESSIONID", "first")));
+		Assert.assertFalse(requestCookieMap.containsValue(null));
+
+		Assert.assertFalse(requestCookieMap.isEmpty());
+		Assert.assertEquals(3, requestCookieMap.size());
+
+		Set<String> keySet = requestCookieMap.keySet();
+		Assert.assertEquals(2, keySet.size());
+		Assert.assertTrue(keySet.contains("JSESSIONID"));
+		Assert.assertTrue(keySet.contains("_ga"));
+
+		Set<Map.Entry<String, Object>> entrySet = requestCookieMap.entrySet();
+		Assert.assertEquals(3, entrySet.size());
+		Assert.assertSame(entrySet, requestCookieMap.entrySet());
+
+		Collection<Object> values = requestCookieMap.values();
+		Assert.assertEquals(3, values.size());
+		Assert.assertSame(values, requestCookieMap.values());
+	}
+
+	@Test
+	public void testNullCookies() {
+
+		Map<String, Object> requestCookieMap = new RequestCookieMap(null);
+
+		Assert.assertTrue(requestCookieMap.isEmpty());
+		Assert.assertEquals(0, requestCookieMap.size());
+		Assert.assertFalse(requestCookieMap.containsKey("JSESSIONID"));
+		Assert.assertFalse(requestCookieMap.containsValue(null));
+		Assert.assertNull(requestCookieMap.get("JSESSIONID"));
+		Assert.assertNull(requestCookieMap.entrySet());
+		Assert.assertNull(requestCookieMap.keySet());
+		Assert.assertNull(requestCookieMap.values());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testViewsAreImmutable() {
+
+		Map<String, Object> requestCookieMap = new RequestCookieMap(new Cookie[] { new Cookie("JSESSIONID", "1") });
+		requestCookieMap.keySet().remove("JSESSIONID");
+	}
+}
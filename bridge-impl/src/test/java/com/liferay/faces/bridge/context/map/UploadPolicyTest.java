@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.context.map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.liferay.faces.bridge.context.map.internal.UploadPolicy;
+import com.liferay.faces.util.model.UploadedFile;
+
+
+/**
+ * @author  Neil Griffin
+ */
+public class UploadPolicyTest {
+
+	@Test
+	public void testContentTypes() {
+
+		UploadPolicy uploadPolicy = new UploadPolicy("application/pdf, image/*", -1, -1L, -1L);
+
+		Assert.assertNull(uploadPolicy.check("file", "application/pdf", 10L));
+		Assert.assertNull(uploadPolicy.check("file", "Application/PDF; name=\"report.pdf\"", 10L));
+		Assert.assertNull(uploadPolicy.check("file", "image/png", 10L));
+
+		UploadPolicy.Violation violation = uploadPolicy.check("file", "text/html", 10L);
+		Assert.assertNotNull(violation);
+		Assert.assertEquals(UploadedFile.Status.ERROR, violation.getStatus());
+		Assert.assertNotNull(uploadPolicy.check("file", null, 10L));
+		Assert.assertNotNull(uploadPolicy.check("file", "imagex/png", 10L));
+
+		uploadPolicy = new UploadPolicy("*/*", -1, -1L, -1L);
+		Assert.assertNull(uploadPolicy.check("file", "text/html", 10L));
+
+		uploadPolicy = new UploadPolicy(null, -1, -1L, -1L);
+		Assert.assertNull(uploadPolicy.check("file", null, 10L));
+	}
+
+	@Test
+	public void testMaxCount() {
+
+		UploadPolicy uploadPolicy = new UploadPolicy(null, 2, -1L, -1L);
+
+		Assert.assertNull(uploadPolicy.check("file1", "text/plain", 10L));
+		Assert.assertNull(uploadPolicy.check("file2", "text/plain", 10L));
+
+		UploadPolicy.Violation violation = uploadPolicy.check("file3", "text/plain", 10L);
+		Assert.assertNotNull(violation);
+		Assert.assertEquals(UploadedFile.Status.ERROR, violation.getStatus());
+	}
+
+	@Test
+	public void testMaxFieldSize() {
+
+		UploadPolicy uploadPolicy = new UploadPolicy(null, -1, 100L, -1L);
+
+		Assert.assertNull(uploadPolicy.check("file1", "text/plain", 60L));
+		Assert.assertNull(uploadPolicy.check("file2", "text/plain", 60L));
+
+		UploadPolicy.Violation violation = uploadPolicy.check("file1", "text/plain", 60L);
+		Assert.assertNotNull(violation);
+		Assert.assertEquals(UploadedFile.Status.FILE_SIZE_LIMIT_EXCEEDED, violation.getStatus());
+
+		// A rejected file does not count towards the limit.
+		Assert.assertNull(uploadPolicy.check("file1", "text/plain", 40L));
+	}
+
+	@Test
+	public void testMaxRequestSize() {
+
+		UploadPolicy uploadPolicy = new UploadPolicy(null, -1, -1L, 100L);
+
+		Assert.assertNull(uploadPolicy.check("file1", "text/plain", 60L));
+
+		UploadPolicy.Violation violation = uploadPolicy.check("file2", "text/plain", 60L);
+		Assert.assertNotNull(violation);
+		Assert.assertEquals(UploadedFile.Status.REQUEST_SIZE_LIMIT_EXCEEDED, violation.getStatus());
+		Assert.assertNull(uploadPolicy.check("file2", "text/plain", 40L));
+	}
+
+	@Test
+	public void testMaxRequestSizeByContentLength() {
+
+		UploadPolicy uploadPolicy = new UploadPolicy(null, -1, -1L, 100L);
+
+		Assert.assertNull(uploadPolicy.checkRequestSize(100L));
+
+		// A content length that is not known cannot be rejected, so the files are checked individually instead.
+		Assert.assertNull(uploadPolicy.checkRequestSize(-1L));
+
+		UploadPolicy.Violation violation = uploadPolicy.checkRequestSize(101L);
+		Assert.assertNotNull(violation);
+		Assert.assertEquals(UploadedFile.Status.REQUEST_SIZE_LIMIT_EXCEEDED, violation.getStatus());
+
+		uploadPolicy = new UploadPolicy(null, -1, -1L, -1L);
+		Assert.assertNull(uploadPolicy.checkRequestSize(Long.MAX_VALUE));
+	}
+}
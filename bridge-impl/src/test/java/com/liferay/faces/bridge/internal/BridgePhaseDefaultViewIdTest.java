@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.internal;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.portlet.PortletSession;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.liferay.faces.bridge.config.BridgeConfigDefaultViewIdMapsMockImpl;
+import com.liferay.faces.bridge.config.PortletConfigInitParamMockImpl;
+import com.liferay.faces.bridge.util.internal.ViewUtil;
+
+
+/**
+ * This class verifies that {@link BridgePhaseBaseImpl} sets the default viewIdHistory of each new session from the
+ * default viewId map that was registered when the bridge was initialized, rather than by reading the portlet init-param
+ * values during each request.
+ *
+ * @author  Neil Griffin
+ */
+public class BridgePhaseDefaultViewIdTest {
+
+	private static PortletSession newPortletSession(final Map<String, Object> attributes) {
+
+		return (PortletSession) Proxy.newProxyInstance(PortletSession.class.getClassLoader(),
+				new Class<?>[] { PortletSession.class }, new InvocationHandler() {
+
+					@Override
+					public Object invoke(Object proxy, Method method, Object[] args) {
+
+						String methodName = method.getName();
+
+						if ("getAttribute".equals(methodName)) {
+							return attributes.get((String) args[0]);
+						}
+						else if ("setAttribute".equals(methodName)) {
+							attributes.put((String) args[0], args[1]);
+
+							return null;
+						}
+
+						throw new UnsupportedOperationException(methodName);
+					}
+				});
+	}
+
+	@Test
+	public void testDefaultViewIdMapNotReadDuringRequests() {
+
+		Map<String, String> initParameters = new HashMap<String, String>();
+		initParameters.put("javax.portlet.faces.defaultViewId.view", "/views/portletViewMode.xhtml");
+		initParameters.put("javax.portlet.faces.defaultViewId.edit", "views/portletEditMode.xhtml");
+
+		PortletConfigInitParamMockImpl portletConfig = new PortletConfigInitParamMockImpl("portlet1", initParameters);
+		BridgeConfigDefaultViewIdMapsMockImpl bridgeConfig = new BridgeConfigDefaultViewIdMapsMockImpl();
+
+		// Register the default viewId map in the same manner as BridgeImpl.init(PortletConfig).
+		ViewUtil.registerDefaultViewIdMap(bridgeConfig, portletConfig);
+
+		int defaultViewIdReads = portletConfig.getDefaultViewIdReads();
+		Assert.assertTrue(defaultViewIdReads > 0);
+
+		// Simulate the first request of several sessions.
+		for (int i = 0; i < 3; i++) {
+
+			BridgePhaseHeaderRenderMockImpl bridgePhase = new BridgePhaseHeaderRenderMockImpl(portletConfig,
+					bridgeConfig);
+			Map<String, Object> sessionAttributes = new HashMap<String, Object>();
+			bridgePhase.initViewIdHistory(newPortletSession(sessionAttributes));
+
+			Assert.assertEquals("/views/portletViewMode.xhtml",
+				sessionAttributes.get(ViewIdHistory.getAttributeName("view")));
+			Assert.assertEquals("/views/portletEditMode.xhtml",
+				sessionAttributes.get(ViewIdHistory.getAttributeName("edit")));
+			Assert.assertNull(sessionAttributes.get(ViewIdHistory.getAttributeName("help")));
+		}
+
+		Assert.assertEquals(defaultViewIdReads, portletConfig.getDefaultViewIdReads());
+	}
+
+	@Test
+	public void testViewIdHistoryNotOverwritten() {
+
+		PortletConfigInitParamMockImpl portletConfig = new PortletConfigInitParamMockImpl("portlet1",
+				Collections.singletonMap("javax.portlet.faces.defaultViewId.view", "/views/portletViewMode.xhtml"));
+		BridgeConfigDefaultViewIdMapsMockImpl bridgeConfig = new BridgeConfigDefaultViewIdMapsMockImpl();
+		ViewUtil.registerDefaultViewIdMap(bridgeConfig, portletConfig);
+
+		// A viewId that was navigated to during a previous request of the session must be retained.
+		Map<String, Object> sessionAttributes = new HashMap<String, Object>();
+		sessionAttributes.put(ViewIdHistory.getAttributeName("view"), "/views/otherView.xhtml");
+
+		BridgePhaseHeaderRenderMockImpl bridgePhase = new BridgePhaseHeaderRenderMockImpl(portletConfig, bridgeConfig);
+		bridgePhase.initViewIdHistory(newPortletSession(sessionAttributes));
+		Assert.assertEquals("/views/otherView.xhtml", sessionAttributes.get(ViewIdHistory.getAttributeName("view")));
+	}
+}
@@ -0,0 +1,247 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.internal;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.faces.FacesException;
+import javax.faces.context.ExternalContext;
+import javax.faces.context.FacesContext;
+import javax.faces.event.PhaseEvent;
+import javax.faces.event.PhaseId;
+import javax.faces.event.PhaseListener;
+import javax.faces.lifecycle.Lifecycle;
+import javax.portlet.MimeResponse;
+import javax.portlet.PortletConfig;
+import javax.portlet.PortletRequest;
+import javax.portlet.PortletResponse;
+import javax.portlet.RenderRequest;
+import javax.portlet.faces.BridgeConfig;
+import javax.portlet.faces.BridgeException;
+
+import com.liferay.faces.bridge.config.PortletConfigMockImpl;
+import com.liferay.faces.bridge.event.internal.IPCPhaseListener;
+import com.liferay.faces.bridge.scope.internal.BridgeRequestScope;
+
+
+/**
+ * This class is a bridge phase that records each of the steps that are taken while rendering, rather than actually
+ * performing them.
+ *
+ * @author  Neil Griffin
+ */
+public class BridgePhaseHeaderRenderMockImpl extends BridgePhaseHeaderRenderCommon {
+
+	// Private Final Data Members
+	private final Map<String, Object> requestAttributes;
+	private final RenderRequest renderRequest;
+	private final List<String> steps;
+
+	// Private Data Members
+	private Throwable queuedException;
+
+	public BridgePhaseHeaderRenderMockImpl() {
+		this(new PortletConfigMockImpl(), null);
+	}
+
+	public BridgePhaseHeaderRenderMockImpl(PortletConfig portletConfig, BridgeConfig bridgeConfig) {
+		this(portletConfig, bridgeConfig, new ArrayList<String>());
+	}
+
+	private BridgePhaseHeaderRenderMockImpl(PortletConfig portletConfig, BridgeConfig bridgeConfig,
+		List<String> steps) {
+
+		super(portletConfig, bridgeConfig, new LifecycleMockImpl(steps));
+
+		this.requestAttributes = new HashMap<String, Object>();
+		this.renderRequest = newProxyInstance(RenderRequest.class, requestAttributes);
+		this.steps = steps;
+		this.bridgeRequestScope = newProxyInstance(BridgeRequestScope.class, null);
+		this.facesContext = new FacesContextMockImpl();
+	}
+
+	/**
+	 * Returns a proxy in which the attribute methods are backed by the specified map. If no map is specified, then
+	 * each method returns null (or false).
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> T newProxyInstance(Class<T> type, final Map<String, Object> attributes) {
+
+		return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, new InvocationHandler() {
+
+					@Override
+					public Object invoke(Object proxy, Method method, Object[] args) {
+
+						String methodName = method.getName();
+
+						if (attributes == null) {
+
+							if (method.getReturnType() == boolean.class) {
+								return Boolean.FALSE;
+							}
+						}
+						else if ("getAttribute".equals(methodName)) {
+							return attributes.get((String) args[0]);
+						}
+						else if ("setAttribute".equals(methodName)) {
+							attributes.put((String) args[0], args[1]);
+						}
+						else if ("removeAttribute".equals(methodName)) {
+							attributes.remove((String) args[0]);
+						}
+
+						return null;
+					}
+				});
+	}
+
+	@Override
+	public void execute() throws BridgeException {
+		throw new UnsupportedOperationException();
+	}
+
+	public FacesContext getFacesContext() {
+		return facesContext;
+	}
+
+	public Map<String, Object> getRequestAttributes() {
+		return requestAttributes;
+	}
+
+	@Override
+	public Writer getResponseOutputWriter(ExternalContext externalContext) throws IOException {
+		return new StringWriter();
+	}
+
+	public List<String> getSteps() {
+		return steps;
+	}
+
+	public void setQueuedException(Throwable queuedException) {
+		this.queuedException = queuedException;
+	}
+
+	@Override
+	protected void attachClientWindowToLifecycle(FacesContext facesContext, Lifecycle lifecycle) {
+		steps.add("attachClientWindowToLifecycle");
+	}
+
+	@Override
+	protected FacesContext getFacesContext(PortletRequest portletRequest, PortletResponse portletResponse,
+		Lifecycle lifecycle) {
+
+		return new FacesContextMockImpl();
+	}
+
+	@Override
+	protected MimeResponse getMimeResponse() {
+		return null;
+	}
+
+	@Override
+	protected RenderRequest getRenderRequest() {
+		return renderRequest;
+	}
+
+	@Override
+	protected void renderFacesLifecycle(FacesContext facesContext) {
+		steps.add("renderFacesLifecycle");
+	}
+
+	@Override
+	protected void restoreBridgeRequestScopeState(FacesContext facesContext) {
+		steps.add("restoreBridgeRequestScopeState");
+	}
+
+	@Override
+	protected void setViewHistory(String viewId) {
+		steps.add("setViewHistory " + viewId);
+	}
+
+	@Override
+	protected void throwQueuedExceptionIfNecessary(FacesContext facesContext) throws BridgeException {
+
+		steps.add("throwQueuedExceptionIfNecessary");
+
+		if (queuedException != null) {
+			throw new BridgeException(queuedException);
+		}
+	}
+
+	private static final class IPCPhaseListenerMockImpl extends IPCPhaseListener {
+
+		// serialVersionUID
+		private static final long serialVersionUID = 2719387642164823548L;
+
+		// Private Final Data Members
+		private final List<String> steps;
+
+		public IPCPhaseListenerMockImpl(List<String> steps) {
+			this.steps = steps;
+		}
+
+		@Override
+		public void afterPhase(PhaseEvent phaseEvent) {
+			if (phaseEvent.getPhaseId() == PhaseId.RESTORE_VIEW) {
+				steps.add("afterPhase RESTORE_VIEW");
+			}
+		}
+	}
+
+	private static final class LifecycleMockImpl extends Lifecycle {
+
+		// Private Final Data Members
+		private final List<String> steps;
+
+		public LifecycleMockImpl(List<String> steps) {
+			this.steps = steps;
+		}
+
+		@Override
+		public void addPhaseListener(PhaseListener phaseListener) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void execute(FacesContext facesContext) throws FacesException {
+			steps.add("execute");
+		}
+
+		@Override
+		public PhaseListener[] getPhaseListeners() {
+			return new PhaseListener[] { new IPCPhaseListenerMockImpl(steps) };
+		}
+
+		@Override
+		public void removePhaseListener(PhaseListener phaseListener) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void render(FacesContext facesContext) throws FacesException {
+			steps.add("render");
+		}
+	}
+}
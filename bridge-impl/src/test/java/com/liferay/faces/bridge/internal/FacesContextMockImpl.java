@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.faces.application.Application;
+import javax.faces.application.ApplicationWrapper;
+import javax.faces.application.ViewHandler;
+import javax.faces.application.ViewHandlerWrapper;
+import javax.faces.component.UIViewRoot;
+import javax.faces.context.ExternalContext;
+import javax.faces.context.ExternalContextWrapper;
+import javax.faces.context.FacesContext;
+import javax.faces.context.FacesContextWrapper;
+
+
+/**
+ * This class is a FacesContext that provides only the methods that are required in order to perform a render-redirect.
+ * Calling any other method causes a NullPointerException since there is no wrapped FacesContext.
+ *
+ * @author  Neil Griffin
+ */
+public class FacesContextMockImpl extends FacesContextWrapper {
+
+	// Private Final Data Members
+	private final Application application = new ApplicationMockImpl();
+	private final ExternalContext externalContext = new ExternalContextMockImpl();
+
+	// Private Data Members
+	private boolean released;
+	private boolean responseComplete;
+	private UIViewRoot viewRoot;
+
+	@Override
+	public Application getApplication() {
+		return application;
+	}
+
+	@Override
+	public ExternalContext getExternalContext() {
+		return externalContext;
+	}
+
+	@Override
+	public boolean getResponseComplete() {
+		return responseComplete;
+	}
+
+	@Override
+	public UIViewRoot getViewRoot() {
+		return viewRoot;
+	}
+
+	@Override
+	public FacesContext getWrapped() {
+		return null;
+	}
+
+	public boolean isReleased() {
+		return released;
+	}
+
+	@Override
+	public void release() {
+		released = true;
+	}
+
+	@Override
+	public void responseComplete() {
+		responseComplete = true;
+	}
+
+	@Override
+	public void setViewRoot(UIViewRoot viewRoot) {
+		this.viewRoot = viewRoot;
+	}
+
+	private static final class ApplicationMockImpl extends ApplicationWrapper {
+
+		// Private Final Data Members
+		private final ViewHandler viewHandler = new ViewHandlerMockImpl();
+
+		@Override
+		public ViewHandler getViewHandler() {
+			return viewHandler;
+		}
+
+		@Override
+		public Application getWrapped() {
+			return null;
+		}
+	}
+
+	private static final class ExternalContextMockImpl extends ExternalContextWrapper {
+
+		// Private Final Data Members
+		private final Map<String, Object> requestMap = new HashMap<String, Object>();
+
+		@Override
+		public Map<String, Object> getRequestMap() {
+			return requestMap;
+		}
+
+		@Override
+		public ExternalContext getWrapped() {
+			return null;
+		}
+	}
+
+	private static final class ViewHandlerMockImpl extends ViewHandlerWrapper {
+
+		@Override
+		public UIViewRoot createView(FacesContext facesContext, String viewId) {
+
+			UIViewRoot uiViewRoot = new UIViewRoot();
+			uiViewRoot.setViewId(viewId);
+
+			return uiViewRoot;
+		}
+
+		@Override
+		public ViewHandler getWrapped() {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,172 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.internal;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.faces.context.FacesContext;
+import javax.portlet.faces.Bridge;
+import javax.portlet.faces.BridgeException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+
+/**
+ * @author  Neil Griffin
+ */
+public class RenderRedirectTest {
+
+	@Test
+	public void testChainedRenderRedirects() throws IOException {
+
+		Map<String, Object> requestMap = new HashMap<String, Object>();
+		requestRenderRedirect(requestMap, "/views/redirect1.xhtml");
+
+		ChainingRenderRedirectExecutor renderRedirectExecutor = new ChainingRenderRedirectExecutor(requestMap, 3);
+		int renderRedirectCount = BridgePhaseHeaderRenderCommon.executeRenderRedirects(requestMap,
+				renderRedirectExecutor);
+
+		Assert.assertEquals(3, renderRedirectCount);
+
+		List<String> renderedViewIds = renderRedirectExecutor.getRenderedViewIds();
+		Assert.assertEquals(3, renderedViewIds.size());
+		Assert.assertEquals("/views/redirect1.xhtml", renderedViewIds.get(0));
+		Assert.assertEquals("/views/redirect2.xhtml", renderedViewIds.get(1));
+		Assert.assertEquals("/views/redirect3.xhtml", renderedViewIds.get(2));
+		Assert.assertFalse(requestMap.containsKey(BridgeExt.RENDER_REDIRECT));
+		Assert.assertFalse(requestMap.containsKey(BridgeExt.RENDER_REDIRECT_VIEW_ID));
+	}
+
+	@Test
+	public void testInfiniteRenderRedirectsAreBounded() throws IOException {
+
+		Map<String, Object> requestMap = new HashMap<String, Object>();
+		requestRenderRedirect(requestMap, "/views/redirect1.xhtml");
+
+		ChainingRenderRedirectExecutor renderRedirectExecutor = new ChainingRenderRedirectExecutor(requestMap,
+				Integer.MAX_VALUE);
+
+		try {
+			BridgePhaseHeaderRenderCommon.executeRenderRedirects(requestMap, renderRedirectExecutor);
+			Assert.fail("BridgeException expected");
+		}
+		catch (BridgeException e) {
+
+			// Expected
+		}
+
+		Assert.assertEquals(BridgePhaseHeaderRenderCommon.MAX_RENDER_REDIRECTS,
+			renderRedirectExecutor.getRenderedViewIds().size());
+	}
+
+	@Test
+	public void testRenderRedirectPreparesNewFacesContext() throws IOException {
+
+		BridgePhaseHeaderRenderMockImpl bridgePhase = new BridgePhaseHeaderRenderMockImpl();
+		FacesContextMockImpl originalFacesContext = (FacesContextMockImpl) bridgePhase.getFacesContext();
+
+		bridgePhase.renderRedirect("/views/redirect1.xhtml", Bridge.PortletPhase.HEADER_PHASE);
+
+		Assert.assertTrue(originalFacesContext.getResponseComplete());
+		Assert.assertTrue(originalFacesContext.isReleased());
+
+		FacesContext facesContext = bridgePhase.getFacesContext();
+		Assert.assertNotSame(originalFacesContext, facesContext);
+		Assert.assertEquals("/views/redirect1.xhtml", facesContext.getViewRoot().getViewId());
+		Assert.assertEquals(Boolean.TRUE,
+			bridgePhase.getRequestAttributes().get(BridgeExt.RENDER_REDIRECT_AFTER_DISPATCH));
+
+		// Since the bridge request scope was already restored for the original FacesContext, only the UIViewRoot is
+		// replaced before the RENDER_RESPONSE phase of the JSF lifecycle is executed.
+		Assert.assertEquals(Arrays.asList("throwQueuedExceptionIfNecessary", "renderFacesLifecycle",
+				"setViewHistory /views/redirect1.xhtml"), bridgePhase.getSteps());
+	}
+
+	@Test
+	public void testRenderRedirectThrowsQueuedException() throws IOException {
+
+		BridgePhaseHeaderRenderMockImpl bridgePhase = new BridgePhaseHeaderRenderMockImpl();
+		bridgePhase.setQueuedException(new IllegalStateException());
+
+		try {
+			bridgePhase.renderRedirect("/views/redirect1.xhtml", Bridge.PortletPhase.HEADER_PHASE);
+			Assert.fail("BridgeException expected");
+		}
+		catch (BridgeException e) {
+			Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+		}
+
+		Assert.assertFalse(bridgePhase.getSteps().contains("renderFacesLifecycle"));
+	}
+
+	@Test
+	public void testNoRenderRedirect() throws IOException {
+
+		Map<String, Object> requestMap = new HashMap<String, Object>();
+		ChainingRenderRedirectExecutor renderRedirectExecutor = new ChainingRenderRedirectExecutor(requestMap, 1);
+
+		int renderRedirectCount = BridgePhaseHeaderRenderCommon.executeRenderRedirects(requestMap,
+				renderRedirectExecutor);
+
+		Assert.assertEquals(0, renderRedirectCount);
+		Assert.assertTrue(renderRedirectExecutor.getRenderedViewIds().isEmpty());
+	}
+
+	private static void requestRenderRedirect(Map<String, Object> requestMap, String viewId) {
+		requestMap.put(BridgeExt.RENDER_REDIRECT, Boolean.TRUE);
+		requestMap.put(BridgeExt.RENDER_REDIRECT_VIEW_ID, viewId);
+	}
+
+	/**
+	 * Simulates views that each perform a render-redirect to the next view until the maximum chain length is reached.
+	 */
+	private static final class ChainingRenderRedirectExecutor
+		implements BridgePhaseHeaderRenderCommon.RenderRedirectExecutor {
+
+		// Private Final Data Members
+		private final int chainLength;
+		private final List<String> renderedViewIds;
+		private final Map<String, Object> requestMap;
+
+		public ChainingRenderRedirectExecutor(Map<String, Object> requestMap, int chainLength) {
+			this.requestMap = requestMap;
+			this.chainLength = chainLength;
+			this.renderedViewIds = new ArrayList<String>();
+		}
+
+		@Override
+		public void executeRenderRedirect(String renderRedirectViewId) {
+
+			renderedViewIds.add(renderRedirectViewId);
+
+			int renderedViewIdCount = renderedViewIds.size();
+
+			if (renderedViewIdCount < chainLength) {
+				requestRenderRedirect(requestMap, "/views/redirect" + (renderedViewIdCount + 1) + ".xhtml");
+			}
+		}
+
+		public List<String> getRenderedViewIds() {
+			return renderedViewIds;
+		}
+	}
+}
@@ -0,0 +1,393 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.internal;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.faces.context.ExternalContext;
+import javax.faces.context.ExternalContextWrapper;
+import javax.faces.context.FacesContext;
+import javax.faces.context.FacesContextWrapper;
+import javax.portlet.BaseURL;
+import javax.portlet.MimeResponse;
+import javax.portlet.PortletRequest;
+import javax.portlet.ResourceURL;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.liferay.faces.bridge.config.BridgeConfigMockImpl;
+import com.liferay.faces.bridge.config.PortletConfigMockImpl;
+import com.liferay.faces.util.config.ConfiguredServletMapping;
+import com.liferay.faces.util.render.FacesURLEncoder;
+
+
+/**
+ * This class verifies that the URLs produced by {@link BridgeURLBase#createTemplatedResourceURL(FacesContext, Map,
+ * String)} are identical to the URLs produced by {@link BridgeURLBase#createResourceURL(FacesContext, Map)}, which asks
+ * the portlet container to create a new ResourceURL for each JSF resource.
+ *
+ * @author  Neil Griffin
+ */
+public class ResourceURLTemplateTest {
+
+	// Private Constants
+	private static final String CONTEXT_PATH = "/my-portlet";
+	private static final String ENCODING = "UTF-8";
+	private static final String[][] RESOURCES = new String[][] {
+			{ "jsf.js", "javax.faces", "2.3" },
+			{ "theme.css", "primefaces-aristo", "6.2" },
+			{ "jquery/jquery.js", "primefaces", "6.2" },
+			{ "skinning.ecss", "org.richfaces", "4.5.17.Final" },
+			{ "symbols.css", "my library & more=?/", "1 0+~*" },
+			{ "cafe/uber.js", "caf\u00e9/\u00fcber/l\u00edbrary", "100%" }
+		};
+
+	private static void assertURLsMatch(BaseURL expectedURL, BaseURL actualURL) throws IOException {
+
+		Assert.assertEquals(expectedURL.toString(), actualURL.toString());
+
+		StringWriter expectedWriter = new StringWriter();
+		expectedURL.write(expectedWriter, true);
+
+		StringWriter actualWriter = new StringWriter();
+		actualURL.write(actualWriter, true);
+		Assert.assertEquals(expectedWriter.toString(), actualWriter.toString());
+	}
+
+	private static BridgeURLResourceImpl newBridgeResourceURL(String resourceName) throws URISyntaxException,
+		IOException {
+
+		PortletConfigMockImpl portletConfig = new PortletConfigMockImpl() {
+
+				@Override
+				public String getInitParameter(String name) {
+
+					if (PortletConfigParam.ResourceURLTemplateEnabled.getName().equals(name)) {
+						return "true";
+					}
+
+					return null;
+				}
+			};
+
+		BridgeConfigMockImpl bridgeConfig = new BridgeConfigMockImpl() {
+
+				@Override
+				public Map<String, Object> getAttributes() {
+
+					Map<String, Object> attributes = new HashMap<String, Object>();
+					attributes.put(BridgeConfigAttributeMap.CONFIGURED_FACES_SERVLET_MAPPINGS,
+						Collections.<ConfiguredServletMapping>emptyList());
+
+					return attributes;
+				}
+			};
+
+		FacesURLEncoder facesURLEncoder = new FacesURLEncoder() {
+
+				@Override
+				public String encode(String url, String encoding) {
+					return url;
+				}
+			};
+
+		return new BridgeURLResourceImpl(null, CONTEXT_PATH + "/javax.faces.resource/" + resourceName + ".xhtml",
+				CONTEXT_PATH, "", ENCODING, facesURLEncoder, "/views/index.xhtml", portletConfig, bridgeConfig);
+	}
+
+	private static Map<String, String[]> newParameterMap(String[] resource) {
+
+		Map<String, String[]> parameterMap = new LinkedHashMap<String, String[]>();
+		parameterMap.put("ln", new String[] { resource[1] });
+		parameterMap.put("v", new String[] { resource[2] });
+
+		return parameterMap;
+	}
+
+	@Test
+	public void testContainerEncodesSpacesAsPercent20() throws URISyntaxException, IOException {
+
+		// Since the bridge encodes spaces as "+" in the same manner as java.net.URLEncoder, the template must not be
+		// used for a portlet container that encodes them differently.
+		assertTemplatedURLsMatch(new ResourceURLPortalMockImpl(false, "%20", false), false);
+	}
+
+	@Test
+	public void testParametersRenderedInReverseOrder() throws URISyntaxException, IOException {
+		assertTemplatedURLsMatch(new ResourceURLPortalMockImpl(true, "+", false), true);
+	}
+
+	@Test
+	public void testParametersRenderedInSetOrder() throws URISyntaxException, IOException {
+		assertTemplatedURLsMatch(new ResourceURLPortalMockImpl(false, "+", false), true);
+	}
+
+	@Test
+	public void testUnsupportedContainer() throws URISyntaxException, IOException {
+
+		// If the portlet container does not render the placeholder values verbatim, then a template cannot be created
+		// and the bridge must fall back to creating a new ResourceURL for each JSF resource.
+		assertTemplatedURLsMatch(new ResourceURLPortalMockImpl(false, "+", true), false);
+	}
+
+	private void assertTemplatedURLsMatch(ResourceURLPortalMockImpl portal, boolean expectTemplated)
+		throws URISyntaxException, IOException {
+
+		// Since the template is cached as an attribute of the PortletRequest, all of the URLs are created with the same
+		// FacesContext (and therefore the same PortletRequest).
+		FacesContext facesContext = new TemplateFacesContextMockImpl(portal.newMimeResponse());
+
+		for (String[] resource : RESOURCES) {
+
+			BridgeURLResourceImpl bridgeResourceURL = newBridgeResourceURL(resource[0]);
+			Map<String, String[]> parameterMap = newParameterMap(resource);
+			BaseURL templatedURL = bridgeResourceURL.createTemplatedResourceURL(facesContext, parameterMap, ENCODING);
+			Assert.assertEquals(expectTemplated, templatedURL instanceof BaseURLTemplatedImpl);
+
+			BaseURL resourceURL = bridgeResourceURL.createResourceURL(facesContext, parameterMap);
+			assertURLsMatch(resourceURL, templatedURL);
+		}
+	}
+
+	/**
+	 * This class simulates the ResourceURLs created by a portal, in that their string form consists of portal-specific
+	 * parameters followed by the namespaced parameters that were set on them. The parameter values are encoded by this
+	 * class rather than by {@link java.net.URLEncoder} so that the test does not rely on the same encoder as the
+	 * bridge. Optionally, the parameters are rendered in reverse order, or the values are rendered as hash codes in
+	 * order to simulate a portal that does not render parameter values verbatim.
+	 */
+	private static final class ResourceURLPortalMockImpl {
+
+		// Private Constants
+		private static final String NAMESPACE = "_my_WAR_portlet_";
+		private static final String PORTAL_URL =
+			"http://localhost:8080/web/guest/home?p_p_id=my_WAR_portlet&p_p_lifecycle=2&p_p_state=normal&p_p_auth=Xy";
+		private static final String UNRESERVED_CHARACTERS = "-_.*";
+
+		// Private Final Data Members
+		private final String encodedSpace;
+		private final boolean reverseParameters;
+		private final boolean valuesHashed;
+
+		public ResourceURLPortalMockImpl(boolean reverseParameters, String encodedSpace, boolean valuesHashed) {
+			this.reverseParameters = reverseParameters;
+			this.encodedSpace = encodedSpace;
+			this.valuesHashed = valuesHashed;
+		}
+
+		public MimeResponse newMimeResponse() {
+
+			return (MimeResponse) Proxy.newProxyInstance(MimeResponse.class.getClassLoader(),
+					new Class<?>[] { MimeResponse.class }, new InvocationHandler() {
+
+						@Override
+						public Object invoke(Object proxy, Method method, Object[] args) {
+
+							if ("createResourceURL".equals(method.getName())) {
+								return newResourceURL();
+							}
+
+							throw new UnsupportedOperationException(method.getName());
+						}
+					});
+		}
+
+		private String encode(String value) {
+
+			StringBuilder buf = new StringBuilder();
+
+			for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+
+				char c = (char) (b & 0xFF);
+
+				if (((c >= 'a') && (c <= 'z')) || ((c >= 'A') && (c <= 'Z')) || ((c >= '0') && (c <= '9')) ||
+						(UNRESERVED_CHARACTERS.indexOf(c) >= 0)) {
+					buf.append(c);
+				}
+				else if (c == ' ') {
+					buf.append(encodedSpace);
+				}
+				else {
+					buf.append('%');
+					buf.append(Character.toUpperCase(Character.forDigit(c >> 4, 16)));
+					buf.append(Character.toUpperCase(Character.forDigit(c & 0xF, 16)));
+				}
+			}
+
+			return buf.toString();
+		}
+
+		private ResourceURL newResourceURL() {
+
+			final Map<String, String> parameters = new LinkedHashMap<String, String>();
+
+			return (ResourceURL) Proxy.newProxyInstance(ResourceURL.class.getClassLoader(),
+					new Class<?>[] { ResourceURL.class }, new InvocationHandler() {
+
+						@Override
+						public Object invoke(Object proxy, Method method, Object[] args) throws IOException {
+
+							String methodName = method.getName();
+
+							if ("setParameter".equals(methodName)) {
+
+								String name = (String) args[0];
+								Object value = args[1];
+
+								if (value instanceof String[]) {
+									value = ((String[]) value)[0];
+								}
+
+								if (value == null) {
+									parameters.remove(name);
+								}
+								else {
+									parameters.put(name, (String) value);
+								}
+
+								return null;
+							}
+							else if ("toString".equals(methodName)) {
+								return toURL(parameters);
+							}
+							else if ("write".equals(methodName)) {
+
+								String url = toURL(parameters);
+
+								if (Boolean.TRUE.equals(args[1])) {
+									url = url.replace("&", "&amp;");
+								}
+
+								((Writer) args[0]).write(url);
+
+								return null;
+							}
+
+							throw new UnsupportedOperationException(methodName);
+						}
+					});
+		}
+
+		private String toURL(Map<String, String> parameters) {
+
+			StringBuilder buf = new StringBuilder(PORTAL_URL);
+			List<String> names = new ArrayList<String>(parameters.keySet());
+
+			if (reverseParameters) {
+				Collections.reverse(names);
+			}
+
+			for (String name : names) {
+
+				buf.append('&');
+				buf.append(NAMESPACE);
+				buf.append(name);
+				buf.append('=');
+
+				String value = parameters.get(name);
+
+				if (valuesHashed) {
+					buf.append(Integer.toHexString(value.hashCode()));
+				}
+				else {
+					buf.append(encode(value));
+				}
+			}
+
+			return buf.toString();
+		}
+	}
+
+	private static final class TemplateExternalContextMockImpl extends ExternalContextWrapper {
+
+		// Private Final Data Members
+		private final MimeResponse mimeResponse;
+		private final PortletRequest portletRequest;
+
+		public TemplateExternalContextMockImpl(MimeResponse mimeResponse) {
+
+			this.mimeResponse = mimeResponse;
+
+			final Map<String, Object> requestAttributes = new HashMap<String, Object>();
+
+			this.portletRequest = (PortletRequest) Proxy.newProxyInstance(PortletRequest.class.getClassLoader(),
+					new Class<?>[] { PortletRequest.class }, new InvocationHandler() {
+
+						@Override
+						public Object invoke(Object proxy, Method method, Object[] args) {
+
+							if ("getAttribute".equals(method.getName())) {
+								return requestAttributes.get((String) args[0]);
+							}
+							else if ("setAttribute".equals(method.getName())) {
+								return requestAttributes.put((String) args[0], args[1]);
+							}
+
+							throw new UnsupportedOperationException(method.getName());
+						}
+					});
+		}
+
+		@Override
+		public Object getRequest() {
+			return portletRequest;
+		}
+
+		@Override
+		public Object getResponse() {
+			return mimeResponse;
+		}
+
+		@Override
+		public ExternalContext getWrapped() {
+			return null;
+		}
+	}
+
+	private static final class TemplateFacesContextMockImpl extends FacesContextWrapper {
+
+		// Private Final Data Members
+		private final ExternalContext externalContext;
+
+		public TemplateFacesContextMockImpl(MimeResponse mimeResponse) {
+			this.externalContext = new TemplateExternalContextMockImpl(mimeResponse);
+		}
+
+		@Override
+		public ExternalContext getExternalContext() {
+			return externalContext;
+		}
+
+		@Override
+		public FacesContext getWrapped() {
+			return null;
+		}
+	}
+}
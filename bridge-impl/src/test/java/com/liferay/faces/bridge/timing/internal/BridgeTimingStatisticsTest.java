@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.timing.internal;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+
+/**
+ * @author  Neil Griffin
+ */
+public class BridgeTimingStatisticsTest {
+
+	// Private Constants
+	private static final double DELTA = 0.000001;
+
+	@Test
+	public void testReset() {
+
+		BridgeTimingSinkHistogramImpl bridgeTimingSink = new BridgeTimingSinkHistogramImpl();
+		BridgeTimingStatistics bridgeTimingStatistics = new BridgeTimingStatistics(bridgeTimingSink);
+		bridgeTimingSink.record("portlet1", BridgeTimingSink.STEP_BRIDGE_INIT, 2000000L);
+		bridgeTimingStatistics.reset();
+
+		Assert.assertEquals(0L, bridgeTimingStatistics.getCount("portlet1", BridgeTimingSink.STEP_BRIDGE_INIT));
+		Assert.assertEquals(0.0, bridgeTimingStatistics.getMaxMillis("portlet1", BridgeTimingSink.STEP_BRIDGE_INIT),
+			DELTA);
+
+		bridgeTimingSink.record("portlet1", BridgeTimingSink.STEP_BRIDGE_INIT, 1000000L);
+		Assert.assertEquals(1L, bridgeTimingStatistics.getCount("portlet1", BridgeTimingSink.STEP_BRIDGE_INIT));
+		Assert.assertEquals(1.0, bridgeTimingStatistics.getMeanMillis("portlet1", BridgeTimingSink.STEP_BRIDGE_INIT),
+			DELTA);
+	}
+
+	@Test
+	public void testStatistics() {
+
+		BridgeTimingSinkHistogramImpl bridgeTimingSink = new BridgeTimingSinkHistogramImpl();
+		BridgeTimingStatistics bridgeTimingStatistics = new BridgeTimingStatistics(bridgeTimingSink);
+		bridgeTimingSink.record("portlet2", BridgeTimingSink.STEP_FACES_LIFECYCLE_RENDER, 2000000L);
+		bridgeTimingSink.record("portlet2", BridgeTimingSink.STEP_FACES_LIFECYCLE_RENDER, 4000000L);
+		bridgeTimingSink.record("portlet2", BridgeTimingSink.STEP_BRIDGE_INIT, 1000000L);
+		bridgeTimingSink.record("portlet1", BridgeTimingSink.STEP_SCOPE_SAVE_STATE, 3000000L);
+
+		Assert.assertArrayEquals(new String[] { "portlet1", "portlet2" }, bridgeTimingStatistics.getPortletNames());
+		Assert.assertArrayEquals(new String[] {
+				BridgeTimingSink.STEP_BRIDGE_INIT, BridgeTimingSink.STEP_FACES_LIFECYCLE_RENDER
+			}, bridgeTimingStatistics.getStepNames("portlet2"));
+
+		String portletName = "portlet2";
+		String stepName = BridgeTimingSink.STEP_FACES_LIFECYCLE_RENDER;
+		Assert.assertEquals(2L, bridgeTimingStatistics.getCount(portletName, stepName));
+		Assert.assertEquals(3.0, bridgeTimingStatistics.getMeanMillis(portletName, stepName), DELTA);
+		Assert.assertEquals(4.0, bridgeTimingStatistics.getMaxMillis(portletName, stepName), DELTA);
+		Assert.assertEquals(4.0, bridgeTimingStatistics.getPercentileMillis(portletName, stepName, 100.0), DELTA);
+
+		double median = bridgeTimingStatistics.getPercentileMillis(portletName, stepName, 50.0);
+		Assert.assertTrue("median=" + median, (median >= 2.0) && (median <= 2.5));
+
+		String[] summary = bridgeTimingStatistics.getSummary();
+		Assert.assertEquals(3, summary.length);
+		Assert.assertTrue(summary[0], summary[0].startsWith("portlet1 scope.saveState count=1 "));
+		Assert.assertTrue(summary[2], summary[2].endsWith(" max=4.000ms"));
+	}
+
+	@Test
+	public void testUnknownPortletAndStep() {
+
+		BridgeTimingStatistics bridgeTimingStatistics = new BridgeTimingStatistics(
+				new BridgeTimingSinkHistogramImpl());
+
+		Assert.assertEquals(0, bridgeTimingStatistics.getPortletNames().length);
+		Assert.assertEquals(0, bridgeTimingStatistics.getStepNames("unknown").length);
+		Assert.assertEquals(0L, bridgeTimingStatistics.getCount("unknown", BridgeTimingSink.STEP_BRIDGE_INIT));
+		Assert.assertEquals(0.0, bridgeTimingStatistics.getMeanMillis("unknown", BridgeTimingSink.STEP_BRIDGE_INIT),
+			DELTA);
+		Assert.assertEquals(0.0,
+			bridgeTimingStatistics.getPercentileMillis("unknown", BridgeTimingSink.STEP_BRIDGE_INIT, 99.0), DELTA);
+	}
+}
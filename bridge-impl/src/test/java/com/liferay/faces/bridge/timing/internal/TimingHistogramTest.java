@@ -0,0 +1,149 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.timing.internal;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+
+/**
+ * @author  Neil Griffin
+ */
+public class TimingHistogramTest {
+
+	@Test
+	public void testBucketBoundaries() {
+
+		// Values less than the number of sub-buckets each have their own bucket.
+		for (long value = 0; value < 4; value++) {
+			Assert.assertEquals(value, TimingHistogram.getBucketIndex(value));
+			Assert.assertEquals(value, TimingHistogram.getBucketUpperBound((int) value));
+		}
+
+		// Each power of two is subdivided into four linear sub-buckets.
+		Assert.assertEquals(4, TimingHistogram.getBucketIndex(4L));
+		Assert.assertEquals(7, TimingHistogram.getBucketIndex(7L));
+		Assert.assertEquals(8, TimingHistogram.getBucketIndex(8L));
+		Assert.assertEquals(8, TimingHistogram.getBucketIndex(9L));
+		Assert.assertEquals(9, TimingHistogram.getBucketIndex(10L));
+		Assert.assertEquals(9L, TimingHistogram.getBucketUpperBound(8));
+		Assert.assertEquals(11L, TimingHistogram.getBucketUpperBound(9));
+
+		// The buckets must be contiguous: the upper bound of each bucket belongs to the bucket and the value that
+		// follows it belongs to the next bucket.
+		int lastBucketIndex = TimingHistogram.getBucketIndex(Long.MAX_VALUE);
+
+		for (int i = 0; i < lastBucketIndex; i++) {
+
+			long upperBound = TimingHistogram.getBucketUpperBound(i);
+			Assert.assertEquals(i, TimingHistogram.getBucketIndex(upperBound));
+			Assert.assertEquals(i + 1, TimingHistogram.getBucketIndex(upperBound + 1));
+		}
+
+		Assert.assertEquals(Long.MAX_VALUE, TimingHistogram.getBucketUpperBound(lastBucketIndex));
+	}
+
+	@Test
+	public void testEmpty() {
+
+		TimingHistogram timingHistogram = new TimingHistogram();
+		Assert.assertEquals(0L, timingHistogram.getCount());
+		Assert.assertEquals(0L, timingHistogram.getMax());
+		Assert.assertEquals(0L, timingHistogram.getMean());
+		Assert.assertEquals(0L, timingHistogram.getPercentile(50.0));
+	}
+
+	@Test
+	public void testNegativeValue() {
+
+		// Although System.nanoTime() is monotonic, a negative elapsed time is counted as zero rather than corrupting
+		// the total.
+		TimingHistogram timingHistogram = new TimingHistogram();
+		timingHistogram.record(-5L);
+		Assert.assertEquals(0, TimingHistogram.getBucketIndex(-5L));
+		Assert.assertEquals(1L, timingHistogram.getCount());
+		Assert.assertEquals(0L, timingHistogram.getMax());
+		Assert.assertEquals(0L, timingHistogram.getMean());
+	}
+
+	@Test
+	public void testOverflow() {
+
+		TimingHistogram timingHistogram = new TimingHistogram();
+		timingHistogram.record(Long.MAX_VALUE);
+		timingHistogram.record(Long.MAX_VALUE);
+		timingHistogram.record(1L);
+
+		Assert.assertEquals(3L, timingHistogram.getCount());
+		Assert.assertEquals(Long.MAX_VALUE, timingHistogram.getMax());
+		Assert.assertEquals(Long.MAX_VALUE / 3, timingHistogram.getMean());
+		Assert.assertEquals(1L, timingHistogram.getPercentile(0.0));
+		Assert.assertEquals(Long.MAX_VALUE, timingHistogram.getPercentile(50.0));
+		Assert.assertEquals(Long.MAX_VALUE, timingHistogram.getPercentile(100.0));
+	}
+
+	@Test
+	public void testPercentile() {
+
+		TimingHistogram timingHistogram = new TimingHistogram();
+
+		for (long value = 1; value <= 100; value++) {
+			timingHistogram.record(value);
+		}
+
+		Assert.assertEquals(100L, timingHistogram.getCount());
+		Assert.assertEquals(100L, timingHistogram.getMax());
+		Assert.assertEquals(50L, timingHistogram.getMean());
+
+		// The estimate is the upper bound of the bucket [48..55] that contains the 50th value.
+		Assert.assertEquals(55L, timingHistogram.getPercentile(50.0));
+
+		// The estimate is never less than the exact value and never more than 25% greater than it.
+		for (int percentile = 1; percentile <= 100; percentile++) {
+
+			long estimate = timingHistogram.getPercentile(percentile);
+			Assert.assertTrue("percentile=" + percentile + " estimate=" + estimate, estimate >= percentile);
+			Assert.assertTrue("percentile=" + percentile + " estimate=" + estimate, estimate <= (percentile * 1.25));
+		}
+
+		// The estimate never exceeds the maximum recorded value, and out-of-range percentiles are clamped.
+		Assert.assertEquals(100L, timingHistogram.getPercentile(100.0));
+		Assert.assertEquals(100L, timingHistogram.getPercentile(150.0));
+		Assert.assertEquals(1L, timingHistogram.getPercentile(0.0));
+		Assert.assertEquals(1L, timingHistogram.getPercentile(-10.0));
+	}
+
+	@Test
+	public void testReset() {
+
+		TimingHistogram timingHistogram = new TimingHistogram();
+		timingHistogram.record(1000L);
+		timingHistogram.record(2000L);
+		timingHistogram.reset();
+
+		Assert.assertEquals(0L, timingHistogram.getCount());
+		Assert.assertEquals(0L, timingHistogram.getMax());
+		Assert.assertEquals(0L, timingHistogram.getMean());
+		Assert.assertEquals(0L, timingHistogram.getPercentile(100.0));
+
+		// Values recorded after a reset must not be combined with the values recorded before it.
+		timingHistogram.record(3L);
+		Assert.assertEquals(1L, timingHistogram.getCount());
+		Assert.assertEquals(3L, timingHistogram.getMax());
+		Assert.assertEquals(3L, timingHistogram.getMean());
+		Assert.assertEquals(3L, timingHistogram.getPercentile(100.0));
+	}
+}
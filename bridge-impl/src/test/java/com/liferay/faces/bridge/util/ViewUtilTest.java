@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2000-2019 Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.liferay.faces.bridge.util;
+
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.liferay.faces.bridge.config.BridgeConfigDefaultViewIdMapsMockImpl;
+import com.liferay.faces.bridge.config.PortletConfigInitParamMockImpl;
+import com.liferay.faces.bridge.util.internal.ViewUtil;
+
+
+/**
+ * @author  Neil Griffin
+ */
+public class ViewUtilTest {
+
+	@Test
+	public void testDefaultViewIdMapRegisteredPerPortlet() {
+
+		PortletConfigInitParamMockImpl portletConfig1 = new PortletConfigInitParamMockImpl("portlet1",
+				Collections.singletonMap("javax.portlet.faces.defaultViewId.view", "/views/portlet1.xhtml"));
+		PortletConfigInitParamMockImpl portletConfig2 = new PortletConfigInitParamMockImpl("portlet2",
+				Collections.singletonMap("javax.portlet.faces.defaultViewId.view", "/views/portlet2.xhtml"));
+		BridgeConfigDefaultViewIdMapsMockImpl bridgeConfig = new BridgeConfigDefaultViewIdMapsMockImpl();
+
+		ViewUtil.registerDefaultViewIdMap(bridgeConfig, portletConfig1);
+		ViewUtil.registerDefaultViewIdMap(bridgeConfig, portletConfig2);
+
+		Assert.assertEquals("/views/portlet1.xhtml",
+			ViewUtil.getDefaultViewIdMap(bridgeConfig, portletConfig1).get("view"));
+		Assert.assertEquals("/views/portlet2.xhtml",
+			ViewUtil.getDefaultViewIdMap(bridgeConfig, portletConfig2).get("view"));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testDefaultViewIdMapImmutable() {
+
+		PortletConfigInitParamMockImpl portletConfig = new PortletConfigInitParamMockImpl("portlet1",
+				Collections.singletonMap("javax.portlet.faces.defaultViewId.view", "/views/portletViewMode.xhtml"));
+		BridgeConfigDefaultViewIdMapsMockImpl bridgeConfig = new BridgeConfigDefaultViewIdMapsMockImpl();
+
+		ViewUtil.registerDefaultViewIdMap(bridgeConfig, portletConfig).put("edit", "/views/portletEditMode.xhtml");
+	}
+}